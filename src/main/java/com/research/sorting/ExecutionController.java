@@ -102,8 +102,8 @@ public class ExecutionController {
             throw new RuntimeException("No data collected - execution failed");
         }
         
-        // Expected data points: 6 algorithms × 5 data types × 6 sizes = 180
-        int expectedDataPoints = 6 * 5 * 6;
+        // Expected data points: algorithms × data types × sizes
+        int expectedDataPoints = TestingPipeline.getExpectedMeasurementCount();
         System.out.printf("Expected data points: %d%n", expectedDataPoints);
         System.out.printf("Actual data points: %d%n", results.size());
         
@@ -146,7 +146,7 @@ public class ExecutionController {
             }
             
             // Check for zero operation counts (suspicious)
-            if (metrics.getComparisonCount() == 0 && size > 1) {
+            if (metrics.getComparisonCount() == 0 && metrics.getKeyReadCount() == 0 && size > 1) {
                 System.out.printf("ANOMALY: Zero comparisons for %s on %d elements%n",
                                  metrics.getAlgorithmName(), size);
                 anomaliesFound++;
@@ -173,10 +173,7 @@ public class ExecutionController {
         System.out.println("Performance Summary by Algorithm:");
         System.out.println("-".repeat(50));
         
-        for (String algorithm : java.util.Arrays.asList(
-            "Bubble Sort", "Selection Sort", "Insertion Sort", 
-            "Quick Sort", "Merge Sort", "Heap Sort")) {
-            
+        for (String algorithm : TestingPipeline.getAlgorithmNames()) {
             List<PerformanceMetrics> algorithmResults = algorithmGroups.get(algorithm);
             if (algorithmResults != null && !algorithmResults.isEmpty()) {
                 double avgTime = algorithmResults.stream()
@@ -18,6 +18,12 @@ public class PerformanceMetrics {
     /** Number of swap operations performed */
     private long swapCount;
     
+    /** Number of keys read by distribution (non-comparison) passes */
+    private long keyReadCount;
+    
+    /** Number of elements scattered to computed positions */
+    private long scatterWriteCount;
+    
     /** Algorithm name for identification */
     private String algorithmName;
     
@@ -38,6 +44,8 @@ public class PerformanceMetrics {
         this.memoryUsageBytes = 0;
         this.comparisonCount = 0;
         this.swapCount = 0;
+        this.keyReadCount = 0;
+        this.scatterWriteCount = 0;
         this.algorithmName = "";
         this.inputSize = 0;
         this.dataType = "";
@@ -68,11 +76,36 @@ public class PerformanceMetrics {
         this.timestamp = System.currentTimeMillis();
     }
     
+    /**
+     * Parameterized constructor including distribution-sort counters.
+     * 
+     * @param executionTimeNanos Execution time in nanoseconds
+     * @param memoryUsageBytes Memory consumption in bytes
+     * @param comparisonCount Number of comparisons performed
+     * @param swapCount Number of swaps performed
+     * @param keyReadCount Number of keys read by distribution passes
+     * @param scatterWriteCount Number of scatter writes performed
+     * @param algorithmName Name of the sorting algorithm
+     * @param inputSize Size of input array
+     * @param dataType Type of input data
+     */
+    public PerformanceMetrics(long executionTimeNanos, long memoryUsageBytes, 
+                            long comparisonCount, long swapCount,
+                            long keyReadCount, long scatterWriteCount,
+                            String algorithmName, int inputSize, String dataType) {
+        this(executionTimeNanos, memoryUsageBytes, comparisonCount, swapCount,
+             algorithmName, inputSize, dataType);
+        this.keyReadCount = keyReadCount;
+        this.scatterWriteCount = scatterWriteCount;
+    }
+    
     // Getter methods
     public long getExecutionTimeNanos() { return executionTimeNanos; }
     public long getMemoryUsageBytes() { return memoryUsageBytes; }
     public long getComparisonCount() { return comparisonCount; }
     public long getSwapCount() { return swapCount; }
+    public long getKeyReadCount() { return keyReadCount; }
+    public long getScatterWriteCount() { return scatterWriteCount; }
     public String getAlgorithmName() { return algorithmName; }
     public int getInputSize() { return inputSize; }
     public String getDataType() { return dataType; }
@@ -91,6 +124,12 @@ public class PerformanceMetrics {
     public void setSwapCount(long swapCount) { 
         this.swapCount = swapCount; 
     }
+    public void setKeyReadCount(long keyReadCount) { 
+        this.keyReadCount = keyReadCount; 
+    }
+    public void setScatterWriteCount(long scatterWriteCount) { 
+        this.scatterWriteCount = scatterWriteCount; 
+    }
     public void setAlgorithmName(String algorithmName) { 
         this.algorithmName = algorithmName; 
     }
@@ -125,9 +164,10 @@ public class PerformanceMetrics {
      * @return CSV string with all metrics
      */
     public String toCSV() {
-        return String.format("%s,%s,%d,%d,%d,%d,%d,%d",
+        return String.format("%s,%s,%d,%d,%d,%d,%d,%d,%d,%d",
             algorithmName, dataType, inputSize, executionTimeNanos,
-            memoryUsageBytes, comparisonCount, swapCount, timestamp);
+            memoryUsageBytes, comparisonCount, swapCount, timestamp,
+            keyReadCount, scatterWriteCount);
     }
     
     /**
@@ -137,7 +177,8 @@ public class PerformanceMetrics {
      */
     public static String getCSVHeader() {
         return "Algorithm,DataType,InputSize,ExecutionTime(ns)," +
-               "MemoryUsage(bytes),Comparisons,Swaps,Timestamp";
+               "MemoryUsage(bytes),Comparisons,Swaps,Timestamp," +
+               "KeyReads,ScatterWrites";
     }
     
     /**
@@ -148,9 +189,10 @@ public class PerformanceMetrics {
         return String.format(
             "PerformanceMetrics{algorithm='%s', dataType='%s', " +
             "inputSize=%d, time=%.3fms, memory=%.2fKB, " +
-            "comparisons=%d, swaps=%d}",
+            "comparisons=%d, swaps=%d, keyReads=%d, scatterWrites=%d}",
             algorithmName, dataType, inputSize, getExecutionTimeMillis(),
-            getMemoryUsageKB(), comparisonCount, swapCount
+            getMemoryUsageKB(), comparisonCount, swapCount,
+            keyReadCount, scatterWriteCount
         );
     }
     
@@ -180,6 +222,12 @@ public class PerformanceMetrics {
                 case "swaps":
                     values.add(metric.getSwapCount());
                     break;
+                case "keyreads":
+                    values.add(metric.getKeyReadCount());
+                    break;
+                case "scatterwrites":
+                    values.add(metric.getScatterWriteCount());
+                    break;
                 default:
                     throw new IllegalArgumentException("Unknown metric type: " + metricType);
             }
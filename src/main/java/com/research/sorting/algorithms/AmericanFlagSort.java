@@ -0,0 +1,169 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.util.Arrays;
+
+public class AmericanFlagSort implements SortingAlgorithm {
+
+    /** Bits per digit; four levels cover a 32-bit key */
+    private static final int DIGIT_BITS = 8;
+
+    /** Buckets per digit */
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    /** Mask extracting one digit */
+    private static final int MASK = RADIX - 1;
+
+    /** Number of digit levels for 32-bit keys */
+    private static final int LEVELS = Integer.SIZE / DIGIT_BITS;
+
+    /** Flipping the sign bit maps signed order onto unsigned order */
+    private static final int SIGN_BIT = 0x8000_0000;
+
+    /** Buckets at or below this size are finished with insertion sort */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Sorts the array with in-place most-significant-digit radix sort (American flag sort).
+     *
+     * Algorithm steps:
+     * 1. Count the current digit of every key in the range
+     * 2. Turn counts into bucket boundaries
+     * 3. Permute keys into their buckets in place by following swap cycles
+     * 4. Recurse into each bucket on the next digit; small buckets use insertion sort
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+
+        if (array.length <= 1) return;
+
+        // One boundary table and one cursor table per level, reused by every bucket at that level
+        int[][] bucketStarts = new int[LEVELS][RADIX + 1];
+        int[][] nextFree = new int[LEVELS][RADIX];
+
+        americanFlagSort(array, 0, array.length, 0, bucketStarts, nextFree);
+    }
+
+    /**
+     * Sorts array[begin...end-1] on the digit at the given level and below.
+     *
+     * @param array Array to sort
+     * @param begin First index of the range
+     * @param end One past the last index of the range
+     * @param level Digit level, 0 for the most significant byte
+     * @param bucketStarts Per-level bucket boundary tables
+     * @param nextFree Per-level next-free-slot tables
+     */
+    private void americanFlagSort(int[] array, int begin, int end, int level,
+                                  int[][] bucketStarts, int[][] nextFree) {
+        if (end - begin <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.binaryInsertionSort(array, begin, end);
+            return;
+        }
+
+        int shift = Integer.SIZE - DIGIT_BITS * (level + 1);
+        int[] starts = bucketStarts[level];
+        int[] next = nextFree[level];
+
+        // Step 1: count digits (starts[d + 1] holds the count of digit d)
+        Arrays.fill(starts, 0);
+        for (int i = begin; i < end; i++) {
+            starts[digit(array[i], shift) + 1]++;
+        }
+        BenchmarkUtils.recordKeyReads(end - begin);
+
+        // Step 2: bucket boundaries; a single bucket holding everything needs no permutation
+        boolean singleBucket = false;
+        starts[0] = begin;
+        for (int d = 0; d < RADIX; d++) {
+            if (starts[d + 1] == end - begin) singleBucket = true;
+            starts[d + 1] += starts[d];
+            next[d] = starts[d];
+        }
+
+        // Step 3: cycle-leader permutation into buckets
+        if (!singleBucket) {
+            long moves = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int bucketEnd = starts[d + 1];
+                while (next[d] < bucketEnd) {
+                    int value = array[next[d]];
+                    int valueDigit = digit(value, shift);
+
+                    // Carry the value to its bucket, picking up the displaced one, until the
+                    // cycle returns a value that belongs in bucket d
+                    while (valueDigit != d) {
+                        int slot = next[valueDigit]++;
+                        int displaced = array[slot];
+                        array[slot] = value;
+                        value = displaced;
+                        valueDigit = digit(value, shift);
+                        moves++;
+                    }
+
+                    array[next[d]++] = value;
+                    moves++;
+                }
+            }
+            BenchmarkUtils.recordKeyReads(moves);
+            BenchmarkUtils.recordScatterWrites(moves);
+        }
+
+        // Step 4: recurse on the next digit
+        if (level + 1 < LEVELS) {
+            for (int d = 0; d < RADIX; d++) {
+                int bucketBegin = starts[d];
+                int bucketEnd = starts[d + 1];
+                if (bucketEnd - bucketBegin > 1) {
+                    americanFlagSort(array, bucketBegin, bucketEnd, level + 1, bucketStarts, nextFree);
+                }
+            }
+        }
+    }
+
+    /**
+     * Extracts the unsigned-ordered digit of value at the given shift.
+     */
+    private static int digit(int value, int shift) {
+        return ((value ^ SIGN_BIT) >>> shift) & MASK;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "American Flag Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(d(n + b))";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(b)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false; // Cycle permutation reorders equal digits
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true; // Only per-level count tables, recursion depth is at most four
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Large arrays of uniformly distributed keys - each level splits into many small buckets";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Keys sharing their high bytes - every level must be scanned before the buckets split";
+    }
+}
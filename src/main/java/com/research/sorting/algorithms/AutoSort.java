@@ -0,0 +1,340 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.analysis.CostModel;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.SplittableRandom;
+
+/**
+ * Sorts with whichever engine the measured results predict to be fastest for the input.
+ *
+ * A sample of the input is profiled for its run count, inversion ratio, duplicate density and
+ * value range, and the profile is matched to the nearest of the pipeline's data types, whose
+ * reference profiles come from the same generators the pipeline uses. The {@link CostModel}
+ * then predicts each candidate's time on that data type at the input size, and the candidate
+ * with the lowest prediction sorts the array. Candidates not measured near the input size get
+ * no prediction; if none has one, the first candidate sorts. The testing pipeline measures
+ * every default candidate on every data type around the size it runs Auto Sort at, so each
+ * one is predicted there. No rule ties a profile to an engine: a new results CSV is enough to
+ * change the choice.
+ */
+public class AutoSort implements SortingAlgorithm {
+
+    /**
+     * Estimated shape of an input, from a sample of it.
+     *
+     * @param runs Estimated number of ascending runs
+     * @param inversionRatio Estimated fraction of index pairs i < j with array[i] > array[j]
+     * @param duplicateRatio Estimated fraction of elements repeating a value seen elsewhere
+     * @param valueRange Maximum minus minimum of the sampled values
+     */
+    public record Profile(long runs, double inversionRatio, double duplicateRatio,
+            long valueRange) {
+    }
+
+    /** Directory the testing pipeline writes its results CSV files to */
+    public static final Path DEFAULT_RESULTS_DIRECTORY = Path.of("results", "data");
+
+    /** Sampled positions, pairs and values per profile; smaller arrays are profiled whole */
+    private static final int SAMPLE_SIZE = 2_048;
+
+    /** Size of the arrays whose profiles define each data type */
+    private static final int REFERENCE_SIZE = 65_536;
+
+    /** Seed of the sampling positions, so the same input always gets the same engine */
+    private static final long SAMPLE_SEED = 0x5DEECE66DL;
+
+    /** Seed of the reference arrays, so the same profile always gets the same data type */
+    private static final long REFERENCE_SEED = 42L;
+
+    /** Weight of value density in profile distances; the order of the keys counts fully */
+    private static final double DENSITY_WEIGHT = 0.25;
+
+    /**
+     * Sequential engines measured by the main pipeline loop; the first is the fallback. Bubble,
+     * Selection and Insertion Sort and the classic Quick Sort are left out: the pipeline measures
+     * them on small arrays, where they can look fastest, but their worst case is quadratic and
+     * Quick Sort's first element pivot recurses n deep on sorted input.
+     */
+    private static final SortingAlgorithm[] DEFAULT_CANDIDATES = {new PatternDefeatingQuickSort(),
+            new ShellSort(), new MergeSort(), new MergeSort(MergeSort.Variant.PING_PONG),
+            new MergeSort(MergeSort.Variant.BOTTOM_UP), new HeapSort(),
+            new HeapSort(HeapSort.Variant.BOTTOM_UP), new TimSort(), new DualPivotQuickSort(),
+            new IntroSort(), new RadixSort(), new AmericanFlagSort(), new InPlaceMergeSort(),
+            new CountingSort()};
+
+    /** Measured costs the choice is based on */
+    private final CostModel costModel;
+
+    /** Engines to choose from */
+    private final SortingAlgorithm[] candidates;
+
+    /**
+     * Creates an auto sort driven by the newest results in results/data, main grid and sweeps.
+     * Without a readable results file every input goes to the fallback engine,
+     * Pattern-Defeating Quick Sort; getCostModel().isEmpty() then returns true.
+     */
+    public AutoSort() {
+        this(loadDefaultModel());
+    }
+
+    /**
+     * Creates an auto sort choosing among the sequential engines of the main pipeline loop,
+     * except those with a quadratic worst case.
+     *
+     * @param costModel Measured costs, e.g. built from the pipeline's results
+     * @throws IllegalArgumentException if costModel is null
+     */
+    public AutoSort(CostModel costModel) {
+        this(costModel, DEFAULT_CANDIDATES);
+    }
+
+    /**
+     * Creates an auto sort choosing among the given engines.
+     *
+     * @param costModel Measured costs; candidates are matched to it by algorithm name
+     * @param candidates Engines to choose from; the first is used when no candidate was measured
+     * @throws IllegalArgumentException if costModel or any candidate is null, or there are no
+     *                                  candidates
+     */
+    public AutoSort(CostModel costModel, SortingAlgorithm... candidates) {
+        if (costModel == null) {
+            throw new IllegalArgumentException("Cost model cannot be null");
+        }
+        if (candidates == null || candidates.length == 0) {
+            throw new IllegalArgumentException("At least one candidate engine is required");
+        }
+        for (SortingAlgorithm candidate : candidates) {
+            if (candidate == null) {
+                throw new IllegalArgumentException("Candidate engines cannot be null");
+            }
+        }
+        this.costModel = costModel;
+        this.candidates = candidates.clone();
+    }
+
+    /**
+     * Sorts array with the engine chosen for it.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        choose(array).sort(array);
+    }
+
+    /**
+     * Returns the engine that would sort array, without sorting it.
+     *
+     * @param array Array to be sorted
+     * @return Candidate with the lowest predicted time, or the first candidate if none was
+     *         measured on the input's data type near the input's size
+     * @throws IllegalArgumentException if array is null
+     */
+    public SortingAlgorithm choose(int[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return candidates[0];
+
+        String dataType = classify(profile(array), array.length);
+        SortingAlgorithm best = candidates[0];
+        double bestNanos = Double.POSITIVE_INFINITY;
+        for (SortingAlgorithm candidate : candidates) {
+            OptionalDouble predicted = costModel.predictNanos(candidate.getAlgorithmName(),
+                    dataType, array.length);
+            if (predicted.isPresent() && predicted.getAsDouble() < bestNanos) {
+                best = candidate;
+                bestNanos = predicted.getAsDouble();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Estimates the shape of array from SAMPLE_SIZE random adjacent pairs, index pairs and
+     * values. Duplicates are estimated from collisions among the sampled values: with d
+     * distinct values, two random draws are equal with probability about 1/d.
+     *
+     * @param array Array to profile
+     * @return Estimated profile
+     * @throws IllegalArgumentException if array is null
+     */
+    public static Profile profile(int[] array) {
+        BenchmarkUtils.validateArray(array);
+        int n = array.length;
+        if (n <= 1) return new Profile(n, 0, 0, 0);
+
+        SplittableRandom random = new SplittableRandom(SAMPLE_SEED);
+        int samples = Math.min(SAMPLE_SIZE, n - 1);
+
+        long descents = 0;
+        long inversions = 0;
+        for (int s = 0; s < samples; s++) {
+            int i = n - 1 <= SAMPLE_SIZE ? s : random.nextInt(n - 1);
+            if (array[i] > array[i + 1]) descents++;
+
+            int first = random.nextInt(n);
+            int second = random.nextInt(n - 1);
+            if (second >= first) second++;
+            if (array[Math.min(first, second)] > array[Math.max(first, second)]) inversions++;
+        }
+        long runs = 1 + Math.round((double) descents / samples * (n - 1));
+
+        int[] values;
+        if (n <= SAMPLE_SIZE) {
+            values = array.clone();
+        } else {
+            values = new int[SAMPLE_SIZE];
+            for (int s = 0; s < SAMPLE_SIZE; s++) {
+                values[s] = array[random.nextInt(n)];
+            }
+        }
+        Arrays.sort(values);
+        long valueRange = (long) values[values.length - 1] - values[0];
+
+        double distinct;
+        if (n <= SAMPLE_SIZE) {
+            distinct = 1;
+            for (int s = 1; s < n; s++) {
+                if (values[s] != values[s - 1]) distinct++;
+            }
+        } else {
+            long collisions = 0;
+            int group = 1;
+            for (int s = 1; s <= SAMPLE_SIZE; s++) {
+                if (s < SAMPLE_SIZE && values[s] == values[s - 1]) {
+                    group++;
+                } else {
+                    collisions += (long) group * (group - 1) / 2;
+                    group = 1;
+                }
+            }
+            double estimate = collisions == 0 ? n
+                    : (double) SAMPLE_SIZE * (SAMPLE_SIZE - 1) / (2.0 * collisions);
+            distinct = Math.min(Math.min(estimate, n), valueRange + 1.0);
+        }
+
+        return new Profile(runs, (double) inversions / samples, 1 - distinct / n, valueRange);
+    }
+
+    /**
+     * Returns the data type whose reference profile is nearest, comparing runs per element,
+     * inversion ratio, duplicate ratio and, with a lower weight, value density.
+     */
+    private static String classify(Profile profile, int n) {
+        String nearest = null;
+        double nearestDistance = Double.POSITIVE_INFINITY;
+        for (Map.Entry<String, Profile> reference : ReferenceProfiles.PROFILES.entrySet()) {
+            double distance = distance(profile, n, reference.getValue(), REFERENCE_SIZE);
+            if (distance < nearestDistance) {
+                nearest = reference.getKey();
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    private static double distance(Profile a, int sizeA, Profile b, int sizeB) {
+        double runs = (double) a.runs() / sizeA - (double) b.runs() / sizeB;
+        double inversions = a.inversionRatio() - b.inversionRatio();
+        double duplicates = a.duplicateRatio() - b.duplicateRatio();
+        double density = density(a, sizeA) - density(b, sizeB);
+        return runs * runs + inversions * inversions + duplicates * duplicates
+                + DENSITY_WEIGHT * density * density;
+    }
+
+    /**
+     * Returns n over the value range, capped at 1: 1 for keys drawn from at most n values, such
+     * as a permutation, and towards 0 for keys spread over a much wider range.
+     */
+    private static double density(Profile profile, int n) {
+        return Math.min(1.0, n / (profile.valueRange() + 1.0));
+    }
+
+    /**
+     * Profiles of the pipeline's five data types, built on first use.
+     */
+    private static final class ReferenceProfiles {
+
+        static final Map<String, Profile> PROFILES = build();
+
+        private static Map<String, Profile> build() {
+            Map<String, Profile> profiles = new LinkedHashMap<>();
+            DataGenerationUtilities.generatePipelineTestSuite(REFERENCE_SIZE, REFERENCE_SEED)
+                    .forEach((dataType, array) -> profiles.put(dataType, profile(array)));
+            return profiles;
+        }
+    }
+
+    /**
+     * Loads the model from DEFAULT_RESULTS_DIRECTORY. An unreadable file leaves the model
+     * empty, as a missing one does.
+     */
+    private static CostModel loadDefaultModel() {
+        try {
+            return CostModel.fromLatestCSV(DEFAULT_RESULTS_DIRECTORY);
+        } catch (IOException e) {
+            return new CostModel(List.of());
+        }
+    }
+
+    /**
+     * Returns the engines the default constructors choose among; the first is the fallback.
+     *
+     * @return Default candidate engines
+     */
+    public static List<SortingAlgorithm> getDefaultCandidates() {
+        return List.of(DEFAULT_CANDIDATES);
+    }
+
+    /**
+     * Returns the measured costs the choice is based on.
+     *
+     * @return Cost model
+     */
+    public CostModel getCostModel() {
+        return costModel;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Auto Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(s log s) profile + chosen engine";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(s) + chosen engine";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false; // The chosen engine may not be stable
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return false;
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Inputs whose profile varies between calls - each gets the engine measured fastest for it";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Tiny arrays - profiling a sample costs about as much as sorting";
+    }
+}
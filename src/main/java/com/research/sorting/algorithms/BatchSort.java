@@ -0,0 +1,286 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts batches of many tiny arrays with sorting networks, spread across a fork/join pool.
+ *
+ * A sorting network is a fixed sequence of compare-exchange steps that depends only on the
+ * array length, so each array is sorted by one branch-free loop instead of a call through the
+ * recursion, cutoffs and validation of a general sort. Lengths 2 to 8 use size-optimal networks;
+ * longer lengths up to {@link #MAX_NETWORK_SIZE} use Batcher's odd-even merge networks, generated
+ * once per length.
+ */
+public class BatchSort implements SortingAlgorithm {
+
+    /** Longest array sorted by a network; longer arrays fall back to pattern-defeating quick sort */
+    public static final int MAX_NETWORK_SIZE = 64;
+
+    /** Batches at or below this many arrays are sorted by a single task */
+    public static final int DEFAULT_ARRAYS_PER_TASK = 1_024;
+
+    /**
+     * Size-optimal networks for lengths 0 to 8 as flattened (i, j) index pairs, with 0, 0, 1, 3,
+     * 5, 9, 12, 16 and 19 comparators.
+     */
+    private static final int[][] OPTIMAL_NETWORKS = {
+        {},
+        {},
+        {0, 1},
+        {0, 2, 0, 1, 1, 2},
+        {0, 2, 1, 3, 0, 1, 2, 3, 1, 2},
+        {0, 3, 1, 4, 0, 2, 1, 3, 0, 1, 2, 4, 1, 2, 3, 4, 2, 3},
+        {0, 5, 1, 3, 2, 4, 1, 2, 3, 4, 0, 3, 2, 5, 0, 1, 2, 3, 4, 5, 1, 2, 3, 4},
+        {0, 6, 2, 3, 4, 5, 0, 2, 1, 4, 3, 6, 0, 1, 2, 5, 3, 4, 1, 2, 4, 6, 2, 3, 4, 5, 1, 2,
+            3, 4, 5, 6},
+        {0, 2, 1, 3, 4, 6, 5, 7, 0, 4, 1, 5, 2, 6, 3, 7, 0, 1, 2, 3, 4, 5, 6, 7, 2, 4, 3, 5,
+            1, 4, 3, 6, 1, 2, 3, 4, 5, 6}
+    };
+
+    /** Network for every length up to MAX_NETWORK_SIZE, as flattened (i, j) index pairs */
+    private static final int[][] NETWORKS = buildNetworks();
+
+    /** Pool that executes the fork/join tasks */
+    private final ForkJoinPool pool;
+
+    /** Number of arrays below which a task stops forking */
+    private final int arraysPerTask;
+
+    /** Sorts arrays too long for a network */
+    private final PatternDefeatingQuickSort fallback = new PatternDefeatingQuickSort();
+
+    /**
+     * Creates a batch sorter on the common fork/join pool.
+     */
+    public BatchSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_ARRAYS_PER_TASK);
+    }
+
+    /**
+     * Creates a batch sorter on a specific pool.
+     *
+     * @param pool Fork/join pool to run on
+     * @param arraysPerTask Number of arrays at which a task stops forking
+     * @throws IllegalArgumentException if pool is null or arraysPerTask is less than 1
+     */
+    public BatchSort(ForkJoinPool pool, int arraysPerTask) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (arraysPerTask < 1) {
+            throw new IllegalArgumentException("Arrays per task must be at least 1: " + arraysPerTask);
+        }
+        this.pool = pool;
+        this.arraysPerTask = arraysPerTask;
+    }
+
+    /**
+     * Sorts every array of the batch in ascending order.
+     *
+     * Arrays are independent, so the batch is split into ranges of arrays sorted concurrently.
+     * Arrays longer than {@link #MAX_NETWORK_SIZE} are accepted but sorted without a network.
+     *
+     * @param arrays Arrays to be sorted, each in place
+     * @throws IllegalArgumentException if the batch or any of its arrays is null
+     */
+    public void sortBatch(int[][] arrays) {
+        if (arrays == null) {
+            throw new IllegalArgumentException("Batch cannot be null");
+        }
+        for (int[] array : arrays) {
+            BenchmarkUtils.validateArray(array);
+        }
+
+        if (arrays.length <= arraysPerTask) {
+            sortRange(arrays, 0, arrays.length);
+            return;
+        }
+
+        pool.invoke(new BatchTask(arrays, 0, arrays.length));
+    }
+
+    /**
+     * Sorts a single array with the network for its length.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+        sortOne(array);
+        if (array.length <= MAX_NETWORK_SIZE) {
+            BenchmarkUtils.recordComparisons(NETWORKS[array.length].length / 2);
+        }
+    }
+
+    /**
+     * Returns the number of compare-exchange steps used for arrays of the given length.
+     *
+     * @param length Array length, from 0 to MAX_NETWORK_SIZE
+     * @return Comparator count of the network
+     * @throws IllegalArgumentException if length is out of range
+     */
+    public static int getComparatorCount(int length) {
+        if (length < 0 || length > MAX_NETWORK_SIZE) {
+            throw new IllegalArgumentException(
+                    "Length must be between 0 and " + MAX_NETWORK_SIZE + ": " + length);
+        }
+        return NETWORKS[length].length / 2;
+    }
+
+    /**
+     * Sorts arrays[from...to-1] on the calling thread, recording the network comparisons of the
+     * whole range at once so the shared counters are touched once per range.
+     */
+    private void sortRange(int[][] arrays, int from, int to) {
+        long comparisons = 0;
+        for (int a = from; a < to; a++) {
+            int[] array = arrays[a];
+            sortOne(array);
+            if (array.length <= MAX_NETWORK_SIZE) {
+                comparisons += NETWORKS[array.length].length / 2;
+            }
+        }
+        BenchmarkUtils.recordComparisons(comparisons);
+    }
+
+    /**
+     * Applies the network for the array's length; min and max keep the loop free of branches.
+     */
+    private void sortOne(int[] array) {
+        if (array.length > MAX_NETWORK_SIZE) {
+            fallback.sort(array);
+            return;
+        }
+
+        int[] network = NETWORKS[array.length];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = network[c];
+            int j = network[c + 1];
+            int x = array[i];
+            int y = array[j];
+            array[i] = Math.min(x, y);
+            array[j] = Math.max(x, y);
+        }
+    }
+
+    /**
+     * Fork/join task sorting the arrays in arrays[from...to-1].
+     */
+    private class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] arrays;
+        private final int from;
+        private final int to;
+
+        BatchTask(int[][] arrays, int from, int to) {
+            this.arrays = arrays;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= arraysPerTask) {
+                sortRange(arrays, from, to);
+                return;
+            }
+
+            int mid = from + (to - from) / 2;
+            invokeAll(new BatchTask(arrays, from, mid), new BatchTask(arrays, mid, to));
+        }
+    }
+
+    /**
+     * Builds the network table: optimal networks where known, otherwise Batcher's odd-even
+     * merge network for the next power of two with every comparator touching an index at or
+     * beyond the length removed. Removal is safe because padding the array with maximal values
+     * at those indices would leave every such comparator without effect.
+     */
+    private static int[][] buildNetworks() {
+        int[][] networks = new int[MAX_NETWORK_SIZE + 1][];
+        System.arraycopy(OPTIMAL_NETWORKS, 0, networks, 0, OPTIMAL_NETWORKS.length);
+
+        for (int length = OPTIMAL_NETWORKS.length; length <= MAX_NETWORK_SIZE; length++) {
+            int size = Integer.highestOneBit(length - 1) << 1;
+            int[] pairs = new int[size * size];
+            int count = 0;
+
+            for (int p = 1; p < size; p <<= 1) {
+                for (int k = p; k >= 1; k >>= 1) {
+                    for (int j = k % p; j + k < size; j += 2 * k) {
+                        for (int i = 0; i < k && i + j + k < size; i++) {
+                            int low = i + j;
+                            int high = i + j + k;
+                            if (low / (2 * p) == high / (2 * p) && high < length) {
+                                pairs[count++] = low;
+                                pairs[count++] = high;
+                            }
+                        }
+                    }
+                }
+            }
+
+            networks[length] = Arrays.copyOf(pairs, count);
+        }
+        return networks;
+    }
+
+    /**
+     * Returns the number of worker threads available to this sorter.
+     *
+     * @return Pool parallelism level
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Returns the number of arrays at which a task stops forking.
+     *
+     * @return Arrays per task
+     */
+    public int getArraysPerTask() {
+        return arraysPerTask;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Batch Sort (Sorting Networks)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log² n) per array";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(1)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false; // Compare-exchange steps between distant indices reorder equal keys
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true;
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Thousands of arrays of at most 64 elements - same work for any input order";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Arrays longer than 64 elements - sorted one by one without a network";
+    }
+}
@@ -2,7 +2,7 @@ package com.research.sorting.algorithms;
 
 import com.research.sorting.utils.BenchmarkUtils;
 
-public class BubbleSort implements SortingAlgorithm {
+public class BubbleSort implements PrimitiveSortingAlgorithm {
     
     /**
      * Sorts the array using bubble sort algorithm.
@@ -47,6 +47,66 @@ public class BubbleSort implements SortingAlgorithm {
         }
     }
     
+    /**
+     * Sorts a long array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(long[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) LongSortKernels.bubbleSort(array);
+    }
+    
+    /**
+     * Sorts a double array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(double[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) DoubleSortKernels.bubbleSort(array);
+    }
+    
+    /**
+     * Sorts a float array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(float[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) FloatSortKernels.bubbleSort(array);
+    }
+    
+    /**
+     * Sorts a short array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(short[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) ShortSortKernels.bubbleSort(array);
+    }
+    
+    /**
+     * Sorts a char array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(char[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) CharSortKernels.bubbleSort(array);
+    }
+    
     /**
      * Returns the name of this sorting algorithm.
      * 
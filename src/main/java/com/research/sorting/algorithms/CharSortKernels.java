@@ -0,0 +1,392 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+
+/**
+ * char[] kernels for the six classic algorithms and their scalar variants, used by the char[]
+ * overloads of {@link PrimitiveSortingAlgorithm}.
+ *
+ * Each kernel except quickSort follows the int[] implementation of its algorithm variant step
+ * for step, so comparison and swap counts match the int[] results and only the key width
+ * changes.
+ * Keys are ordered as unsigned 16-bit code units.
+ * Generated from src/main/templates/PrimitiveSortKernels.java.template, which holds the
+ * kernels of all five key types; edit the template and run SortKernelsGenerator.
+ */
+final class CharSortKernels {
+
+    private CharSortKernels() {
+    }
+
+    /**
+     * Bubble sort with early termination once a pass makes no swaps.
+     *
+     * @param array Array to sort
+     */
+    static void bubbleSort(char[] array) {
+        int n = array.length;
+
+        for (int i = 0; i < n - 1; i++) {
+            boolean swapped = false;
+
+            for (int j = 0; j < n - i - 1; j++) {
+                if (BenchmarkUtils.compare(array[j], array[j + 1]) > 0) {
+                    BenchmarkUtils.swap(array, j, j + 1);
+                    swapped = true;
+                }
+            }
+
+            if (!swapped) break;
+        }
+    }
+
+    /**
+     * Selection sort, one swap per position at most.
+     *
+     * @param array Array to sort
+     */
+    static void selectionSort(char[] array) {
+        int n = array.length;
+
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+
+            for (int j = i + 1; j < n; j++) {
+                if (BenchmarkUtils.compare(array[minIndex], array[j]) > 0) {
+                    minIndex = j;
+                }
+            }
+
+            BenchmarkUtils.swap(array, i, minIndex);
+        }
+    }
+
+    /**
+     * Linear insertion sort; each element shifted right counts as one swap.
+     *
+     * @param array Array to sort
+     */
+    static void insertionSort(char[] array) {
+        long shifts = 0;
+
+        for (int i = 1; i < array.length; i++) {
+            char current = array[i];
+            int j = i - 1;
+
+            while (j >= 0 && BenchmarkUtils.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+                shifts++;
+            }
+            array[j + 1] = current;
+        }
+
+        BenchmarkUtils.recordSwaps(shifts);
+    }
+
+    /**
+     * Binary insertion sort; already ordered elements cost one comparison, the others a binary
+     * search and one block shift, recorded as one swap per shifted element.
+     *
+     * @param array Array to sort
+     */
+    static void binaryInsertionSort(char[] array) {
+        long shifts = 0;
+
+        for (int i = 1; i < array.length; i++) {
+            char current = array[i];
+
+            if (BenchmarkUtils.compare(array[i - 1], current) <= 0) continue;
+
+            // Insert after any equal elements to stay stable
+            int left = 0;
+            int right = i - 1;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (BenchmarkUtils.compare(array[mid], current) > 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            System.arraycopy(array, left, array, left + 1, i - left);
+            array[left] = current;
+            shifts += i - left;
+        }
+
+        BenchmarkUtils.recordSwaps(shifts);
+    }
+
+    /**
+     * Quick sort with Hoare partitioning around the median of three, recursing into the smaller
+     * side and heap sorting any range left after IntroSort.depthLimit levels.
+     *
+     * The int[] Quick Sort keeps its first-element pivot; wider keys such as timestamps often
+     * arrive in order, where that pivot would recurse once per element.
+     *
+     * @param array Array to sort
+     */
+    static void quickSort(char[] array) {
+        quickSort(array, 0, array.length - 1, IntroSort.depthLimit(array.length));
+    }
+
+    private static void quickSort(char[] array, int low, int high, int depthLimit) {
+        while (low < high) {
+            if (depthLimit == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+            depthLimit--;
+
+            int pivotIndex = hoarePartition(array, low, high);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                quickSort(array, low, pivotIndex, depthLimit);
+                low = pivotIndex + 1;
+            } else {
+                quickSort(array, pivotIndex + 1, high, depthLimit);
+                high = pivotIndex;
+            }
+        }
+    }
+
+    private static int hoarePartition(char[] array, int low, int high) {
+        int mid = low + (high - low) / 2;
+
+        // Order array[low] <= array[mid] <= array[high], then move the median to array[low]
+        if (BenchmarkUtils.compare(array[low], array[mid]) > 0)
+            BenchmarkUtils.swap(array, low, mid);
+        if (BenchmarkUtils.compare(array[mid], array[high]) > 0)
+            BenchmarkUtils.swap(array, mid, high);
+        if (BenchmarkUtils.compare(array[low], array[mid]) > 0)
+            BenchmarkUtils.swap(array, low, mid);
+        BenchmarkUtils.swap(array, low, mid);
+
+        char pivot = array[low];
+        int i = low - 1;
+        int j = high + 1;
+
+        while (true) {
+            do {
+                i++;
+            } while (BenchmarkUtils.compare(pivot, array[i]) > 0);
+
+            do {
+                j--;
+            } while (BenchmarkUtils.compare(array[j], pivot) > 0);
+
+            if (i >= j) return j;
+
+            BenchmarkUtils.swap(array, i, j);
+        }
+    }
+
+    /**
+     * Top-down merge sort copying both halves into temporaries on every merge.
+     *
+     * @param array Array to sort
+     */
+    static void mergeSort(char[] array) {
+        mergeSort(array, 0, array.length - 1);
+    }
+
+    private static void mergeSort(char[] array, int left, int right) {
+        if (left < right) {
+            int mid = left + (right - left) / 2;
+            mergeSort(array, left, mid);
+            mergeSort(array, mid + 1, right);
+            merge(array, left, mid, right);
+        }
+    }
+
+    private static void merge(char[] array, int left, int mid, int right) {
+        char[] leftArray = new char[mid - left + 1];
+        char[] rightArray = new char[right - mid];
+        System.arraycopy(array, left, leftArray, 0, leftArray.length);
+        System.arraycopy(array, mid + 1, rightArray, 0, rightArray.length);
+
+        int i = 0;
+        int j = 0;
+        int k = left;
+
+        while (i < leftArray.length && j < rightArray.length) {
+            if (BenchmarkUtils.compare(leftArray[i], rightArray[j]) <= 0) {
+                array[k++] = leftArray[i++];
+            } else {
+                array[k++] = rightArray[j++];
+            }
+        }
+
+        while (i < leftArray.length) {
+            array[k++] = leftArray[i++];
+        }
+        while (j < rightArray.length) {
+            array[k++] = rightArray[j++];
+        }
+    }
+
+    /**
+     * Top-down merge sort alternating between the array and one scratch copy of it.
+     *
+     * @param array Array to sort
+     */
+    static void pingPongMergeSort(char[] array) {
+        pingPongMergeSort(array.clone(), array, 0, array.length - 1);
+    }
+
+    private static void pingPongMergeSort(char[] source, char[] target, int left, int right) {
+        if (left >= right) return;
+
+        int mid = left + (right - left) / 2;
+        pingPongMergeSort(target, source, left, mid);
+        pingPongMergeSort(target, source, mid + 1, right);
+        mergeInto(source, target, left, mid, right);
+    }
+
+    /**
+     * Iterative merge sort doubling the run width each pass over one scratch buffer.
+     *
+     * @param array Array to sort
+     */
+    static void bottomUpMergeSort(char[] array) {
+        int n = array.length;
+        char[] source = array;
+        char[] target = new char[n];
+
+        for (int width = 1; width < n; width *= 2) {
+            for (int left = 0; left < n; left += 2 * width) {
+                int mid = Math.min(left + width - 1, n - 1);
+                int right = Math.min(left + 2 * width - 1, n - 1);
+                mergeInto(source, target, left, mid, right);
+            }
+
+            char[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+        }
+    }
+
+    private static void mergeInto(char[] source, char[] target, int left, int mid, int right) {
+        int i = left;
+        int j = mid + 1;
+        int k = left;
+
+        while (i <= mid && j <= right) {
+            if (BenchmarkUtils.compare(source[i], source[j]) <= 0) {
+                target[k++] = source[i++];
+            } else {
+                target[k++] = source[j++];
+            }
+        }
+
+        if (i <= mid) {
+            System.arraycopy(source, i, target, k, mid - i + 1);
+        } else if (j <= right) {
+            System.arraycopy(source, j, target, k, right - j + 1);
+        }
+    }
+
+    /**
+     * Binary max-heap sort with two comparisons per level while sifting down.
+     *
+     * @param array Array to sort
+     */
+    static void heapSort(char[] array) {
+        heapSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Heap sorts array[low...high] with the heap rooted at low.
+     */
+    private static void heapSort(char[] array, int low, int high) {
+        int n = high - low + 1;
+
+        for (int i = (n / 2) - 1; i >= 0; i--) {
+            heapify(array, low, n, i);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            BenchmarkUtils.swap(array, low, low + i);
+            heapify(array, low, i, 0);
+        }
+    }
+
+    private static void heapify(char[] array, int offset, int heapSize, int rootIndex) {
+        while (true) {
+            int largest = rootIndex;
+            int leftChild = 2 * rootIndex + 1;
+            int rightChild = leftChild + 1;
+
+            if (leftChild < heapSize && BenchmarkUtils.compare(array[offset + leftChild],
+                    array[offset + largest]) > 0) {
+                largest = leftChild;
+            }
+            if (rightChild < heapSize && BenchmarkUtils.compare(array[offset + rightChild],
+                    array[offset + largest]) > 0) {
+                largest = rightChild;
+            }
+
+            if (largest == rootIndex) return;
+
+            BenchmarkUtils.swap(array, offset + rootIndex, offset + largest);
+            rootIndex = largest;
+        }
+    }
+
+    /**
+     * Heap sort with Floyd's bottom-up sift on a heap with the given number of children per
+     * node; each move of the root to the end of the heap is recorded as one swap.
+     *
+     * @param array Array to sort
+     * @param arity Children per heap node (2 or 4)
+     */
+    static void bottomUpHeapSort(char[] array, int arity) {
+        int n = array.length;
+
+        for (int i = (n - 2) / arity; i >= 0; i--) {
+            siftDownBottomUp(array, i, array[i], n, arity);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            char value = array[end];
+            array[end] = array[0];
+            BenchmarkUtils.recordSwaps(1);
+            siftDownBottomUp(array, 0, value, end, arity);
+        }
+    }
+
+    private static void siftDownBottomUp(char[] array, int root, char value, int heapSize,
+                                         int arity) {
+        int hole = root;
+
+        // Descend along the largest children without comparing against value
+        int child;
+        while ((child = arity * hole + 1) < heapSize) {
+            int largest = child;
+            int lastChild = Math.min(child + arity, heapSize);
+            for (int c = child + 1; c < lastChild; c++) {
+                if (BenchmarkUtils.compare(array[c], array[largest]) > 0) {
+                    largest = c;
+                }
+            }
+            array[hole] = array[largest];
+            hole = largest;
+        }
+
+        // Climb back until the parent is at least value
+        while (hole > root) {
+            int parent = (hole - 1) / arity;
+            if (BenchmarkUtils.compare(value, array[parent]) <= 0) {
+                break;
+            }
+            array[hole] = array[parent];
+            hole = parent;
+        }
+        array[hole] = value;
+    }
+}
@@ -0,0 +1,240 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+
+/**
+ * Linear-time sort for keys from a small value range.
+ *
+ * One pass finds the minimum and maximum. If the range of values is at most rangeFactor times
+ * the array length, the keys are counted into a table indexed by value minus minimum and
+ * written back in order; no key is ever compared with another. The bitmap variant, for keys
+ * known to be distinct, marks each value with one bit instead of an int count, so the same
+ * memory covers a 32 times wider range. Inputs whose range is too wide are sorted by
+ * {@link RadixSort}, which is also linear but independent of the range.
+ */
+public class CountingSort implements SortingAlgorithm {
+
+    /**
+     * Tables selectable through the constructor.
+     */
+    public enum Variant {
+        /** One int count per value of the range */
+        COUNTING("Counting Sort"),
+        /** One bit per value of the range; a repeated key switches to counting */
+        BITMAP("Bitmap Sort");
+
+        private final String displayName;
+
+        Variant(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    /** Range factor used by the default constructors */
+    public static final int DEFAULT_RANGE_FACTOR = 4;
+
+    /** Values covered by one bitmap word */
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    /** Bitmap words take as much memory as two counts, so cover 64 / 2 times more values */
+    private static final int BITMAP_RANGE_MULTIPLIER = BITS_PER_WORD / 2;
+
+    /** Longest count table, the largest array length the JVM allocates */
+    private static final int MAX_TABLE_LENGTH = Integer.MAX_VALUE - 8;
+
+    /** Sort used when the range of values is too wide for the table */
+    private static final RadixSort FALLBACK = new RadixSort();
+
+    /** Table used by every sort */
+    private final Variant variant;
+
+    /** Largest ratio of value range to array length sorted through the table */
+    private final int rangeFactor;
+
+    /**
+     * Creates a counting sort for ranges up to four times the array length.
+     */
+    public CountingSort() {
+        this(Variant.COUNTING);
+    }
+
+    /**
+     * Creates a counting or bitmap sort with the default range factor.
+     *
+     * @param variant Table type
+     * @throws IllegalArgumentException if variant is null
+     */
+    public CountingSort(Variant variant) {
+        this(variant, DEFAULT_RANGE_FACTOR);
+    }
+
+    /**
+     * Creates a counting or bitmap sort.
+     *
+     * @param variant Table type
+     * @param rangeFactor Largest value range, as a multiple of the array length, sorted through
+     *                    a count table; the bitmap covers 32 times this range
+     * @throws IllegalArgumentException if variant is null or rangeFactor is not positive
+     */
+    public CountingSort(Variant variant, int rangeFactor) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        if (rangeFactor < 1) {
+            throw new IllegalArgumentException("Range factor must be positive: " + rangeFactor);
+        }
+        this.variant = variant;
+        this.rangeFactor = rangeFactor;
+    }
+
+    /**
+     * Sorts the array through a count table or bitmap, or with radix sort if its range is too
+     * wide.
+     *
+     * Algorithm steps:
+     * 1. One pass finds the minimum and maximum
+     * 2. BITMAP: set the bit of each value; stop and count instead at the first repeated value
+     * 3. COUNTING: increment the count of each value
+     * 4. Write each value back as often as it was counted, in increasing order
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+        int n = array.length;
+        if (n <= 1) return;
+
+        int min = array[0];
+        int max = array[0];
+        for (int i = 1; i < n; i++) {
+            min = Math.min(min, array[i]);
+            max = Math.max(max, array[i]);
+        }
+        BenchmarkUtils.recordKeyReads(n);
+
+        // Number of possible values; up to 2^32 for the full int range
+        long range = (long) max - min + 1;
+        long countLimit = (long) rangeFactor * n;
+
+        if (variant == Variant.BITMAP && range <= countLimit * BITMAP_RANGE_MULTIPLIER
+                && bitmapSort(array, min, range)) {
+            return;
+        }
+        if (range <= Math.min(countLimit, MAX_TABLE_LENGTH)) {
+            countingSort(array, min, (int) range);
+        } else {
+            FALLBACK.sort(array);
+        }
+    }
+
+    /**
+     * Counts each value and writes the values back in order.
+     */
+    private static void countingSort(int[] array, int min, int range) {
+        int[] counts = new int[range];
+        for (int value : array) {
+            counts[value - min]++;
+        }
+
+        int out = 0;
+        for (int offset = 0; offset < range; offset++) {
+            int value = min + offset;
+            for (int count = counts[offset]; count > 0; count--) {
+                array[out++] = value;
+            }
+        }
+
+        BenchmarkUtils.recordKeyReads(array.length);
+        BenchmarkUtils.recordScatterWrites(array.length);
+    }
+
+    /**
+     * Sets one bit per value and writes the set bits back in order, lowest first. Returns
+     * false, with the array untouched, as soon as a value turns out to be repeated.
+     */
+    private static boolean bitmapSort(int[] array, int min, long range) {
+        long[] words = new long[(int) ((range + BITS_PER_WORD - 1) / BITS_PER_WORD)];
+        for (int i = 0; i < array.length; i++) {
+            int offset = array[i] - min; // Non-negative as an unsigned int below 2^32
+            int word = offset >>> 6;
+            long bit = 1L << offset; // Shift distance is taken modulo 64
+            if ((words[word] & bit) != 0) {
+                BenchmarkUtils.recordKeyReads(i + 1);
+                return false;
+            }
+            words[word] |= bit;
+        }
+
+        int out = 0;
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            int base = min + word * BITS_PER_WORD; // Wraps like offset, landing on the value
+            while (bits != 0) {
+                array[out++] = base + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+
+        BenchmarkUtils.recordKeyReads(array.length);
+        BenchmarkUtils.recordScatterWrites(array.length);
+        return true;
+    }
+
+    /**
+     * Returns the table type.
+     *
+     * @return Sort variant
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Returns the largest value range, as a multiple of the array length, sorted through a
+     * count table.
+     *
+     * @return Range factor
+     */
+    public int getRangeFactor() {
+        return rangeFactor;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return variant.displayName;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n + k)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return variant == Variant.BITMAP ? "O(k / 64)" : "O(k)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false; // Keys are rewritten from counts rather than moved
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return false;
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return variant == Variant.BITMAP
+                ? "Distinct keys from a dense range, such as ids or permutations"
+                : "Many duplicates from a small range - one count per value";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Value range much wider than the array - the table does not fit and radix sort runs";
+    }
+}
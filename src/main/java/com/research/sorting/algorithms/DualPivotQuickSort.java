@@ -0,0 +1,229 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+
+public class DualPivotQuickSort implements SortingAlgorithm {
+
+    /** Subarrays at or below this size are finished with insertion sort */
+    private static final int INSERTION_SORT_THRESHOLD = 27;
+
+    /**
+     * Entry point for Dual-Pivot Quick Sort algorithm.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+
+        if (array.length <= 1)
+            return;
+
+        dualPivotQuickSort(array, 0, array.length - 1, new int[6]);
+    }
+
+    /**
+     * Dual-Pivot Quick Sort implementation.
+     *
+     * Pivots are the 2nd and 4th of five evenly spaced samples, which keeps partitions balanced
+     * on sorted and reverse sorted input. If those two samples are equal the range is dominated
+     * by duplicates and a 3-way partition around the middle sample is used instead.
+     *
+     * Each partition leaves up to three parts; the two smaller ones are sorted recursively and
+     * the loop continues with the largest. A part that is not the largest holds at most half
+     * of the range, so the recursion depth stays O(log n) on any input.
+     *
+     * @param array Array to sort
+     * @param low Starting index
+     * @param high Ending index
+     * @param parts Scratch space receiving the bounds of the parts left by a partition
+     */
+    private void dualPivotQuickSort(int[] array, int low, int high, int[] parts) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            int length = high - low + 1;
+
+            // Five evenly spaced sample positions around the middle
+            int seventh = (length >> 3) + (length >> 6) + 1;
+            int e3 = (low + high) >>> 1;
+            int e2 = e3 - seventh;
+            int e1 = e2 - seventh;
+            int e4 = e3 + seventh;
+            int e5 = e4 + seventh;
+
+            sortSample(array, e1, e2, e3, e4, e5);
+
+            if (BenchmarkUtils.compare(array[e2], array[e4]) == 0) {
+                threeWayPartition(array, low, high, array[e3], parts);
+            } else {
+                dualPivotPartition(array, low, high, e1, e2, e4, e5, parts);
+            }
+
+            // Read every bound first, since the recursive calls overwrite parts
+            int largest = 0;
+            for (int i = 2; i < parts.length; i += 2) {
+                if (parts[i + 1] - parts[i] > parts[largest + 1] - parts[largest]) {
+                    largest = i;
+                }
+            }
+            int nextLow = parts[largest];
+            int nextHigh = parts[largest + 1];
+            int firstLow = parts[(largest + 2) % 6];
+            int firstHigh = parts[(largest + 3) % 6];
+            int secondLow = parts[(largest + 4) % 6];
+            int secondHigh = parts[(largest + 5) % 6];
+
+            dualPivotQuickSort(array, firstLow, firstHigh, parts);
+            dualPivotQuickSort(array, secondLow, secondHigh, parts);
+            low = nextLow;
+            high = nextHigh;
+        }
+
+        InsertionSort.binaryInsertionSort(array, low, high + 1);
+    }
+
+    /**
+     * Partitions around pivots array[e2] < array[e4] into {@code < p1}, {@code [p1, p2]} and
+     * {@code > p2}, and stores the bounds of the three unsorted parts in parts.
+     */
+    private void dualPivotPartition(int[] array, int low, int high,
+                                    int e1, int e2, int e4, int e5, int[] parts) {
+        int pivot1 = array[e2];
+        int pivot2 = array[e4];
+
+        // Park the pivots at the ends while partitioning the interior
+        BenchmarkUtils.swap(array, e2, low);
+        BenchmarkUtils.swap(array, e4, high);
+
+        int less = low + 1;   // array[low+1 .. less-1] < pivot1
+        int great = high - 1; // array[great+1 .. high-1] > pivot2
+
+        for (int k = less; k <= great; k++) {
+            if (BenchmarkUtils.compare(array[k], pivot1) < 0) {
+                BenchmarkUtils.swap(array, k, less);
+                less++;
+            } else if (BenchmarkUtils.compare(array[k], pivot2) > 0) {
+                // Skip over elements already in the right-hand part
+                while (k < great && BenchmarkUtils.compare(array[great], pivot2) > 0) {
+                    great--;
+                }
+                BenchmarkUtils.swap(array, k, great);
+                great--;
+
+                if (BenchmarkUtils.compare(array[k], pivot1) < 0) {
+                    BenchmarkUtils.swap(array, k, less);
+                    less++;
+                }
+            }
+        }
+
+        // Move pivots into their final positions
+        BenchmarkUtils.swap(array, low, less - 1);
+        BenchmarkUtils.swap(array, high, great + 1);
+
+        parts[0] = low;
+        parts[1] = less - 2;
+        parts[2] = great + 2;
+        parts[3] = high;
+
+        // A middle part spanning the outer samples suggests many keys equal to a pivot;
+        // gather those at the edges so they are excluded from the middle part
+        if (less < e1 && e5 < great) {
+            for (int k = less; k <= great; k++) {
+                if (BenchmarkUtils.compare(array[k], pivot1) == 0) {
+                    BenchmarkUtils.swap(array, k, less);
+                    less++;
+                } else if (BenchmarkUtils.compare(array[k], pivot2) == 0) {
+                    while (k < great && BenchmarkUtils.compare(array[great], pivot2) == 0) {
+                        great--;
+                    }
+                    BenchmarkUtils.swap(array, k, great);
+                    great--;
+
+                    if (BenchmarkUtils.compare(array[k], pivot1) == 0) {
+                        BenchmarkUtils.swap(array, k, less);
+                        less++;
+                    }
+                }
+            }
+        }
+
+        parts[4] = less;
+        parts[5] = great;
+    }
+
+    /**
+     * Dijkstra 3-way partition into {@code < pivot}, {@code == pivot} and {@code > pivot}, and
+     * stores the bounds of the outer parts in parts. Keys equal to the pivot are final after
+     * one pass, so the third part is left empty.
+     */
+    private void threeWayPartition(int[] array, int low, int high, int pivot, int[] parts) {
+        int lt = low;  // array[low .. lt-1] < pivot
+        int gt = high; // array[gt+1 .. high] > pivot
+        int k = low;
+
+        while (k <= gt) {
+            int cmp = BenchmarkUtils.compare(array[k], pivot);
+            if (cmp < 0) {
+                BenchmarkUtils.swap(array, lt++, k++);
+            } else if (cmp > 0) {
+                BenchmarkUtils.swap(array, k, gt--);
+            } else {
+                k++;
+            }
+        }
+
+        parts[0] = low;
+        parts[1] = lt - 1;
+        parts[2] = gt + 1;
+        parts[3] = high;
+        parts[4] = lt;
+        parts[5] = lt - 1;
+    }
+
+    /**
+     * Sorts the five sample positions in place with insertion sort.
+     */
+    private void sortSample(int[] array, int... positions) {
+        for (int i = 1; i < positions.length; i++) {
+            for (int j = i; j > 0 && BenchmarkUtils.compare(array, positions[j - 1], positions[j]); j--) {
+                BenchmarkUtils.swap(array, positions[j - 1], positions[j]);
+            }
+        }
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Dual-Pivot Quick Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false; // Partitioning reorders equal elements
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true; // Uses only O(log n) extra space for recursion
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Sorted, reverse sorted or duplicate-heavy arrays - sampled pivots and 3-way partitioning keep splits balanced";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Adversarial inputs crafted against the sampling positions - O(n²) in theory, rare in practice";
+    }
+}
@@ -0,0 +1,354 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * External merge sort for binary int files larger than the heap.
+ *
+ * The input is read in chunks that fit in memory, each chunk is sorted by an in-memory
+ * {@link SortingAlgorithm} and written to a temporary run file, and the runs are merged k-way
+ * through buffered file channels. A merge reads at most {@link #MAX_FAN_IN} runs at once, so
+ * open files and buffer memory stay bounded however small the chunks are; with more runs,
+ * groups of runs are first merged into longer runs, one extra pass over the data each time.
+ * Files hold ints in big-endian order, as written by {@code DataOutputStream}. Input that fits
+ * in one chunk is sorted without run files.
+ */
+public class ExternalMergeSort {
+
+    /** Largest chunk chosen by the default constructor, in ints (256 MB) */
+    public static final int MAX_DEFAULT_CHUNK_ELEMENTS = 1 << 26;
+
+    /** Most runs read by one merge */
+    public static final int MAX_FAN_IN = 128;
+
+    /** Size of the buffer used to read the input and to write runs and merge output */
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    /** Direct memory shared by the run readers of one merge (64 MB) */
+    private static final int MERGE_BUFFER_BUDGET = 1 << 26;
+
+    /** Size of each run reader's buffer, so a full merge stays within MERGE_BUFFER_BUDGET */
+    private static final int RUN_BUFFER_BYTES = MERGE_BUFFER_BUDGET / MAX_FAN_IN;
+
+    /**
+     * Bytes read and written by one external sort.
+     *
+     * @param elements Number of ints sorted
+     * @param runs Number of sorted runs produced; 1 means no run files were needed
+     * @param mergePasses Passes over the data merging runs; 0 if no run files were needed
+     * @param bytesRead Bytes read from the input and the run files
+     * @param bytesWritten Bytes written to the run files and the output
+     */
+    public record Result(long elements, int runs, int mergePasses, long bytesRead,
+            long bytesWritten) {
+    }
+
+    /** Sorts each chunk in memory */
+    private final SortingAlgorithm chunkSorter;
+
+    /** Number of ints read, sorted and written per run */
+    private final int chunkElements;
+
+    /** Directory for run files, or null for the system temporary directory */
+    private final Path tempDirectory;
+
+    /**
+     * Creates an external sort using pattern-defeating quick sort on chunks of a quarter of the
+     * maximum heap, capped at {@link #MAX_DEFAULT_CHUNK_ELEMENTS}.
+     */
+    public ExternalMergeSort() {
+        this(new PatternDefeatingQuickSort(), defaultChunkElements(), null);
+    }
+
+    /**
+     * Creates an external sort with a specific chunk sorter and chunk size.
+     *
+     * @param chunkSorter In-memory algorithm that sorts each chunk
+     * @param chunkElements Number of ints per chunk; the sorter's working memory for this many
+     *                      ints must fit in the heap
+     * @param tempDirectory Directory for run files, or null for the system temporary directory
+     * @throws IllegalArgumentException if chunkSorter is null or chunkElements is less than 1
+     */
+    public ExternalMergeSort(SortingAlgorithm chunkSorter, int chunkElements, Path tempDirectory) {
+        if (chunkSorter == null) {
+            throw new IllegalArgumentException("Chunk sorter cannot be null");
+        }
+        if (chunkElements < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1: " + chunkElements);
+        }
+        this.chunkSorter = chunkSorter;
+        this.chunkElements = chunkElements;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sorts the ints of the input file into the output file.
+     *
+     * Run files are deleted before returning, also when the sort fails.
+     *
+     * @param input File of big-endian ints to sort; left unchanged unless it is also the output
+     * @param output File to create or overwrite with the sorted ints
+     * @return Element count, run count and I/O volume of the sort
+     * @throws IllegalArgumentException if either path is null
+     * @throws IOException if a file cannot be read or written, or the input length is not a
+     *                     multiple of 4 bytes
+     */
+    public Result sort(Path input, Path output) throws IOException {
+        if (input == null || output == null) {
+            throw new IllegalArgumentException("Input and output paths cannot be null");
+        }
+
+        long inputBytes = Files.size(input);
+        if (inputBytes % Integer.BYTES != 0) {
+            throw new IOException("Input is not a whole number of ints: " + inputBytes + " bytes");
+        }
+        long elements = inputBytes / Integer.BYTES;
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        List<Path> runs = new ArrayList<>();
+        List<Path> runFiles = new ArrayList<>(); // Every file created, for cleanup
+        try {
+            try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+                // Input that fits in one chunk goes straight to the output
+                if (elements <= chunkElements) {
+                    int[] chunk = new int[(int) elements];
+                    readInts(in, buffer, chunk, chunk.length);
+                    chunkSorter.sort(chunk);
+                    writeRun(output, buffer, chunk, chunk.length);
+                    return new Result(elements, 1, 0, inputBytes, inputBytes);
+                }
+
+                int[] chunk = new int[chunkElements];
+                for (long remaining = elements; remaining > 0; ) {
+                    int count = (int) Math.min(chunk.length, remaining);
+                    readInts(in, buffer, chunk, count);
+
+                    // The sorter sorts whole arrays, so the shorter last chunk is copied
+                    int[] run = count == chunk.length ? chunk : Arrays.copyOf(chunk, count);
+                    chunkSorter.sort(run);
+
+                    Path runFile = createRunFile(runFiles);
+                    runs.add(runFile);
+                    writeRun(runFile, buffer, run, count);
+                    remaining -= count;
+                }
+            }
+            int initialRuns = runs.size();
+
+            // The run readers share one set of buffers across all merges of the sort
+            ByteBuffer[] runBuffers = new ByteBuffer[Math.min(runs.size(), MAX_FAN_IN)];
+            for (int i = 0; i < runBuffers.length; i++) {
+                runBuffers[i] = ByteBuffer.allocateDirect(RUN_BUFFER_BYTES);
+            }
+
+            // Merge groups of MAX_FAN_IN runs into longer runs until one merge can finish
+            int passes = 1;
+            while (runs.size() > MAX_FAN_IN) {
+                List<Path> merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+                    Path runFile = createRunFile(runFiles);
+                    merged.add(runFile);
+                    mergeRuns(runs.subList(from, Math.min(from + MAX_FAN_IN, runs.size())),
+                            runFile, buffer, runBuffers);
+                }
+                for (Path run : runs) {
+                    Files.deleteIfExists(run);
+                }
+                runs = merged;
+                passes++;
+            }
+
+            mergeRuns(runs, output, buffer, runBuffers);
+            long bytesMoved = (passes + 1) * inputBytes;
+            return new Result(elements, initialRuns, passes, bytesMoved, bytesMoved);
+        } finally {
+            for (Path run : runFiles) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Creates an empty run file in the temporary directory and records it for cleanup.
+     */
+    private Path createRunFile(List<Path> runFiles) throws IOException {
+        Path runFile = tempDirectory == null
+                ? Files.createTempFile("sort-run-", ".bin")
+                : Files.createTempFile(tempDirectory, "sort-run-", ".bin");
+        runFiles.add(runFile);
+        return runFile;
+    }
+
+    /**
+     * Merges at most MAX_FAN_IN run files into the output with a loser tree over the runs'
+     * current elements, so each element costs about log2(runs) comparisons. Run i is read
+     * through runBuffers[i].
+     */
+    private void mergeRuns(List<Path> runs, Path output, ByteBuffer outputBuffer,
+                           ByteBuffer[] runBuffers) throws IOException {
+        RunReader[] readers = new RunReader[runs.size()];
+        int[] heads = new int[readers.length];
+        boolean[] exhausted = new boolean[readers.length];
+
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            try {
+                for (int run = 0; run < readers.length; run++) {
+                    readers[run] = new RunReader(runs.get(run), runBuffers[run]);
+                    exhausted[run] = !readers[run].advance();
+                    heads[run] = readers[run].head;
+                }
+
+                LoserTree tree = new LoserTree(heads, exhausted);
+                outputBuffer.clear();
+                while (!tree.isEmpty()) {
+                    if (!outputBuffer.hasRemaining()) {
+                        flush(out, outputBuffer);
+                    }
+                    outputBuffer.putInt(tree.winnerValue());
+
+                    RunReader reader = readers[tree.winner()];
+                    if (reader.advance()) {
+                        tree.replaceWinner(reader.head);
+                    } else {
+                        tree.removeWinner();
+                    }
+                }
+                flush(out, outputBuffer);
+                BenchmarkUtils.recordComparisons(tree.getComparisons());
+            } finally {
+                for (RunReader reader : readers) {
+                    if (reader != null) reader.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads exactly count ints from the channel into array[0...count-1].
+     */
+    private static void readInts(FileChannel in, ByteBuffer buffer, int[] array, int count)
+            throws IOException {
+        int filled = 0;
+        while (filled < count) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), (long) (count - filled) * Integer.BYTES));
+            while (buffer.hasRemaining()) {
+                if (in.read(buffer) < 0) {
+                    throw new EOFException("Input ended after " + filled + " of " + count + " ints");
+                }
+            }
+            buffer.flip();
+
+            int ints = buffer.remaining() / Integer.BYTES;
+            buffer.asIntBuffer().get(array, filled, ints);
+            filled += ints;
+        }
+    }
+
+    /**
+     * Creates or overwrites file with array[0...count-1].
+     */
+    private static void writeRun(Path file, ByteBuffer buffer, int[] array, int count)
+            throws IOException {
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (int written = 0; written < count; ) {
+                int ints = Math.min(buffer.capacity() / Integer.BYTES, count - written);
+                buffer.clear();
+                buffer.asIntBuffer().put(array, written, ints);
+                buffer.limit(ints * Integer.BYTES);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                written += ints;
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel and empties the buffer.
+     */
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Sequential reader of one run file that exposes its current element as head.
+     */
+    private static final class RunReader {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private int head;
+
+        RunReader(Path run, ByteBuffer buffer) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = buffer;
+            buffer.clear().flip();
+        }
+
+        /**
+         * Moves head to the next element of the run, refilling the buffer when it runs dry.
+         *
+         * @return false if the run is exhausted
+         */
+        boolean advance() throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                // Reads may end mid-int, so carry any partial int over to the refilled buffer
+                buffer.compact();
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) break;
+                }
+                buffer.flip();
+                if (buffer.remaining() < Integer.BYTES) return false;
+            }
+            head = buffer.getInt();
+            return true;
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Returns a chunk size that leaves three quarters of the maximum heap to the chunk sorter
+     * and the rest of the program.
+     */
+    private static int defaultChunkElements() {
+        long heapInts = Runtime.getRuntime().maxMemory() / Integer.BYTES;
+        return (int) Math.max(1, Math.min(MAX_DEFAULT_CHUNK_ELEMENTS, heapInts / 4));
+    }
+
+    /**
+     * Returns the number of ints sorted in memory per run.
+     *
+     * @return Chunk size
+     */
+    public int getChunkElements() {
+        return chunkElements;
+    }
+
+    /**
+     * Returns the name of the algorithm, used in benchmark results.
+     *
+     * @return Algorithm name including the chunk sorter
+     */
+    public String getAlgorithmName() {
+        return "External Merge Sort (" + chunkSorter.getAlgorithmName() + ")";
+    }
+}
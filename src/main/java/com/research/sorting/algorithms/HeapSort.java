@@ -3,7 +3,50 @@ package com.research.sorting.algorithms;
 import com.research.sorting.utils.BenchmarkUtils;
 
 
-public class HeapSort implements SortingAlgorithm {
+public class HeapSort implements PrimitiveSortingAlgorithm, KeyPayloadSortingAlgorithm {
+
+    /**
+     * Heap strategies selectable through the constructor.
+     */
+    public enum Variant {
+        /** Classic binary heap, two comparisons per level while sifting down */
+        STANDARD("Heap Sort", 2),
+        /** Floyd's bottom-up sift: descend to a leaf with one comparison per level, then sift up */
+        BOTTOM_UP("Heap Sort (Bottom-Up)", 2),
+        /** Bottom-up sift on a 4-ary heap: half as many levels as a binary heap */
+        BOTTOM_UP_4ARY("Heap Sort (Bottom-Up 4-ary)", 4);
+
+        private final String displayName;
+        private final int arity;
+
+        Variant(String displayName, int arity) {
+            this.displayName = displayName;
+            this.arity = arity;
+        }
+    }
+
+    /** Strategy used by {@link #sort(int[])} */
+    private final Variant variant;
+
+    /**
+     * Creates the classic binary heap sort.
+     */
+    public HeapSort() {
+        this(Variant.STANDARD);
+    }
+
+    /**
+     * Creates a heap sort using the given strategy.
+     * 
+     * @param variant Heap strategy
+     * @throws IllegalArgumentException if variant is null
+     */
+    public HeapSort(Variant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        this.variant = variant;
+    }
 
     /**
      * Entry point for Heap Sort algorithm.
@@ -19,16 +62,126 @@ public class HeapSort implements SortingAlgorithm {
         if (n <= 1)
             return;
 
+        if (variant != Variant.STANDARD) {
+            bottomUpSort(array, variant.arity);
+            return;
+        }
+
         // Step 1: Build max heap from array
         buildMaxHeap(array, n);
 
         // Step 2: Extract elements from heap one by one
         for (int i = n - 1; i > 0; i--) {
             BenchmarkUtils.swap(array, 0, i);
-            heapify(array, i, 0); // Use heapify instead of iterativeHeapify
+            heapify(array, 0, i, 0); // Use heapify instead of iterativeHeapify
         }
     }
 
+    /**
+     * Heap sorts the subarray array[low...high] in place.
+     * 
+     * Used by hybrid engines such as IntroSort as a guaranteed O(n log n) fallback. The heap is
+     * rooted at low rather than at index 0.
+     * 
+     * @param array Array containing the range
+     * @param low Starting index
+     * @param high Ending index
+     */
+    void sortRange(int[] array, int low, int high) {
+        int n = high - low + 1;
+        if (n <= 1)
+            return;
+
+        for (int i = (n / 2) - 1; i >= 0; i--) {
+            heapify(array, low, n, i);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            BenchmarkUtils.swap(array, low, low + i);
+            heapify(array, low, i, 0);
+        }
+    }
+
+    /**
+     * Returns the heap strategy used by {@link #sort(int[])}.
+     * 
+     * @return Heap variant
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Heap sort using bottom-up sifting on a heap with the given number of children per node.
+     * 
+     * Algorithm steps:
+     * 1. Build the max heap with Floyd's construction, sifting each parent bottom-up
+     * 2. Move the root to the end of the heap and take the last heap element as the new value
+     * 3. Sift that value in from the root: follow larger children to a leaf, then climb back up
+     * 
+     * The value removed from the end of the heap is almost always small, so it belongs near the
+     * bottom. Walking straight to a leaf and climbing the few levels back costs about log n
+     * comparisons instead of the 2 log n spent testing it against both children at every level.
+     * 
+     * @param array Array to sort
+     * @param arity Children per heap node (2 or 4)
+     */
+    private void bottomUpSort(int[] array, int arity) {
+        int n = array.length;
+
+        for (int i = (n - 2) / arity; i >= 0; i--) {
+            siftDownBottomUp(array, i, array[i], n, arity);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            int value = array[end];
+            array[end] = array[0];
+            BenchmarkUtils.recordSwaps(1);
+            siftDownBottomUp(array, 0, value, end, arity);
+        }
+    }
+
+    /**
+     * Places value into the subtree rooted at root, treating array[root] as a hole.
+     * 
+     * Phase 1 moves the largest child into the hole level by level until the hole reaches a
+     * leaf. Phase 2 moves parents back down while value is larger, but never above root.
+     * 
+     * @param array Array representing the heap
+     * @param root Root index of the subtree
+     * @param value Value to insert
+     * @param heapSize Size of heap
+     * @param arity Children per heap node
+     */
+    void siftDownBottomUp(int[] array, int root, int value, int heapSize, int arity) {
+        int hole = root;
+
+        // Phase 1: descend along the largest children without comparing against value
+        int child;
+        while ((child = arity * hole + 1) < heapSize) {
+            int largest = child;
+            int lastChild = Math.min(child + arity, heapSize);
+            for (int c = child + 1; c < lastChild; c++) {
+                if (BenchmarkUtils.compare(array[c], array[largest]) > 0) {
+                    largest = c;
+                }
+            }
+            array[hole] = array[largest];
+            hole = largest;
+        }
+
+        // Phase 2: climb back until the parent is at least value
+        while (hole > root) {
+            int parent = (hole - 1) / arity;
+            if (BenchmarkUtils.compare(value, array[parent]) <= 0) {
+                break;
+            }
+            array[hole] = array[parent];
+            hole = parent;
+        }
+        array[hole] = value;
+    }
+
     /**
      * Builds a max heap from an unsorted array.
      * 
@@ -40,7 +193,7 @@ public class HeapSort implements SortingAlgorithm {
      */
     private void buildMaxHeap(int[] array, int heapSize) {
         for (int i = (heapSize / 2) - 1; i >= 0; i--) {
-            heapify(array, heapSize, i); // Use heapify instead of iterativeHeapify
+            heapify(array, 0, heapSize, i); // Use heapify instead of iterativeHeapify
         }
     }
 
@@ -51,36 +204,241 @@ public class HeapSort implements SortingAlgorithm {
      * heaps, but array[index] might violate the max heap property.
      * 
      * @param array Array representing the heap
+     * @param offset Array index of the heap root
      * @param heapSize Size of heap
-     * @param rootIndex Root index of subtree to heapify
+     * @param rootIndex Root index of subtree to heapify, relative to offset
      */
-    private void heapify(int[] array, int heapSize, int rootIndex) {
+    private void heapify(int[] array, int offset, int heapSize, int rootIndex) {
         int largest = rootIndex; // Initialize largest as root
         int leftChild = 2 * rootIndex + 1; // Left child index
         int rightChild = 2 * rootIndex + 2; // Right child index
 
         // Check if left child exists and is greater than root
-        if (leftChild < heapSize && BenchmarkUtils.compare(array, leftChild, largest)) {
+        if (leftChild < heapSize
+                && BenchmarkUtils.compare(array, offset + leftChild, offset + largest)) {
             largest = leftChild;
         }
 
         // Check if right child exists and is greater than current largest
-        if (rightChild < heapSize && BenchmarkUtils.compare(array, rightChild, largest)) {
+        if (rightChild < heapSize
+                && BenchmarkUtils.compare(array, offset + rightChild, offset + largest)) {
             largest = rightChild;
         }
 
         // If largest is not root, swap and continue heapifying
         if (largest != rootIndex) {
-            BenchmarkUtils.swap(array, rootIndex, largest);
+            BenchmarkUtils.swap(array, offset + rootIndex, offset + largest);
 
             // Recursively heapify the affected subtree
-            heapify(array, heapSize, largest);
+            heapify(array, offset, heapSize, largest);
+        }
+    }
+
+    /**
+     * Heap sorts keys, swapping payload entries along with them.
+     *
+     * Each variant sifts the pairs as it sifts int[] keys.
+     *
+     * @param keys Keys to be sorted
+     * @param payload Values moved with their keys
+     * @throws IllegalArgumentException if either array is null or their lengths differ
+     */
+    @Override
+    public void sort(int[] keys, int[] payload) {
+        BenchmarkUtils.validateArrays(keys, payload);
+
+        if (variant == Variant.STANDARD) {
+            sortRange(keys, payload, 0, keys.length - 1);
+            return;
+        }
+
+        int n = keys.length;
+        for (int i = (n - 2) / variant.arity; i >= 0; i--) {
+            siftDownBottomUp(keys, payload, i, keys[i], payload[i], n, variant.arity);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            int key = keys[end];
+            int value = payload[end];
+            keys[end] = keys[0];
+            payload[end] = payload[0];
+            BenchmarkUtils.recordSwaps(1);
+            siftDownBottomUp(keys, payload, 0, key, value, end, variant.arity);
+        }
+    }
+
+    /**
+     * Key/payload version of {@link #siftDownBottomUp(int[], int, int, int, int)}.
+     */
+    private void siftDownBottomUp(int[] keys, int[] payload, int root, int key, int value,
+                                  int heapSize, int arity) {
+        int hole = root;
+
+        int child;
+        while ((child = arity * hole + 1) < heapSize) {
+            int largest = child;
+            int lastChild = Math.min(child + arity, heapSize);
+            for (int c = child + 1; c < lastChild; c++) {
+                if (BenchmarkUtils.compare(keys[c], keys[largest]) > 0) {
+                    largest = c;
+                }
+            }
+            keys[hole] = keys[largest];
+            payload[hole] = payload[largest];
+            hole = largest;
+        }
+
+        while (hole > root) {
+            int parent = (hole - 1) / arity;
+            if (BenchmarkUtils.compare(key, keys[parent]) <= 0) {
+                break;
+            }
+            keys[hole] = keys[parent];
+            payload[hole] = payload[parent];
+            hole = parent;
+        }
+        keys[hole] = key;
+        payload[hole] = value;
+    }
+
+    /**
+     * Key/payload version of {@link #sortRange(int[], int, int)}.
+     * 
+     * @param keys Keys containing the range
+     * @param payload Values moved with their keys
+     * @param low Starting index
+     * @param high Ending index
+     */
+    void sortRange(int[] keys, int[] payload, int low, int high) {
+        int n = high - low + 1;
+        for (int i = (n / 2) - 1; i >= 0; i--) {
+            heapify(keys, payload, low, n, i);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            BenchmarkUtils.swap(keys, payload, low, low + i);
+            heapify(keys, payload, low, i, 0);
+        }
+    }
+
+    /**
+     * Key/payload version of {@link #heapify(int[], int, int, int)}.
+     */
+    private void heapify(int[] keys, int[] payload, int offset, int heapSize, int rootIndex) {
+        while (true) {
+            int largest = rootIndex;
+            int leftChild = 2 * rootIndex + 1;
+            int rightChild = leftChild + 1;
+
+            if (leftChild < heapSize
+                    && BenchmarkUtils.compare(keys, offset + leftChild, offset + largest)) {
+                largest = leftChild;
+            }
+            if (rightChild < heapSize
+                    && BenchmarkUtils.compare(keys, offset + rightChild, offset + largest)) {
+                largest = rightChild;
+            }
+
+            if (largest == rootIndex) return;
+
+            BenchmarkUtils.swap(keys, payload, offset + rootIndex, offset + largest);
+            rootIndex = largest;
+        }
+    }
+
+    /**
+     * Sorts a long array; see {@link #sort(int[])}.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(long[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+
+        if (variant == Variant.STANDARD) {
+            LongSortKernels.heapSort(array);
+        } else {
+            LongSortKernels.bottomUpHeapSort(array, variant.arity);
+        }
+    }
+
+    /**
+     * Sorts a double array; see {@link #sort(int[])}.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(double[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+
+        if (variant == Variant.STANDARD) {
+            DoubleSortKernels.heapSort(array);
+        } else {
+            DoubleSortKernels.bottomUpHeapSort(array, variant.arity);
+        }
+    }
+
+    /**
+     * Sorts a float array; see {@link #sort(int[])}.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(float[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+
+        if (variant == Variant.STANDARD) {
+            FloatSortKernels.heapSort(array);
+        } else {
+            FloatSortKernels.bottomUpHeapSort(array, variant.arity);
+        }
+    }
+
+    /**
+     * Sorts a short array; see {@link #sort(int[])}.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(short[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+
+        if (variant == Variant.STANDARD) {
+            ShortSortKernels.heapSort(array);
+        } else {
+            ShortSortKernels.bottomUpHeapSort(array, variant.arity);
+        }
+    }
+
+    /**
+     * Sorts a char array; see {@link #sort(int[])}.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(char[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+
+        if (variant == Variant.STANDARD) {
+            CharSortKernels.heapSort(array);
+        } else {
+            CharSortKernels.bottomUpHeapSort(array, variant.arity);
         }
     }
 
     @Override
     public String getAlgorithmName() {
-        return "Heap Sort";
+        return variant.displayName;
     }
 
     @Override
@@ -0,0 +1,401 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+
+/**
+ * Stable merge sort that needs at most O(sqrt n) extra memory instead of MergeSort's O(n).
+ *
+ * Runs of 16 elements are binary insertion sorted, then merged bottom-up. A merge whose shorter
+ * side fits the buffer copies that side out and merges in place; a larger merge is split around
+ * a binary-searched cut, the two middle blocks are rotated past each other, and both halves are
+ * merged recursively until they fit. Without a buffer every merge is split this way down to
+ * single elements. Rotations never reorder equal keys and ties are taken from the left side,
+ * so the sort is stable.
+ */
+public class InPlaceMergeSort implements KeyPayloadSortingAlgorithm {
+
+    /**
+     * Memory budgets selectable through the constructor.
+     */
+    public enum Variant {
+        /** Buffer of ceil(sqrt n) ints; merges with a short side are linear */
+        SQRT_BUFFER("In-Place Merge Sort (sqrt n Buffer)"),
+        /** No buffer at all; every merge recurses on rotations */
+        NO_BUFFER("In-Place Merge Sort (No Buffer)");
+
+        private final String displayName;
+
+        Variant(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    /** Length of the runs binary insertion sorted before merging */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /** Memory budget used by every sort */
+    private final Variant variant;
+
+    /**
+     * Creates an in-place merge sort with a sqrt n buffer.
+     */
+    public InPlaceMergeSort() {
+        this(Variant.SQRT_BUFFER);
+    }
+
+    /**
+     * Creates an in-place merge sort with the given memory budget.
+     *
+     * @param variant Memory budget
+     * @throws IllegalArgumentException if variant is null
+     */
+    public InPlaceMergeSort(Variant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        this.variant = variant;
+    }
+
+    /**
+     * Entry point for the in-place merge sort.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+        mergeSort(array, null);
+    }
+
+    /**
+     * Sorts keys stably, moving each payload entry with its key. The payload gets its own buffer
+     * of the same size as the key buffer.
+     *
+     * @param keys Keys to be sorted
+     * @param payload Values moved with their keys
+     * @throws IllegalArgumentException if either array is null or their lengths differ
+     */
+    @Override
+    public void sort(int[] keys, int[] payload) {
+        BenchmarkUtils.validateArrays(keys, payload);
+        mergeSort(keys, payload);
+    }
+
+    /**
+     * Sorts runs, then merges runs of doubling width; widths are long so that the last pass over
+     * an array of more than 2^30 elements cannot overflow.
+     */
+    private void mergeSort(int[] keys, int[] payload) {
+        int n = keys.length;
+        if (n <= 1) return;
+
+        Merger merger = new Merger(keys, payload, bufferSize(n));
+        for (int low = 0; low < n; low += INSERTION_SORT_THRESHOLD) {
+            merger.insertionSort(low, Math.min(low + INSERTION_SORT_THRESHOLD, n));
+        }
+        for (long width = INSERTION_SORT_THRESHOLD; width < n; width *= 2) {
+            for (long low = 0; low + width < n; low += 2 * width) {
+                merger.merge((int) low, (int) (low + width), (int) Math.min(low + 2 * width, n));
+            }
+        }
+
+        BenchmarkUtils.recordComparisons(merger.comparisons);
+        BenchmarkUtils.recordSwaps(merger.moves);
+    }
+
+    /**
+     * Returns the buffer length used for an array of n elements.
+     */
+    private int bufferSize(int n) {
+        return variant == Variant.NO_BUFFER ? 0 : (int) Math.ceil(Math.sqrt(n));
+    }
+
+    /**
+     * Keys, payload and buffers of one sort, with its operation counts.
+     */
+    private static final class Merger {
+
+        private final int[] keys;
+
+        /** Payload moved with keys, or null when sorting keys only */
+        private final int[] payload;
+
+        private final int[] keyBuffer;
+
+        private final int[] payloadBuffer;
+
+        private long comparisons;
+
+        /** Elements written during shifts, merges and rotations */
+        private long moves;
+
+        Merger(int[] keys, int[] payload, int bufferSize) {
+            this.keys = keys;
+            this.payload = payload;
+            this.keyBuffer = new int[bufferSize];
+            this.payloadBuffer = payload == null ? null : new int[bufferSize];
+        }
+
+        /**
+         * Binary insertion sort of keys[low...high-1], inserting after equal keys.
+         */
+        void insertionSort(int low, int high) {
+            for (int i = low + 1; i < high; i++) {
+                int key = keys[i];
+                comparisons++;
+                if (keys[i - 1] <= key) continue;
+
+                int position = upperBound(low, i - 1, key);
+                System.arraycopy(keys, position, keys, position + 1, i - position);
+                keys[position] = key;
+                if (payload != null) {
+                    int value = payload[i];
+                    System.arraycopy(payload, position, payload, position + 1, i - position);
+                    payload[position] = value;
+                }
+                moves += i - position;
+            }
+        }
+
+        /**
+         * Merges the sorted ranges keys[low...mid-1] and keys[mid...high-1].
+         *
+         * When neither side fits the buffer, the longer side is cut in half and the other side
+         * is cut where the middle element would be inserted. Rotating the inner blocks leaves
+         * two smaller merges whose lengths are each at most three quarters of the original, so
+         * recursion depth stays logarithmic.
+         */
+        void merge(int low, int mid, int high) {
+            if (low == mid || mid == high) return;
+
+            comparisons++;
+            if (keys[mid - 1] <= keys[mid]) return; // Already in order
+
+            int leftLength = mid - low;
+            int rightLength = high - mid;
+            if (leftLength <= rightLength && leftLength <= keyBuffer.length) {
+                mergeForward(low, mid, high);
+                return;
+            }
+            if (rightLength <= keyBuffer.length) {
+                mergeBackward(low, mid, high);
+                return;
+            }
+            if (leftLength == 1 && rightLength == 1) {
+                swap(low, mid);
+                return;
+            }
+
+            int leftCut;
+            int rightCut;
+            if (leftLength > rightLength) {
+                leftCut = low + leftLength / 2;
+                rightCut = lowerBound(mid, high - 1, keys[leftCut]);
+            } else {
+                rightCut = mid + rightLength / 2;
+                leftCut = upperBound(low, mid - 1, keys[rightCut]);
+            }
+
+            int newMid = rotate(leftCut, mid, rightCut);
+            merge(low, leftCut, newMid);
+            merge(newMid, rightCut, high);
+        }
+
+        /**
+         * Copies the left side into the buffer and merges front to back, taking ties from the
+         * buffer.
+         */
+        private void mergeForward(int low, int mid, int high) {
+            int length = mid - low;
+            toBuffer(low, length);
+
+            int i = 0;
+            int j = mid;
+            int out = low;
+            while (i < length && j < high) {
+                comparisons++;
+                if (keys[j] < keyBuffer[i]) {
+                    if (payload != null) payload[out] = payload[j];
+                    keys[out++] = keys[j++];
+                } else {
+                    if (payload != null) payload[out] = payloadBuffer[i];
+                    keys[out++] = keyBuffer[i++];
+                }
+            }
+            System.arraycopy(keyBuffer, i, keys, out, length - i);
+            if (payload != null) System.arraycopy(payloadBuffer, i, payload, out, length - i);
+            moves += length + (j - mid);
+        }
+
+        /**
+         * Copies the right side into the buffer and merges back to front, taking ties from the
+         * buffer.
+         */
+        private void mergeBackward(int low, int mid, int high) {
+            int length = high - mid;
+            toBuffer(mid, length);
+
+            int i = mid - 1;
+            int j = length - 1;
+            int out = high - 1;
+            while (i >= low && j >= 0) {
+                comparisons++;
+                if (keys[i] > keyBuffer[j]) {
+                    if (payload != null) payload[out] = payload[i];
+                    keys[out--] = keys[i--];
+                } else {
+                    if (payload != null) payload[out] = payloadBuffer[j];
+                    keys[out--] = keyBuffer[j--];
+                }
+            }
+            System.arraycopy(keyBuffer, 0, keys, low, j + 1);
+            if (payload != null) System.arraycopy(payloadBuffer, 0, payload, low, j + 1);
+            moves += length + (mid - 1 - i);
+        }
+
+        /**
+         * Exchanges the blocks keys[low...mid-1] and keys[mid...high-1] and returns where the
+         * first block now starts. The shorter block goes through the buffer when it fits;
+         * otherwise the rotation is done with three reversals.
+         */
+        private int rotate(int low, int mid, int high) {
+            int leftLength = mid - low;
+            int rightLength = high - mid;
+            if (leftLength == 0 || rightLength == 0) return low + rightLength;
+
+            if (leftLength <= rightLength && leftLength <= keyBuffer.length) {
+                toBuffer(low, leftLength);
+                move(mid, low, rightLength);
+                fromBuffer(low + rightLength, leftLength);
+            } else if (rightLength <= keyBuffer.length) {
+                toBuffer(mid, rightLength);
+                move(low, low + rightLength, leftLength);
+                fromBuffer(low, rightLength);
+            } else {
+                reverse(low, mid - 1);
+                reverse(mid, high - 1);
+                reverse(low, high - 1);
+            }
+            return low + rightLength;
+        }
+
+        private void toBuffer(int from, int length) {
+            System.arraycopy(keys, from, keyBuffer, 0, length);
+            if (payload != null) System.arraycopy(payload, from, payloadBuffer, 0, length);
+            moves += length;
+        }
+
+        private void fromBuffer(int to, int length) {
+            System.arraycopy(keyBuffer, 0, keys, to, length);
+            if (payload != null) System.arraycopy(payloadBuffer, 0, payload, to, length);
+            moves += length;
+        }
+
+        private void move(int from, int to, int length) {
+            System.arraycopy(keys, from, keys, to, length);
+            if (payload != null) System.arraycopy(payload, from, payload, to, length);
+            moves += length;
+        }
+
+        private void reverse(int low, int high) {
+            moves += high - low + 1;
+            while (low < high) {
+                swap(low++, high--);
+            }
+        }
+
+        private void swap(int i, int j) {
+            int key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+            if (payload != null) {
+                int value = payload[i];
+                payload[i] = payload[j];
+                payload[j] = value;
+            }
+        }
+
+        /**
+         * Returns the first index in keys[low...high] whose key is not less than key, or high + 1.
+         */
+        private int lowerBound(int low, int high, int key) {
+            int left = low;
+            int right = high + 1;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                comparisons++;
+                if (keys[mid] < key) {
+                    left = mid + 1;
+                } else {
+                    right = mid;
+                }
+            }
+            return left;
+        }
+
+        /**
+         * Returns the first index in keys[low...high] whose key is greater than key, or high + 1.
+         */
+        private int upperBound(int low, int high, int key) {
+            int left = low;
+            int right = high + 1;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                comparisons++;
+                if (keys[mid] <= key) {
+                    left = mid + 1;
+                } else {
+                    right = mid;
+                }
+            }
+            return left;
+        }
+    }
+
+    /**
+     * Returns the memory budget.
+     *
+     * @return Sort variant
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return variant.displayName;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log² n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return variant == Variant.NO_BUFFER ? "O(log n)" : "O(√n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true;
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Sorted or nearly sorted input - merges of ordered runs are skipped after one comparison";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return variant == Variant.NO_BUFFER
+                ? "Random input - every merge recurses down to rotations of single elements"
+                : "Random input on huge arrays - merges wider than the buffer are split by rotations";
+    }
+}
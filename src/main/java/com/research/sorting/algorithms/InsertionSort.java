@@ -3,7 +3,46 @@ package com.research.sorting.algorithms;
 import com.research.sorting.utils.BenchmarkUtils;
 
 
-public class InsertionSort implements SortingAlgorithm {
+public class InsertionSort implements PrimitiveSortingAlgorithm {
+    
+    /**
+     * Insertion strategies selectable through the constructor.
+     */
+    public enum Variant {
+        /** Scan left one element at a time, shifting as it goes */
+        LINEAR("Insertion Sort"),
+        /** Binary search for the slot, then shift the block with one System.arraycopy */
+        BINARY("Binary Insertion Sort");
+        
+        private final String displayName;
+        
+        Variant(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+    
+    /** Strategy used by {@link #sort(int[])} */
+    private final Variant variant;
+    
+    /**
+     * Creates the classic linear insertion sort.
+     */
+    public InsertionSort() {
+        this(Variant.LINEAR);
+    }
+    
+    /**
+     * Creates an insertion sort using the given strategy.
+     * 
+     * @param variant Insertion strategy
+     * @throws IllegalArgumentException if variant is null
+     */
+    public InsertionSort(Variant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        this.variant = variant;
+    }
     
     /**
      * Sorts the array using insertion sort algorithm.
@@ -28,6 +67,11 @@ public class InsertionSort implements SortingAlgorithm {
         // Handle trivial cases
         if (n <= 1) return;
         
+        if (variant == Variant.BINARY) {
+            binaryInsertionSort(array, 0, n);
+            return;
+        }
+        
         // Insertion sort implementation
         for (int i = 1; i < n; i++) {
             int currentElement = array[i];  // Element to be inserted
@@ -50,6 +94,59 @@ public class InsertionSort implements SortingAlgorithm {
         }
     }
     
+    /**
+     * Binary insertion sort of array[begin...end-1].
+     * 
+     * Each element is first compared with its left neighbour, so already ordered
+     * elements cost one comparison and sorted input stays O(n). Otherwise the slot
+     * is found by binary search over the sorted prefix, O(log n) comparisons, and
+     * the larger elements are moved up by one block copy. Shifted elements are
+     * recorded as swaps in bulk, matching the linear variant's totals.
+     * 
+     * Package-private so hybrid sorts can use it for their small ranges.
+     * 
+     * @param array Array containing the range
+     * @param begin First index of the range
+     * @param end One past the last index of the range
+     */
+    static void binaryInsertionSort(int[] array, int begin, int end) {
+        long shifts = 0;
+        
+        for (int i = begin + 1; i < end; i++) {
+            int current = array[i];
+            
+            // Already in place: the common case for nearly sorted input
+            if (BenchmarkUtils.compare(array[i - 1], current) <= 0) continue;
+            
+            // Insert after any equal elements to stay stable
+            int left = begin;
+            int right = i - 1;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (BenchmarkUtils.compare(array[mid], current) > 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            
+            System.arraycopy(array, left, array, left + 1, i - left);
+            array[left] = current;
+            shifts += i - left;
+        }
+        
+        BenchmarkUtils.recordSwaps(shifts);
+    }
+    
+    /**
+     * Returns the insertion strategy used by {@link #sort(int[])}.
+     * 
+     * @return Insertion sort variant
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+    
     /**
      * Alternative implementation with explicit swap counting.
      * This version uses actual swaps for clearer benchmark metrics.
@@ -71,6 +168,96 @@ public class InsertionSort implements SortingAlgorithm {
         }
     }
     
+    /**
+     * Sorts a long array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(long[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        if (variant == Variant.BINARY) {
+            LongSortKernels.binaryInsertionSort(array);
+        } else {
+            LongSortKernels.insertionSort(array);
+        }
+    }
+    
+    /**
+     * Sorts a double array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(double[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        if (variant == Variant.BINARY) {
+            DoubleSortKernels.binaryInsertionSort(array);
+        } else {
+            DoubleSortKernels.insertionSort(array);
+        }
+    }
+    
+    /**
+     * Sorts a float array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(float[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        if (variant == Variant.BINARY) {
+            FloatSortKernels.binaryInsertionSort(array);
+        } else {
+            FloatSortKernels.insertionSort(array);
+        }
+    }
+    
+    /**
+     * Sorts a short array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(short[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        if (variant == Variant.BINARY) {
+            ShortSortKernels.binaryInsertionSort(array);
+        } else {
+            ShortSortKernels.insertionSort(array);
+        }
+    }
+    
+    /**
+     * Sorts a char array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(char[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        if (variant == Variant.BINARY) {
+            CharSortKernels.binaryInsertionSort(array);
+        } else {
+            CharSortKernels.insertionSort(array);
+        }
+    }
+    
     /**
      * Returns the name of this sorting algorithm.
      * 
@@ -78,7 +265,7 @@ public class InsertionSort implements SortingAlgorithm {
      */
     @Override
     public String getAlgorithmName() {
-        return "Insertion Sort";
+        return variant.displayName;
     }
     
     /**
@@ -88,7 +275,7 @@ public class InsertionSort implements SortingAlgorithm {
      */
     @Override
     public String getTimeComplexity() {
-        return "O(n²)";
+        return "O(n²)"; // Binary variant: O(n log n) comparisons, still O(n²) moves
     }
     
     /**
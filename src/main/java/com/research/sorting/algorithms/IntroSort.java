@@ -0,0 +1,142 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+
+public class IntroSort implements SortingAlgorithm {
+
+    /** Subarrays at or below this size are finished with insertion sort */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /** Fallback used once the recursion depth limit is reached */
+    private final HeapSort heapSort = new HeapSort();
+
+    /**
+     * Entry point for Intro Sort algorithm.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+
+        if (array.length <= 1)
+            return;
+
+        introSort(array, 0, array.length - 1, depthLimit(array.length));
+    }
+
+    /**
+     * Returns the number of partitioning levels allowed before switching to heap sort.
+     *
+     * @param n Number of elements
+     * @return 2·floor(log2(n))
+     */
+    static int depthLimit(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Quick sort loop with a depth budget.
+     *
+     * Recurses only into the smaller partition and loops on the larger one, so the stack never
+     * holds more than O(log n) frames. Each partition spends one unit of depth; when the budget
+     * runs out the range is handed to heap sort.
+     *
+     * @param array Array to sort
+     * @param low Starting index
+     * @param high Ending index
+     * @param depthLimit Remaining partitioning levels
+     */
+    private void introSort(int[] array, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort.sortRange(array, low, high);
+                return;
+            }
+            depthLimit--;
+
+            int pivotIndex = hoarePartition(array, low, high);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                introSort(array, low, pivotIndex, depthLimit);
+                low = pivotIndex + 1;
+            } else {
+                introSort(array, pivotIndex + 1, high, depthLimit);
+                high = pivotIndex;
+            }
+        }
+
+        InsertionSort.binaryInsertionSort(array, low, high + 1);
+    }
+
+    /**
+     * Hoare partition around the median of the first, middle and last elements.
+     *
+     * The median is moved to array[low] so the scan has the termination guarantee of a
+     * pivot taken from the first element.
+     */
+    private int hoarePartition(int[] array, int low, int high) {
+        int mid = low + (high - low) / 2;
+
+        // Order array[low] <= array[mid] <= array[high]
+        if (BenchmarkUtils.compare(array, low, mid)) BenchmarkUtils.swap(array, low, mid);
+        if (BenchmarkUtils.compare(array, mid, high)) BenchmarkUtils.swap(array, mid, high);
+        if (BenchmarkUtils.compare(array, low, mid)) BenchmarkUtils.swap(array, low, mid);
+
+        BenchmarkUtils.swap(array, low, mid);
+        int pivot = array[low];
+        int i = low - 1;
+        int j = high + 1;
+
+        while (true) {
+            do {
+                i++;
+            } while (BenchmarkUtils.compare(pivot, array[i]) > 0);
+
+            do {
+                j--;
+            } while (BenchmarkUtils.compare(array[j], pivot) > 0);
+
+            if (i >= j)
+                return j;
+
+            BenchmarkUtils.swap(array, i, j);
+        }
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Intro Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false; // Neither partitioning nor heap sort preserve order of equal elements
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true; // Stack depth is bounded by O(log n)
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Random array - median-of-three pivots split evenly and heap sort is never needed";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Median-of-three killer sequences - depth limit triggers heap sort, still O(n log n)";
+    }
+}
@@ -0,0 +1,373 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Merges k sorted int arrays, or int runs held in memory segments, into one sorted output.
+ *
+ * The loser tree merge writes every element once and spends about log2(k) comparisons on it.
+ * Merging the runs pairwise, as repeated calls to {@code MergeSort.merge} would, makes about the
+ * same number of comparisons but copies every element on each of the log2(k) rounds.
+ */
+public class KWayMerger {
+
+    /**
+     * Merge strategies selectable through the constructor.
+     */
+    public enum Variant {
+        /** Single pass driven by a tournament tree of losers */
+        LOSER_TREE("Loser Tree Merge"),
+        /** Rounds of 2-way merges of adjacent runs, ping-ponging between two buffers */
+        PAIRWISE("Pairwise Merge");
+
+        private final String displayName;
+
+        Variant(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    /** Element layout of merged segments, as in {@link OffHeapSort} */
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+
+    /** Strategy used by every merge */
+    private final Variant variant;
+
+    /**
+     * Creates a loser tree merger.
+     */
+    public KWayMerger() {
+        this(Variant.LOSER_TREE);
+    }
+
+    /**
+     * Creates a merger using the given strategy.
+     *
+     * @param variant Merge strategy
+     * @throws IllegalArgumentException if variant is null
+     */
+    public KWayMerger(Variant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        this.variant = variant;
+    }
+
+    /**
+     * Merges sorted runs into a new array.
+     *
+     * @param runs Runs each sorted in ascending order; empty runs are allowed
+     * @return New sorted array with every element of every run
+     * @throws IllegalArgumentException if runs or any run is null
+     */
+    public int[] merge(int[]... runs) {
+        int[] output = new int[totalLength(runs)];
+        merge(runs, output, 0);
+        return output;
+    }
+
+    /**
+     * Merges sorted runs into output starting at offset.
+     *
+     * Runs that are not sorted leave the output in unspecified order.
+     *
+     * @param runs Runs each sorted in ascending order; empty runs are allowed
+     * @param output Array receiving the merged elements
+     * @param offset Index in output of the first merged element
+     * @throws IllegalArgumentException if runs, any run or output is null, or output has fewer
+     *                                  than offset plus the total run length elements
+     */
+    public void merge(int[][] runs, int[] output, int offset) {
+        long total = totalLength(runs);
+        BenchmarkUtils.validateArray(output);
+        if (offset < 0 || offset + total > output.length) {
+            throw new IllegalArgumentException("Output of length " + output.length
+                    + " cannot hold " + total + " elements at offset " + offset);
+        }
+
+        if (variant == Variant.PAIRWISE) {
+            pairwiseMerge(runs, output, offset, (int) total);
+        } else {
+            loserTreeMerge(runs, output, offset, (int) total);
+        }
+    }
+
+    /**
+     * Merges sorted runs held in memory segments into output starting at element index offset.
+     *
+     * Segments are addressed with long indices as {@code ValueLayout.JAVA_INT}, native byte
+     * order and 4-byte aligned, like {@link OffHeapSort}, so off-heap runs can be merged without
+     * copying them into arrays and the total may exceed 2^31 elements. PAIRWISE allocates its
+     * two buffers off-heap for the duration of the merge. Runs that are not sorted leave the
+     * output in unspecified order.
+     *
+     * @param runs Runs each sorted in ascending order; empty runs are allowed
+     * @param output Segment receiving the merged elements; must not overlap any run
+     * @param offset Element index in output of the first merged element
+     * @throws IllegalArgumentException if runs, any run or output is null, a segment is not a
+     *                                  whole number of ints, output is read-only, or output
+     *                                  has fewer than offset plus the total run length elements
+     */
+    public void merge(MemorySegment[] runs, MemorySegment output, long offset) {
+        long total = totalLength(runs);
+        BenchmarkUtils.validateSegment(output);
+        if (offset < 0 || offset + total > output.byteSize() / Integer.BYTES) {
+            throw new IllegalArgumentException("Output of " + output.byteSize() / Integer.BYTES
+                    + " ints cannot hold " + total + " elements at offset " + offset);
+        }
+
+        if (variant == Variant.PAIRWISE) {
+            pairwiseMerge(runs, output, offset, total);
+        } else {
+            loserTreeMerge(runs, output, offset, total);
+        }
+    }
+
+    /**
+     * Repeatedly writes the winner of the loser tree and replays its run's next element.
+     */
+    private static void loserTreeMerge(int[][] runs, int[] output, int offset, int total) {
+        int k = runs.length;
+        int[] heads = new int[k];
+        int[] cursors = new int[k];
+        boolean[] exhausted = new boolean[k];
+        for (int run = 0; run < k; run++) {
+            exhausted[run] = runs[run].length == 0;
+            if (!exhausted[run]) heads[run] = runs[run][0];
+        }
+
+        LoserTree tree = new LoserTree(heads, exhausted);
+        for (int out = offset; out < offset + total; out++) {
+            int run = tree.winner();
+            output[out] = tree.winnerValue();
+
+            int next = ++cursors[run];
+            if (next < runs[run].length) {
+                tree.replaceWinner(runs[run][next]);
+            } else {
+                tree.removeWinner();
+            }
+        }
+
+        BenchmarkUtils.recordComparisons(tree.getComparisons());
+    }
+
+    /**
+     * Segment version of {@link #loserTreeMerge(int[][], int[], int, int)}.
+     */
+    private static void loserTreeMerge(MemorySegment[] runs, MemorySegment output, long offset,
+                                       long total) {
+        int k = runs.length;
+        int[] heads = new int[k];
+        long[] cursors = new long[k];
+        long[] lengths = new long[k];
+        boolean[] exhausted = new boolean[k];
+        for (int run = 0; run < k; run++) {
+            lengths[run] = runs[run].byteSize() / Integer.BYTES;
+            exhausted[run] = lengths[run] == 0;
+            if (!exhausted[run]) heads[run] = runs[run].getAtIndex(INT, 0);
+        }
+
+        LoserTree tree = new LoserTree(heads, exhausted);
+        for (long out = offset; out < offset + total; out++) {
+            int run = tree.winner();
+            output.setAtIndex(INT, out, tree.winnerValue());
+
+            long next = ++cursors[run];
+            if (next < lengths[run]) {
+                tree.replaceWinner(runs[run].getAtIndex(INT, next));
+            } else {
+                tree.removeWinner();
+            }
+        }
+
+        BenchmarkUtils.recordComparisons(tree.getComparisons());
+    }
+
+    /**
+     * Concatenates the runs into a buffer and merges adjacent runs in rounds until one is left,
+     * ending the last round in output.
+     */
+    private static void pairwiseMerge(int[][] runs, int[] output, int offset, int total) {
+        int k = runs.length;
+        int[] bounds = new int[k + 1];
+        int[] source = new int[total];
+        for (int run = 0; run < k; run++) {
+            System.arraycopy(runs[run], 0, source, bounds[run], runs[run].length);
+            bounds[run + 1] = bounds[run] + runs[run].length;
+        }
+
+        int[] target = new int[total];
+        long comparisons = 0;
+        while (k > 1) {
+            int merged = 0;
+            for (int run = 0; run < k; run += 2) {
+                int low = bounds[run];
+                int mid = bounds[Math.min(run + 1, k)];
+                int high = bounds[Math.min(run + 2, k)];
+                comparisons += mergeAdjacent(source, low, mid, high, target);
+                bounds[merged++] = low;
+            }
+            bounds[merged] = total;
+            k = merged;
+
+            int[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        System.arraycopy(source, 0, output, offset, total);
+        BenchmarkUtils.recordComparisons(comparisons);
+    }
+
+    /**
+     * Segment version of {@link #pairwiseMerge(int[][], int[], int, int)}, with both buffers
+     * allocated off-heap.
+     */
+    private static void pairwiseMerge(MemorySegment[] runs, MemorySegment output, long offset,
+                                      long total) {
+        int k = runs.length;
+        long[] bounds = new long[k + 1];
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment source = arena.allocate(total * Integer.BYTES, Integer.BYTES);
+            for (int run = 0; run < k; run++) {
+                MemorySegment.copy(runs[run], 0, source, bounds[run] * Integer.BYTES,
+                        runs[run].byteSize());
+                bounds[run + 1] = bounds[run] + runs[run].byteSize() / Integer.BYTES;
+            }
+
+            MemorySegment target = arena.allocate(total * Integer.BYTES, Integer.BYTES);
+            long comparisons = 0;
+            while (k > 1) {
+                int merged = 0;
+                for (int run = 0; run < k; run += 2) {
+                    long low = bounds[run];
+                    long mid = bounds[Math.min(run + 1, k)];
+                    long high = bounds[Math.min(run + 2, k)];
+                    comparisons += mergeAdjacent(source, low, mid, high, target);
+                    bounds[merged++] = low;
+                }
+                bounds[merged] = total;
+                k = merged;
+
+                MemorySegment temp = source;
+                source = target;
+                target = temp;
+            }
+
+            MemorySegment.copy(source, 0, output, offset * Integer.BYTES, total * Integer.BYTES);
+            BenchmarkUtils.recordComparisons(comparisons);
+        }
+    }
+
+    /**
+     * Merges source[low...mid-1] and source[mid...high-1] into the same range of target,
+     * preferring the left run on ties, and returns the comparisons made.
+     */
+    private static long mergeAdjacent(int[] source, int low, int mid, int high, int[] target) {
+        long comparisons = 0;
+        int i = low;
+        int j = mid;
+        int out = low;
+
+        while (i < mid && j < high) {
+            comparisons++;
+            target[out++] = source[j] < source[i] ? source[j++] : source[i++];
+        }
+        System.arraycopy(source, i, target, out, mid - i);
+        System.arraycopy(source, j, target, out + mid - i, high - j);
+        return comparisons;
+    }
+
+    /**
+     * Segment version of {@link #mergeAdjacent(int[], int, int, int, int[])}.
+     */
+    private static long mergeAdjacent(MemorySegment source, long low, long mid, long high,
+                                      MemorySegment target) {
+        long comparisons = 0;
+        long i = low;
+        long j = mid;
+        long out = low;
+
+        while (i < mid && j < high) {
+            comparisons++;
+            int left = source.getAtIndex(INT, i);
+            int right = source.getAtIndex(INT, j);
+            if (right < left) {
+                target.setAtIndex(INT, out++, right);
+                j++;
+            } else {
+                target.setAtIndex(INT, out++, left);
+                i++;
+            }
+        }
+        MemorySegment.copy(source, i * Integer.BYTES, target, out * Integer.BYTES,
+                (mid - i) * Integer.BYTES);
+        MemorySegment.copy(source, j * Integer.BYTES, target, (out + mid - i) * Integer.BYTES,
+                (high - j) * Integer.BYTES);
+        return comparisons;
+    }
+
+    /**
+     * Validates the runs and returns their total length.
+     */
+    private static int totalLength(int[][] runs) {
+        if (runs == null) {
+            throw new IllegalArgumentException("Runs cannot be null");
+        }
+
+        long total = 0;
+        for (int[] run : runs) {
+            BenchmarkUtils.validateArray(run);
+            total += run.length;
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Runs hold more elements than an array: " + total);
+        }
+        return (int) total;
+    }
+
+    /**
+     * Validates the segment runs and returns their total length in ints.
+     */
+    private static long totalLength(MemorySegment[] runs) {
+        if (runs == null) {
+            throw new IllegalArgumentException("Runs cannot be null");
+        }
+
+        long total = 0;
+        for (MemorySegment run : runs) {
+            if (run == null) {
+                throw new IllegalArgumentException("Runs cannot be null");
+            }
+            if (run.byteSize() % Integer.BYTES != 0) {
+                throw new IllegalArgumentException(
+                        "Run is not a whole number of ints: " + run.byteSize() + " bytes");
+            }
+            total += run.byteSize() / Integer.BYTES;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the merge strategy.
+     *
+     * @return Merge variant
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Returns the name of the merge strategy, used in benchmark results.
+     *
+     * @return Strategy name
+     */
+    public String getAlgorithmName() {
+        return variant.displayName;
+    }
+}
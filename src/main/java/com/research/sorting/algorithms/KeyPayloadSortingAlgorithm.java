@@ -0,0 +1,43 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+
+/**
+ * A sorting algorithm that can carry an int payload alongside each int key.
+ *
+ * Records sorted by an int column can then stay in two parallel int arrays (8 bytes per
+ * record) instead of being boxed into objects. The payload moves in the same passes as the
+ * keys; stable algorithms keep the payload order of equal keys.
+ */
+public interface KeyPayloadSortingAlgorithm extends SortingAlgorithm {
+
+    /**
+     * Sorts keys in ascending order and applies the same permutation to payload.
+     *
+     * @param keys Keys to be sorted
+     * @param payload Values moved with their keys; same length as keys
+     * @throws IllegalArgumentException if either array is null or their lengths differ
+     */
+    void sort(int[] keys, int[] payload);
+
+    /**
+     * Returns the permutation that sorts keys, leaving keys unchanged.
+     *
+     * Element i of the result is the index in keys of the i-th smallest key. It is computed by
+     * sorting a copy of keys with the identity permutation as payload.
+     *
+     * @param keys Keys to rank
+     * @return Indices of keys in sorted order
+     * @throws IllegalArgumentException if keys is null
+     */
+    default int[] argsort(int[] keys) {
+        BenchmarkUtils.validateArray(keys);
+
+        int[] permutation = new int[keys.length];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = i;
+        }
+        sort(keys.clone(), permutation);
+        return permutation;
+    }
+}
@@ -0,0 +1,127 @@
+package com.research.sorting.algorithms;
+
+/**
+ * Tournament tree over k sorted sources that finds the smallest current element in about
+ * log2(k) comparisons per element.
+ *
+ * Each internal node stores the loser of the match played there, so replacing the winner only
+ * replays the matches on its path to the root, one per level. Nodes hold the element in the
+ * high 32 bits and the source index in the low 32 bits of a long: the source of any node is
+ * known without a lookup, ties go to the lower source index (so merges are stable across
+ * sources), and each match is a branch-free min/max. Exhausted sources hold Long.MAX_VALUE,
+ * which loses to every element.
+ */
+final class LoserTree {
+
+    /** Node value of a source with no elements left */
+    private static final long EXHAUSTED = Long.MAX_VALUE;
+
+    /** nodes[0] holds the overall winner, nodes[1...k-1] the loser of each internal match */
+    private final long[] nodes;
+
+    /** Number of sources; the leaf of source s is node k + s */
+    private final int k;
+
+    /** Matches played so far */
+    private long comparisons;
+
+    /**
+     * Builds the tree from the first element of every source by playing every match once.
+     *
+     * @param heads First element of each source
+     * @param exhausted Sources that are empty from the start
+     */
+    LoserTree(int[] heads, boolean[] exhausted) {
+        this.k = heads.length;
+        this.nodes = new long[Math.max(1, k)];
+
+        // Winners of internal nodes are kept until their parent's match has been played
+        long[] winners = new long[Math.max(1, k)];
+        for (int node = k - 1; node >= 1; node--) {
+            long left = 2 * node >= k ? leaf(heads, exhausted, 2 * node - k) : winners[2 * node];
+            long right = 2 * node + 1 >= k
+                    ? leaf(heads, exhausted, 2 * node + 1 - k) : winners[2 * node + 1];
+            winners[node] = Math.min(left, right);
+            nodes[node] = Math.max(left, right);
+        }
+        comparisons += Math.max(0, k - 1);
+        nodes[0] = k > 1 ? winners[1] : k == 1 ? leaf(heads, exhausted, 0) : EXHAUSTED;
+    }
+
+    /**
+     * Returns whether every source is exhausted.
+     *
+     * @return true if there is no winner left
+     */
+    boolean isEmpty() {
+        return nodes[0] == EXHAUSTED;
+    }
+
+    /**
+     * Returns the source holding the smallest current element.
+     *
+     * @return Index of the winning source; undefined once the tree is empty
+     */
+    int winner() {
+        return (int) nodes[0];
+    }
+
+    /**
+     * Returns the smallest current element.
+     *
+     * @return Element of the winning source; undefined once the tree is empty
+     */
+    int winnerValue() {
+        return (int) (nodes[0] >> 32);
+    }
+
+    /**
+     * Replaces the winner by the next element of the same source and replays its matches.
+     *
+     * @param value Next element of the winning source, not smaller than the one it replaces
+     */
+    void replaceWinner(int value) {
+        int source = winner();
+        replay(source, key(value, source));
+    }
+
+    /**
+     * Marks the winning source as exhausted and replays its matches.
+     */
+    void removeWinner() {
+        replay(winner(), EXHAUSTED);
+    }
+
+    /**
+     * Returns the matches played since construction.
+     *
+     * @return Comparison count
+     */
+    long getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * Plays the new node value of a source up from its leaf: the smaller value moves on, the
+     * larger stays as the node's loser.
+     */
+    private void replay(int source, long value) {
+        int levels = 0;
+        for (int node = (source + k) >>> 1; node > 0; node >>>= 1) {
+            long loser = nodes[node];
+            nodes[node] = Math.max(loser, value);
+            value = Math.min(loser, value);
+            levels++;
+        }
+        nodes[0] = value;
+        comparisons += levels;
+    }
+
+    private static long leaf(int[] heads, boolean[] exhausted, int source) {
+        return exhausted[source] ? EXHAUSTED : key(heads[source], source);
+    }
+
+    private static long key(int value, int source) {
+        return ((long) value << 32) | source;
+    }
+}
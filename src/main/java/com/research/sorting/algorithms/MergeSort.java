@@ -1,8 +1,56 @@
 package com.research.sorting.algorithms;
 
 import com.research.sorting.utils.BenchmarkUtils;
+import java.util.Arrays;
 
-public class MergeSort implements SortingAlgorithm {
+public class MergeSort implements PrimitiveSortingAlgorithm, KeyPayloadSortingAlgorithm {
+    
+    /**
+     * Merge strategies selectable through the constructor.
+     */
+    public enum Variant {
+        /** Classic recursive merge sort, allocating temporaries on every merge */
+        TOP_DOWN("Merge Sort"),
+        /** Recursive merge sort alternating between the array and one scratch buffer */
+        PING_PONG("Merge Sort (Ping-Pong)"),
+        /** Iterative merge sort doubling run width each pass over one scratch buffer */
+        BOTTOM_UP("Merge Sort (Bottom-Up)"),
+        /**
+         * Bottom-up merge sort whose first passes are replaced by SIMD sorting networks. The
+         * vector kernels are int-only, so other key types and key/payload pairs are sorted
+         * with the TOP_DOWN kernels.
+         */
+        SIMD("Merge Sort (SIMD)");
+        
+        private final String displayName;
+        
+        Variant(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+    
+    /** Strategy used by {@link #sort(int[])} */
+    private final Variant variant;
+    
+    /**
+     * Creates the classic top-down merge sort.
+     */
+    public MergeSort() {
+        this(Variant.TOP_DOWN);
+    }
+    
+    /**
+     * Creates a merge sort using the given strategy.
+     * 
+     * @param variant Merge strategy
+     * @throws IllegalArgumentException if variant is null
+     */
+    public MergeSort(Variant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        this.variant = variant;
+    }
     
     /**
      * Entry point for Merge Sort algorithm.
@@ -12,6 +60,20 @@ public class MergeSort implements SortingAlgorithm {
      */
     @Override
     public void sort(int[] array) {
+        switch (variant) {
+            case PING_PONG:
+                pingPongSort(array);
+                return;
+            case BOTTOM_UP:
+                bottomUpSort(array);
+                return;
+            case SIMD:
+                simdSort(array);
+                return;
+            default:
+                break;
+        }
+        
         BenchmarkUtils.validateArray(array);
         
         if (array.length <= 1) return;
@@ -20,6 +82,15 @@ public class MergeSort implements SortingAlgorithm {
         mergeSort(array, 0, array.length - 1);
     }
     
+    /**
+     * Returns the merge strategy used by {@link #sort(int[])}.
+     * 
+     * @return Merge variant
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+    
     /**
      * Recursive Merge Sort implementation.
      * 
@@ -32,7 +103,7 @@ public class MergeSort implements SortingAlgorithm {
      * @param left Starting index
      * @param right Ending index
      */
-    private void mergeSort(int[] array, int left, int right) {
+    void mergeSort(int[] array, int left, int right) {
         if (left < right) {
             // Find middle point to divide array into two halves
             int mid = left + (right - left) / 2; // Prevents integer overflow
@@ -57,7 +128,7 @@ public class MergeSort implements SortingAlgorithm {
      * @param mid Ending index of first subarray
      * @param right Ending index of second subarray
      */
-    private void merge(int[] array, int left, int mid, int right) {
+    void merge(int[] array, int left, int mid, int right) {
         // Calculate sizes of two subarrays to be merged
         int leftSize = mid - left + 1;
         int rightSize = right - mid;
@@ -120,8 +191,8 @@ public class MergeSort implements SortingAlgorithm {
     private void optimizedMergeSort(int[] array, int left, int right, int threshold) {
         if (left < right) {
             if (right - left + 1 <= threshold) {
-                // Use insertion sort for small arrays
-                insertionSort(array, left, right);
+                // Use binary insertion sort for small arrays
+                InsertionSort.binaryInsertionSort(array, left, right + 1);
             } else {
                 int mid = left + (right - left) / 2;
                 optimizedMergeSort(array, left, mid, threshold);
@@ -132,24 +203,408 @@ public class MergeSort implements SortingAlgorithm {
     }
     
     /**
-     * Insertion sort for small subarrays in hybrid approach.
+     * Allocation-free merge sort using a single scratch buffer.
+     * 
+     * The buffer is allocated once and the roles of array and buffer swap at each
+     * recursion level, so every merge writes straight into its destination instead
+     * of copying both halves into new temporaries first.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    public void pingPongSort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        // Buffer starts as a copy so either side can serve as the source at any level
+        int[] buffer = BenchmarkUtils.copyArray(array);
+        pingPongMergeSort(buffer, array, 0, array.length - 1);
+    }
+    
+    /**
+     * Sorts source[left...right] into target[left...right].
+     * 
+     * Both arrays hold the same elements in that range on entry. The halves are
+     * sorted into source (using target as scratch) and then merged into target.
+     */
+    private void pingPongMergeSort(int[] source, int[] target, int left, int right) {
+        if (left >= right) return;
+        
+        int mid = left + (right - left) / 2;
+        pingPongMergeSort(target, source, left, mid);
+        pingPongMergeSort(target, source, mid + 1, right);
+        mergeInto(source, target, left, mid, right);
+    }
+    
+    /**
+     * Iterative (bottom-up) merge sort using a single scratch buffer.
+     * 
+     * Runs of width 1, 2, 4, ... are merged pass by pass, alternating the
+     * direction of each pass between array and buffer. No recursion is used.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
      */
-    private void insertionSort(int[] array, int left, int right) {
-        for (int i = left + 1; i <= right; i++) {
-            int key = array[i];
-            int j = i - 1;
+    public void bottomUpSort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        mergePasses(array, 1);
+    }
+    
+    /**
+     * Bottom-up merge sort whose leaves are sorted by a vectorized sorting network.
+     * 
+     * Blocks of 64 elements are sorted in registers first, which replaces the six
+     * narrowest merge passes; merging then continues bottom-up from width 64.
+     * Falls back to insertion sort for the blocks when the hardware has fewer than
+     * four int lanes per vector.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    public void simdSort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+        int n = array.length;
+        if (n <= 1) return;
+        
+        int blockSize = SimdSortKernels.MAX_NETWORK_SIZE;
+        int[] scratch = new int[SimdSortKernels.scratchLength()];
+        for (int left = 0; left < n; left += blockSize) {
+            int right = Math.min(left + blockSize, n);
+            if (SimdSortKernels.ACCELERATED) {
+                SimdSortKernels.sortSmall(array, left, right, scratch);
+            } else {
+                InsertionSort.binaryInsertionSort(array, left, right);
+            }
+        }
+        
+        mergePasses(array, blockSize);
+    }
+    
+    /**
+     * Merges sorted runs of the given width pass by pass until the array is one run.
+     * 
+     * @param array Array made of sorted runs of length width (the last may be shorter)
+     * @param initialWidth Length of the sorted runs
+     */
+    private void mergePasses(int[] array, int initialWidth) {
+        int n = array.length;
+        int[] source = array;
+        int[] target = new int[n];
+        
+        for (int width = initialWidth; width < n; width *= 2) {
+            for (int left = 0; left < n; left += 2 * width) {
+                int mid = Math.min(left + width - 1, n - 1);
+                int right = Math.min(left + 2 * width - 1, n - 1);
+                mergeInto(source, target, left, mid, right);
+            }
             
-            while (j >= left && BenchmarkUtils.compare(array[j], key) > 0) {
-                array[j + 1] = array[j];
-                j--;
+            // This pass's output becomes the next pass's input
+            int[] temp = source;
+            source = target;
+            target = temp;
+        }
+        
+        // After an odd number of passes the result sits in the buffer
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+        }
+    }
+    
+    /**
+     * Merges sorted runs source[left...mid] and source[mid+1...right] into
+     * target[left...right] without allocating.
+     */
+    private void mergeInto(int[] source, int[] target, int left, int mid, int right) {
+        int i = left;
+        int j = mid + 1;
+        int k = left;
+        
+        while (i <= mid && j <= right) {
+            // Take from the left run on ties to keep the sort stable
+            if (BenchmarkUtils.compare(source[i], source[j]) <= 0) {
+                target[k++] = source[i++];
+            } else {
+                target[k++] = source[j++];
             }
-            array[j + 1] = key;
+        }
+        
+        // Copy whichever run still has elements
+        if (i <= mid) {
+            System.arraycopy(source, i, target, k, mid - i + 1);
+        } else if (j <= right) {
+            System.arraycopy(source, j, target, k, right - j + 1);
+        }
+    }
+    
+    /**
+     * Stable merge sort of keys, moving payload entries along with them.
+     * 
+     * Each scalar variant merges the pairs as it merges int[] keys, and SIMD merges them
+     * top-down, so equal keys keep their payload order.
+     * 
+     * @param keys Keys to be sorted
+     * @param payload Values moved with their keys
+     * @throws IllegalArgumentException if either array is null or their lengths differ
+     */
+    @Override
+    public void sort(int[] keys, int[] payload) {
+        BenchmarkUtils.validateArrays(keys, payload);
+        if (keys.length <= 1) return;
+        
+        switch (variant) {
+            case PING_PONG:
+                pingPongMergeSort(keys.clone(), payload.clone(), keys, payload, 0, keys.length - 1);
+                break;
+            case BOTTOM_UP:
+                mergePasses(keys, payload);
+                break;
+            default:
+                mergeSort(keys, payload, 0, keys.length - 1);
+                break;
+        }
+    }
+    
+    /**
+     * Key/payload version of {@link #mergeSort(int[], int, int)}.
+     */
+    private void mergeSort(int[] keys, int[] payload, int left, int right) {
+        if (left >= right) return;
+        
+        int mid = left + (right - left) / 2;
+        mergeSort(keys, payload, left, mid);
+        mergeSort(keys, payload, mid + 1, right);
+        
+        merge(keys, payload, left, mid, right);
+    }
+    
+    /**
+     * Key/payload version of {@link #merge(int[], int, int, int)}, copying both halves of
+     * keys and payload into temporaries.
+     */
+    private void merge(int[] keys, int[] payload, int left, int mid, int right) {
+        int[] leftKeys = Arrays.copyOfRange(keys, left, mid + 1);
+        int[] leftPayload = Arrays.copyOfRange(payload, left, mid + 1);
+        int[] rightKeys = Arrays.copyOfRange(keys, mid + 1, right + 1);
+        int[] rightPayload = Arrays.copyOfRange(payload, mid + 1, right + 1);
+        
+        int i = 0;
+        int j = 0;
+        int k = left;
+        while (i < leftKeys.length && j < rightKeys.length) {
+            if (BenchmarkUtils.compare(leftKeys[i], rightKeys[j]) <= 0) {
+                keys[k] = leftKeys[i];
+                payload[k++] = leftPayload[i++];
+            } else {
+                keys[k] = rightKeys[j];
+                payload[k++] = rightPayload[j++];
+            }
+        }
+        
+        System.arraycopy(leftKeys, i, keys, k, leftKeys.length - i);
+        System.arraycopy(leftPayload, i, payload, k, leftKeys.length - i);
+        k += leftKeys.length - i;
+        System.arraycopy(rightKeys, j, keys, k, rightKeys.length - j);
+        System.arraycopy(rightPayload, j, payload, k, rightKeys.length - j);
+    }
+    
+    /**
+     * Sorts the source pairs in [left...right] into the target pairs; both hold the same
+     * pairs there on entry.
+     */
+    private void pingPongMergeSort(int[] sourceKeys, int[] sourcePayload, int[] targetKeys,
+                                   int[] targetPayload, int left, int right) {
+        if (left >= right) return;
+        
+        int mid = left + (right - left) / 2;
+        pingPongMergeSort(targetKeys, targetPayload, sourceKeys, sourcePayload, left, mid);
+        pingPongMergeSort(targetKeys, targetPayload, sourceKeys, sourcePayload, mid + 1, right);
+        mergeInto(sourceKeys, sourcePayload, targetKeys, targetPayload, left, mid, right);
+    }
+    
+    /**
+     * Key/payload version of {@link #mergePasses(int[], int)}, starting from runs of width 1.
+     */
+    private void mergePasses(int[] keys, int[] payload) {
+        int n = keys.length;
+        int[] sourceKeys = keys;
+        int[] sourcePayload = payload;
+        int[] targetKeys = new int[n];
+        int[] targetPayload = new int[n];
+        
+        for (int width = 1; width < n; width *= 2) {
+            for (int left = 0; left < n; left += 2 * width) {
+                int mid = Math.min(left + width - 1, n - 1);
+                int right = Math.min(left + 2 * width - 1, n - 1);
+                mergeInto(sourceKeys, sourcePayload, targetKeys, targetPayload, left, mid, right);
+            }
+            
+            int[] tempKeys = sourceKeys;
+            int[] tempPayload = sourcePayload;
+            sourceKeys = targetKeys;
+            sourcePayload = targetPayload;
+            targetKeys = tempKeys;
+            targetPayload = tempPayload;
+        }
+        
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, n);
+            System.arraycopy(sourcePayload, 0, payload, 0, n);
+        }
+    }
+    
+    /**
+     * Key/payload version of {@link #mergeInto(int[], int[], int, int, int)}.
+     */
+    private void mergeInto(int[] sourceKeys, int[] sourcePayload, int[] targetKeys,
+                           int[] targetPayload, int left, int mid, int right) {
+        int i = left;
+        int j = mid + 1;
+        int k = left;
+        while (i <= mid && j <= right) {
+            // Take from the left run on ties to keep the sort stable
+            if (BenchmarkUtils.compare(sourceKeys[i], sourceKeys[j]) <= 0) {
+                targetKeys[k] = sourceKeys[i];
+                targetPayload[k++] = sourcePayload[i++];
+            } else {
+                targetKeys[k] = sourceKeys[j];
+                targetPayload[k++] = sourcePayload[j++];
+            }
+        }
+        
+        if (i <= mid) {
+            System.arraycopy(sourceKeys, i, targetKeys, k, mid - i + 1);
+            System.arraycopy(sourcePayload, i, targetPayload, k, mid - i + 1);
+        } else if (j <= right) {
+            System.arraycopy(sourceKeys, j, targetKeys, k, right - j + 1);
+            System.arraycopy(sourcePayload, j, targetPayload, k, right - j + 1);
+        }
+    }
+    
+    /**
+     * Sorts a long array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(long[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        switch (variant) {
+            case PING_PONG:
+                LongSortKernels.pingPongMergeSort(array);
+                break;
+            case BOTTOM_UP:
+                LongSortKernels.bottomUpMergeSort(array);
+                break;
+            default:
+                LongSortKernels.mergeSort(array);
+                break;
+        }
+    }
+    
+    /**
+     * Sorts a double array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(double[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        switch (variant) {
+            case PING_PONG:
+                DoubleSortKernels.pingPongMergeSort(array);
+                break;
+            case BOTTOM_UP:
+                DoubleSortKernels.bottomUpMergeSort(array);
+                break;
+            default:
+                DoubleSortKernels.mergeSort(array);
+                break;
+        }
+    }
+    
+    /**
+     * Sorts a float array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(float[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        switch (variant) {
+            case PING_PONG:
+                FloatSortKernels.pingPongMergeSort(array);
+                break;
+            case BOTTOM_UP:
+                FloatSortKernels.bottomUpMergeSort(array);
+                break;
+            default:
+                FloatSortKernels.mergeSort(array);
+                break;
+        }
+    }
+    
+    /**
+     * Sorts a short array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(short[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        switch (variant) {
+            case PING_PONG:
+                ShortSortKernels.pingPongMergeSort(array);
+                break;
+            case BOTTOM_UP:
+                ShortSortKernels.bottomUpMergeSort(array);
+                break;
+            default:
+                ShortSortKernels.mergeSort(array);
+                break;
+        }
+    }
+    
+    /**
+     * Sorts a char array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(char[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length <= 1) return;
+        
+        switch (variant) {
+            case PING_PONG:
+                CharSortKernels.pingPongMergeSort(array);
+                break;
+            case BOTTOM_UP:
+                CharSortKernels.bottomUpMergeSort(array);
+                break;
+            default:
+                CharSortKernels.mergeSort(array);
+                break;
         }
     }
     
     @Override
     public String getAlgorithmName() {
-        return "Merge Sort";
+        return variant.displayName;
     }
     
     @Override
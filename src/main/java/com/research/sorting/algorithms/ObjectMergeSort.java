@@ -0,0 +1,173 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+
+public class ObjectMergeSort implements ObjectSortingAlgorithm {
+
+    /**
+     * Stable merge sort of an object array with a Comparator.
+     *
+     * Uses the ping-pong scheme of {@link MergeSort#pingPongSort(int[])}: one scratch array,
+     * with the roles of array and scratch swapping at each recursion level. Every comparison is
+     * a comparator call and usually dereferences two heap objects.
+     *
+     * @param array Array to be sorted
+     * @param comparator Element order
+     * @throws IllegalArgumentException if array or comparator is null
+     */
+    @Override
+    public <T> void sort(T[] array, Comparator<? super T> comparator) {
+        BenchmarkUtils.validateArray(array);
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (array.length <= 1) return;
+
+        T[] buffer = array.clone();
+        long comparisons = mergeSort(buffer, array, 0, array.length - 1, comparator);
+        BenchmarkUtils.recordComparisons(comparisons);
+    }
+
+    /**
+     * Stable decorate-sort-undecorate merge sort by a long key.
+     *
+     * Algorithm steps:
+     * 1. Decorate: extract every element's key once into a long[], beside its index in an int[]
+     * 2. Sort: merge sort the (key, index) pairs, comparing primitive keys only
+     * 3. Undecorate: place the elements in the order of the sorted indices
+     *
+     * The merge loop touches two flat arrays instead of following references and calling a
+     * comparator, at the cost of two key arrays, two index arrays and a copy of the element
+     * references.
+     *
+     * @param array Array to be sorted
+     * @param keyExtractor Returns the sort key of an element
+     * @throws IllegalArgumentException if array or keyExtractor is null
+     */
+    @Override
+    public <T> void sortByKey(T[] array, ToLongFunction<? super T> keyExtractor) {
+        BenchmarkUtils.validateArray(array);
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+        int n = array.length;
+        if (n <= 1) return;
+
+        long[] keys = new long[n];
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsLong(array[i]);
+            indices[i] = i;
+        }
+        BenchmarkUtils.recordKeyReads(n);
+
+        long comparisons = mergeSortPairs(keys.clone(), indices.clone(), keys, indices, 0, n - 1);
+        BenchmarkUtils.recordComparisons(comparisons);
+
+        T[] original = array.clone();
+        for (int i = 0; i < n; i++) {
+            array[i] = original[indices[i]];
+        }
+    }
+
+    /**
+     * Sorts source[left...right] into target[left...right]; both hold the same elements there
+     * on entry.
+     *
+     * @return Number of comparator calls
+     */
+    private static <T> long mergeSort(T[] source, T[] target, int left, int right,
+            Comparator<? super T> comparator) {
+        if (left >= right) return 0;
+
+        int mid = left + (right - left) / 2;
+        long comparisons = mergeSort(target, source, left, mid, comparator)
+                + mergeSort(target, source, mid + 1, right, comparator);
+
+        int i = left;
+        int j = mid + 1;
+        int k = left;
+        while (i <= mid && j <= right) {
+            comparisons++;
+            // Take from the left run on ties to keep the sort stable
+            if (comparator.compare(source[i], source[j]) <= 0) {
+                target[k++] = source[i++];
+            } else {
+                target[k++] = source[j++];
+            }
+        }
+
+        if (i <= mid) {
+            System.arraycopy(source, i, target, k, mid - i + 1);
+        } else if (j <= right) {
+            System.arraycopy(source, j, target, k, right - j + 1);
+        }
+        return comparisons;
+    }
+
+    /**
+     * Pair version of {@link #mergeSort}: keys decide the order and indices move with them.
+     *
+     * @return Number of key comparisons
+     */
+    private static long mergeSortPairs(long[] sourceKeys, int[] sourceIndices, long[] targetKeys,
+            int[] targetIndices, int left, int right) {
+        if (left >= right) return 0;
+
+        int mid = left + (right - left) / 2;
+        long comparisons =
+                mergeSortPairs(targetKeys, targetIndices, sourceKeys, sourceIndices, left, mid)
+                + mergeSortPairs(targetKeys, targetIndices, sourceKeys, sourceIndices, mid + 1,
+                        right);
+
+        int i = left;
+        int j = mid + 1;
+        int k = left;
+        while (i <= mid && j <= right) {
+            comparisons++;
+            if (sourceKeys[i] <= sourceKeys[j]) {
+                targetKeys[k] = sourceKeys[i];
+                targetIndices[k++] = sourceIndices[i++];
+            } else {
+                targetKeys[k] = sourceKeys[j];
+                targetIndices[k++] = sourceIndices[j++];
+            }
+        }
+
+        if (i <= mid) {
+            System.arraycopy(sourceKeys, i, targetKeys, k, mid - i + 1);
+            System.arraycopy(sourceIndices, i, targetIndices, k, mid - i + 1);
+        } else if (j <= right) {
+            System.arraycopy(sourceKeys, j, targetKeys, k, right - j + 1);
+            System.arraycopy(sourceIndices, j, targetIndices, k, right - j + 1);
+        }
+        return comparisons;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Object Merge Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return true; // Ties take the left run in both modes
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return false; // One scratch array, or key, index and element copies in keyed mode
+    }
+}
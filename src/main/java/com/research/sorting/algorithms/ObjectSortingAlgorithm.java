@@ -0,0 +1,119 @@
+package com.research.sorting.algorithms;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Counterpart of {@link SortingAlgorithm} for object arrays and lists.
+ *
+ * Elements are ordered either by a Comparator or by a primitive key extracted from each
+ * element. The keyed form reads every key once up front (decorate-sort-undecorate), so the
+ * extractor runs n times instead of the comparator running O(n log n) times.
+ */
+public interface ObjectSortingAlgorithm {
+
+    /**
+     * Sorts the given array in the order of the comparator.
+     *
+     * @param array The array to be sorted
+     * @param comparator Element order
+     * @param <T> Element type
+     * @throws IllegalArgumentException if array or comparator is null
+     */
+    <T> void sort(T[] array, Comparator<? super T> comparator);
+
+    /**
+     * Sorts the given array by ascending key, extracting each element's key exactly once.
+     *
+     * @param array The array to be sorted
+     * @param keyExtractor Returns the sort key of an element
+     * @param <T> Element type
+     * @throws IllegalArgumentException if array or keyExtractor is null
+     */
+    <T> void sortByKey(T[] array, ToLongFunction<? super T> keyExtractor);
+
+    /**
+     * Sorts the given list in the order of the comparator.
+     * The elements are copied to an array, sorted there and written back, as List.sort does.
+     *
+     * @param list The list to be sorted
+     * @param comparator Element order
+     * @param <T> Element type
+     * @throws IllegalArgumentException if list or comparator is null
+     */
+    default <T> void sort(List<T> list, Comparator<? super T> comparator) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) list.toArray();
+        sort(array, comparator);
+        writeBack(list, array);
+    }
+
+    /**
+     * Sorts the given list by ascending key, extracting each element's key exactly once.
+     *
+     * @param list The list to be sorted
+     * @param keyExtractor Returns the sort key of an element
+     * @param <T> Element type
+     * @throws IllegalArgumentException if list or keyExtractor is null
+     */
+    default <T> void sortByKey(List<T> list, ToLongFunction<? super T> keyExtractor) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) list.toArray();
+        sortByKey(array, keyExtractor);
+        writeBack(list, array);
+    }
+
+    /**
+     * Returns the name of the sorting algorithm.
+     *
+     * @return String representation of algorithm name
+     */
+    String getAlgorithmName();
+
+    /**
+     * Returns the theoretical time complexity of the algorithm.
+     *
+     * @return Time complexity string (e.g., "O(n log n)")
+     */
+    String getTimeComplexity();
+
+    /**
+     * Returns the theoretical space complexity of the algorithm.
+     *
+     * @return Space complexity string (e.g., "O(n)")
+     */
+    String getSpaceComplexity();
+
+    /**
+     * Indicates whether the algorithm is stable.
+     *
+     * @return true if algorithm is stable, false otherwise
+     */
+    boolean isStable();
+
+    /**
+     * Indicates whether the algorithm sorts in-place.
+     *
+     * @return true if algorithm sorts in-place, false otherwise
+     */
+    boolean isInPlace();
+
+    /**
+     * Replaces the list's elements with the array's, in order.
+     */
+    private static <T> void writeBack(List<T> list, T[] array) {
+        ListIterator<T> iterator = list.listIterator();
+        for (T element : array) {
+            iterator.next();
+            iterator.set(element);
+        }
+    }
+}
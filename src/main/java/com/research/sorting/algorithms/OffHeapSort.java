@@ -0,0 +1,345 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Sorts ints stored in a {@link MemorySegment}, addressed with long indices.
+ *
+ * Off-heap segments can hold more than 2^31 ints and are never scanned or moved by the garbage
+ * collector, so multi-gigabyte inputs need neither a giant heap nor an int[]. Heap-backed
+ * segments from {@code MemorySegment.ofArray} work as well; {@link #sort(int[])} sorts through
+ * one. Elements are accessed as {@code ValueLayout.JAVA_INT}: native byte order, 4-byte aligned.
+ */
+public class OffHeapSort implements SortingAlgorithm {
+
+    /**
+     * Sorting strategies selectable through the constructor.
+     */
+    public enum Variant {
+        /** Median-of-three quick sort with a heap sort depth limit and binary insertion sort */
+        INTRO_SORT("Off-Heap Intro Sort"),
+        /** LSD radix sort with 8-bit digits through an off-heap scratch segment */
+        RADIX("Off-Heap Radix Sort");
+
+        private final String displayName;
+
+        Variant(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    /** Element layout of sorted segments */
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+
+    /** Ranges at or below this size are finished with binary insertion sort */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /** Bits per radix digit; four passes cover an int */
+    private static final int DIGIT_BITS = 8;
+
+    /** Flips the sign bit so signed keys order correctly as unsigned digits */
+    private static final int SIGN_BIT = Integer.MIN_VALUE;
+
+    /** Strategy used by every sort */
+    private final Variant variant;
+
+    /**
+     * Creates an off-heap intro sort.
+     */
+    public OffHeapSort() {
+        this(Variant.INTRO_SORT);
+    }
+
+    /**
+     * Creates an off-heap sort using the given strategy.
+     *
+     * @param variant Sorting strategy
+     * @throws IllegalArgumentException if variant is null
+     */
+    public OffHeapSort(Variant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        this.variant = variant;
+    }
+
+    /**
+     * Sorts an int array through a heap segment view of it.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+        sort(MemorySegment.ofArray(array));
+    }
+
+    /**
+     * Sorts the ints of a segment in ascending order.
+     *
+     * RADIX allocates a scratch segment of the same size off-heap for the duration of the sort.
+     *
+     * @param segment Segment of ints to be sorted
+     * @throws IllegalArgumentException if segment is null, read-only or not a whole number of ints
+     */
+    public void sort(MemorySegment segment) {
+        BenchmarkUtils.validateSegment(segment);
+
+        long n = segment.byteSize() / Integer.BYTES;
+        if (n <= 1) return;
+
+        if (variant == Variant.RADIX) {
+            radixSort(segment, n);
+        } else {
+            introSort(segment, 0, n - 1, 2 * (63 - Long.numberOfLeadingZeros(n)));
+        }
+    }
+
+    /**
+     * Quick sort loop with a depth budget, as in {@code IntroSort}: recurses into the smaller
+     * partition only and hands the range to heap sort once the budget runs out.
+     */
+    private void introSort(MemorySegment segment, long low, long high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(segment, low, high);
+                return;
+            }
+            depthLimit--;
+
+            long pivotIndex = hoarePartition(segment, low, high);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                introSort(segment, low, pivotIndex, depthLimit);
+                low = pivotIndex + 1;
+            } else {
+                introSort(segment, pivotIndex + 1, high, depthLimit);
+                high = pivotIndex;
+            }
+        }
+
+        binaryInsertionSort(segment, low, high);
+    }
+
+    /**
+     * Hoare partition around the median of the first, middle and last elements, moved to low.
+     */
+    private static long hoarePartition(MemorySegment segment, long low, long high) {
+        long mid = low + (high - low) / 2;
+
+        // Order segment[low] <= segment[mid] <= segment[high]
+        if (greater(segment, low, mid)) swap(segment, low, mid);
+        if (greater(segment, mid, high)) swap(segment, mid, high);
+        if (greater(segment, low, mid)) swap(segment, low, mid);
+
+        swap(segment, low, mid);
+        int pivot = get(segment, low);
+        long i = low - 1;
+        long j = high + 1;
+
+        while (true) {
+            do {
+                i++;
+            } while (BenchmarkUtils.compare(pivot, get(segment, i)) > 0);
+
+            do {
+                j--;
+            } while (BenchmarkUtils.compare(get(segment, j), pivot) > 0);
+
+            if (i >= j) return j;
+
+            swap(segment, i, j);
+        }
+    }
+
+    /**
+     * Heap sort of segment[low...high] with a max heap rooted at low.
+     */
+    private static void heapSort(MemorySegment segment, long low, long high) {
+        long n = high - low + 1;
+
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(segment, low, i, n);
+        }
+        for (long end = n - 1; end > 0; end--) {
+            swap(segment, low, low + end);
+            siftDown(segment, low, 0, end);
+        }
+    }
+
+    /**
+     * Moves the element at heap index i down a heap of size elements starting at base.
+     */
+    private static void siftDown(MemorySegment segment, long base, long i, long size) {
+        int value = get(segment, base + i);
+
+        while (2 * i + 1 < size) {
+            long child = 2 * i + 1;
+            if (child + 1 < size && greater(segment, base + child + 1, base + child)) {
+                child++;
+            }
+            if (BenchmarkUtils.compare(get(segment, base + child), value) <= 0) break;
+
+            set(segment, base + i, get(segment, base + child));
+            BenchmarkUtils.recordSwaps(1);
+            i = child;
+        }
+        set(segment, base + i, value);
+    }
+
+    /**
+     * Binary insertion sort of segment[low...high]; each insertion shifts with one bulk copy.
+     */
+    private static void binaryInsertionSort(MemorySegment segment, long low, long high) {
+        long shifts = 0;
+
+        for (long i = low + 1; i <= high; i++) {
+            int current = get(segment, i);
+            if (BenchmarkUtils.compare(get(segment, i - 1), current) <= 0) continue;
+
+            long left = low;
+            long right = i - 1;
+            while (left < right) {
+                long mid = (left + right) >>> 1;
+                if (BenchmarkUtils.compare(get(segment, mid), current) > 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            // Overlapping copies behave as if made through a temporary segment
+            MemorySegment.copy(segment, left * Integer.BYTES, segment,
+                    (left + 1) * Integer.BYTES, (i - left) * Integer.BYTES);
+            set(segment, left, current);
+            shifts += i - left;
+        }
+
+        BenchmarkUtils.recordSwaps(shifts);
+    }
+
+    /**
+     * LSD radix sort ping-ponging between the segment and an off-heap scratch segment, with
+     * long counts so more than 2^31 keys can share a digit. Passes where every key has the same
+     * digit are skipped, as in {@code RadixSort}.
+     */
+    private static void radixSort(MemorySegment segment, long n) {
+        int radix = 1 << DIGIT_BITS;
+        int mask = radix - 1;
+        int passes = Integer.SIZE / DIGIT_BITS;
+
+        long[][] histograms = new long[passes][radix];
+        for (long i = 0; i < n; i++) {
+            int key = get(segment, i) ^ SIGN_BIT;
+            for (int pass = 0; pass < passes; pass++) {
+                histograms[pass][(key >>> (pass * DIGIT_BITS)) & mask]++;
+            }
+        }
+        BenchmarkUtils.recordKeyReads(n);
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment source = segment;
+            MemorySegment target = arena.allocate(segment.byteSize(), Integer.BYTES);
+
+            for (int pass = 0; pass < passes; pass++) {
+                int shift = pass * DIGIT_BITS;
+                long[] counts = histograms[pass];
+
+                if (counts[((get(source, 0) ^ SIGN_BIT) >>> shift) & mask] == n) {
+                    continue;
+                }
+
+                long offset = 0;
+                for (int digit = 0; digit < radix; digit++) {
+                    long count = counts[digit];
+                    counts[digit] = offset;
+                    offset += count;
+                }
+
+                for (long i = 0; i < n; i++) {
+                    int value = get(source, i);
+                    set(target, counts[((value ^ SIGN_BIT) >>> shift) & mask]++, value);
+                }
+                BenchmarkUtils.recordKeyReads(n);
+                BenchmarkUtils.recordScatterWrites(n);
+
+                MemorySegment temp = source;
+                source = target;
+                target = temp;
+            }
+
+            if (source != segment) {
+                MemorySegment.copy(source, 0, segment, 0, segment.byteSize());
+            }
+        }
+    }
+
+    private static int get(MemorySegment segment, long index) {
+        return segment.getAtIndex(INT, index);
+    }
+
+    private static void set(MemorySegment segment, long index, int value) {
+        segment.setAtIndex(INT, index, value);
+    }
+
+    private static boolean greater(MemorySegment segment, long i, long j) {
+        return BenchmarkUtils.compare(get(segment, i), get(segment, j)) > 0;
+    }
+
+    private static void swap(MemorySegment segment, long i, long j) {
+        int temp = get(segment, i);
+        set(segment, i, get(segment, j));
+        set(segment, j, temp);
+        BenchmarkUtils.recordSwaps(1);
+    }
+
+    /**
+     * Returns the sorting strategy.
+     *
+     * @return Sorting variant
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return variant.displayName;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return variant == Variant.RADIX ? "O(d(n + b))" : "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return variant == Variant.RADIX ? "O(n + b) off-heap" : "O(log n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return variant == Variant.RADIX; // Each radix pass scatters equal digits in input order
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return variant != Variant.RADIX;
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Inputs too large for int[] or the heap - long indices, no GC scanning";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return variant == Variant.RADIX
+                ? "Small segments - the count tables and scratch allocation outweigh the passes"
+                : "Median-of-three killer sequences - depth limit triggers heap sort, still O(n log n)";
+    }
+}
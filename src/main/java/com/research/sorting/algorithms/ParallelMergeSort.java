@@ -0,0 +1,150 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelMergeSort implements SortingAlgorithm {
+
+    /** Subarrays at or below this size are sorted sequentially */
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 8_192;
+
+    /** Pool that executes the fork/join tasks */
+    private final ForkJoinPool pool;
+
+    /** Size below which forking a task costs more than it saves */
+    private final int sequentialCutoff;
+
+    /** Sequential engine used for leaves and merges */
+    private final MergeSort sequential = new MergeSort();
+
+    /**
+     * Creates a parallel merge sort on the common fork/join pool.
+     */
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    /**
+     * Creates a parallel merge sort on a specific pool.
+     *
+     * @param pool Fork/join pool to run on
+     * @param sequentialCutoff Subarray size at which recursion stops forking
+     * @throws IllegalArgumentException if pool is null or cutoff is less than 2
+     */
+    public ParallelMergeSort(ForkJoinPool pool, int sequentialCutoff) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (sequentialCutoff < 2) {
+            throw new IllegalArgumentException("Sequential cutoff must be at least 2: " + sequentialCutoff);
+        }
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    /**
+     * Entry point for Parallel Merge Sort algorithm.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+
+        if (array.length <= 1) return;
+
+        // Small inputs gain nothing from forking
+        if (array.length <= sequentialCutoff) {
+            sequential.mergeSort(array, 0, array.length - 1);
+            return;
+        }
+
+        pool.invoke(new MergeTask(array, 0, array.length - 1));
+    }
+
+    /**
+     * Fork/join counterpart of {@code MergeSort.mergeSort}.
+     *
+     * Both halves are sorted concurrently; the merge runs once both have completed.
+     */
+    private class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array;
+        private final int left;
+        private final int right;
+
+        MergeTask(int[] array, int left, int right) {
+            this.array = array;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        protected void compute() {
+            if (right - left + 1 <= sequentialCutoff) {
+                sequential.mergeSort(array, left, right);
+                return;
+            }
+
+            int mid = left + (right - left) / 2;
+            invokeAll(new MergeTask(array, left, mid), new MergeTask(array, mid + 1, right));
+            sequential.merge(array, left, mid, right);
+        }
+    }
+
+    /**
+     * Returns the number of worker threads available to this sorter.
+     *
+     * @return Pool parallelism level
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Returns the subarray size at which recursion stops forking.
+     *
+     * @return Sequential cutoff
+     */
+    public int getSequentialCutoff() {
+        return sequentialCutoff;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Parallel Merge Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return true; // Merges keep the left run first on ties
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return false; // Requires O(n) extra space
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Large arrays on many cores - halves are sorted concurrently";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Arrays below the sequential cutoff - same cost as Merge Sort";
+    }
+}
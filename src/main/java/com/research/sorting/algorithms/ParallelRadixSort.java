@@ -0,0 +1,263 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+public class ParallelRadixSort implements SortingAlgorithm {
+
+    /** Arrays below this size are handed to the sequential RadixSort */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    /** Bits per digit; 256-entry histograms stay in L1 for every worker */
+    private static final int DIGIT_BITS = 8;
+
+    /** Buckets per digit */
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    /** Mask extracting one digit */
+    private static final int MASK = RADIX - 1;
+
+    /** Number of digit passes for 32-bit keys */
+    private static final int PASSES = Integer.SIZE / DIGIT_BITS;
+
+    /** Flipping the sign bit maps signed order onto unsigned order */
+    private static final int SIGN_BIT = 0x8000_0000;
+
+    /** Pool that runs the per-chunk work */
+    private final ForkJoinPool pool;
+
+    /** Size below which the sequential engine is used */
+    private final int sequentialThreshold;
+
+    /** Engine for small inputs */
+    private final RadixSort sequential = new RadixSort(DIGIT_BITS);
+
+    /**
+     * Creates a parallel radix sort on the common fork/join pool.
+     */
+    public ParallelRadixSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Creates a parallel radix sort on a specific pool.
+     *
+     * @param pool Fork/join pool to run on; its parallelism sets the number of chunks
+     * @param sequentialThreshold Array size below which the sequential engine is used
+     * @throws IllegalArgumentException if pool is null or threshold is negative
+     */
+    public ParallelRadixSort(ForkJoinPool pool, int sequentialThreshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (sequentialThreshold < 0) {
+            throw new IllegalArgumentException("Sequential threshold cannot be negative: " + sequentialThreshold);
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Sorts the array with a parallel LSD radix sort.
+     *
+     * The array is split into one contiguous chunk per worker. Each 8-bit digit pass then runs
+     * three phases:
+     * 1. Every worker counts the digits of its own chunk into a private histogram
+     * 2. A prefix sum over (digit, worker) gives each worker its own write offset in every
+     *    bucket, so workers never write to the same slot
+     * 3. Every worker scatters its chunk into the other buffer at those offsets
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+
+        int n = array.length;
+        if (n <= 1) return;
+
+        if (n < sequentialThreshold) {
+            sequential.sort(array);
+            return;
+        }
+
+        int chunks = Math.max(1, Math.min(pool.getParallelism(), n / RADIX));
+        int[] chunkStart = new int[chunks + 1];
+        for (int t = 0; t <= chunks; t++) {
+            chunkStart[t] = (int) ((long) n * t / chunks);
+        }
+
+        // histograms[t][d]: count of digit d in chunk t, later replaced by its scatter offset
+        int[][] histograms = new int[chunks][RADIX];
+        int[] bucketTotals = new int[RADIX];
+
+        int[] source = array;
+        int[] target = new int[n];
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] from = source;
+
+            // Phase 1: per-worker histograms
+            parallelFor(chunks, t -> {
+                int[] counts = histograms[t];
+                Arrays.fill(counts, 0);
+                for (int i = chunkStart[t]; i < chunkStart[t + 1]; i++) {
+                    counts[((from[i] ^ SIGN_BIT) >>> shift) & MASK]++;
+                }
+            });
+            BenchmarkUtils.recordKeyReads(n);
+
+            // Phase 2: prefix sum; returns false if all keys share this digit
+            if (!computeOffsets(histograms, bucketTotals, n)) {
+                continue;
+            }
+
+            // Phase 3: parallel scatter
+            int[] to = target;
+            parallelFor(chunks, t -> {
+                int[] offsets = histograms[t];
+                for (int i = chunkStart[t]; i < chunkStart[t + 1]; i++) {
+                    int value = from[i];
+                    to[offsets[((value ^ SIGN_BIT) >>> shift) & MASK]++] = value;
+                }
+            });
+            BenchmarkUtils.recordKeyReads(n);
+            BenchmarkUtils.recordScatterWrites(n);
+
+            source = to;
+            target = from;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+        }
+    }
+
+    /**
+     * Converts per-worker digit counts into per-worker scatter offsets.
+     *
+     * Offsets are laid out digit-major, worker-minor: bucket d of worker t starts after all
+     * smaller digits and after bucket d of workers 0..t-1. The per-digit column scans run in
+     * parallel; only the 256 bucket totals are scanned sequentially.
+     *
+     * @return false if one bucket holds every key, so the pass can be skipped
+     */
+    private boolean computeOffsets(int[][] histograms, int[] bucketTotals, int n) {
+        int chunks = histograms.length;
+
+        // Column scans: exclusive prefix over workers for each digit
+        parallelFor(Math.min(chunks, RADIX), part -> {
+            int parts = Math.min(chunks, RADIX);
+            for (int digit = part; digit < RADIX; digit += parts) {
+                int running = 0;
+                for (int t = 0; t < chunks; t++) {
+                    int count = histograms[t][digit];
+                    histograms[t][digit] = running;
+                    running += count;
+                }
+                bucketTotals[digit] = running;
+            }
+        });
+
+        // Row scan over bucket totals
+        int base = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            int total = bucketTotals[digit];
+            if (total == n) return false;
+            bucketTotals[digit] = base;
+            base += total;
+        }
+
+        // Add each bucket's base to every worker's offset
+        parallelFor(chunks, t -> {
+            int[] offsets = histograms[t];
+            for (int digit = 0; digit < RADIX; digit++) {
+                offsets[digit] += bucketTotals[digit];
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Runs body for every index in [0, count) on the pool and waits for completion.
+     */
+    private void parallelFor(int count, IntConsumer body) {
+        pool.invoke(new RangeAction(0, count, body));
+    }
+
+    /**
+     * Splits an index range in halves until single indices remain.
+     */
+    private static class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final transient IntConsumer body; // Tasks are never serialized
+
+        RangeAction(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeAction(from, mid, body), new RangeAction(mid, to, body));
+        }
+    }
+
+    /**
+     * Returns the number of worker threads available to this sorter.
+     *
+     * @return Pool parallelism level
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Parallel Radix Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(d(n/p + b·p))";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n + b·p)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return true; // Chunks scatter in order into disjoint, ordered offset ranges
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return false; // Scatters into an n-sized buffer
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Millions of keys on many cores - histogram and scatter passes split evenly across workers";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Inputs below the sequential threshold - runs as the sequential Radix Sort";
+    }
+}
@@ -0,0 +1,387 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+public class ParallelSampleSort implements SortingAlgorithm {
+
+    /** Arrays below this size are handed to the sequential base sorter */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    /** Buckets at or below this size (64 KB of keys) are finished by the base sorter */
+    private static final int BASE_CASE_SIZE = 1 << 14;
+
+    /** At most 2^8 = 256 ranges per level, so each splitter tree is eight levels deep */
+    private static final int MAX_LOG_BUCKETS = 8;
+
+    /** Levels of recursion before a bucket that refuses to split is handed to the base sorter */
+    private static final int MAX_DEPTH = 8;
+
+    /** Fixed seed so that sample positions, and therefore timings, are reproducible */
+    private static final long SAMPLE_SEED = 42L;
+
+    /** Pool that runs classification chunks and bucket tasks */
+    private final ForkJoinPool pool;
+
+    /** Size below which the sequential engine is used */
+    private final int sequentialThreshold;
+
+    /** Sorter for base-case buckets and samples */
+    private final PatternDefeatingQuickSort baseSorter = new PatternDefeatingQuickSort();
+
+    /**
+     * Creates a parallel samplesort on the common fork/join pool.
+     */
+    public ParallelSampleSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Creates a parallel samplesort on a specific pool.
+     *
+     * @param pool Fork/join pool to run on; its parallelism sets the number of top-level chunks
+     * @param sequentialThreshold Array size below which the sequential engine is used
+     * @throws IllegalArgumentException if pool is null or threshold is negative
+     */
+    public ParallelSampleSort(ForkJoinPool pool, int sequentialThreshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (sequentialThreshold < 0) {
+            throw new IllegalArgumentException("Sequential threshold cannot be negative: " + sequentialThreshold);
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Sorts the array with a parallel samplesort.
+     *
+     * Algorithm steps:
+     * 1. Sort a random oversample and take k-1 evenly spaced elements as splitters
+     * 2. Classify every element with a branch-free walk down the implicit splitter tree;
+     *    keys equal to a splitter go to their own equality bucket
+     * 3. Count bucket sizes per chunk, prefix-sum them and scatter into the other buffer
+     * 4. Sort all non-equality buckets in parallel, recursing until buckets are small
+     *
+     * With k up to 256 every element moves about log_k(n / base case) times, against log2(n)
+     * merge passes for merge sort, which is what matters once the data no longer fits in cache.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+
+        int n = array.length;
+        if (n <= 1) return;
+
+        if (n < sequentialThreshold) {
+            baseSorter.sort(array);
+            return;
+        }
+
+        int[] buffer = new int[n];
+        short[] bucketOf = new short[n];
+        pool.invoke(new BucketTask(array, buffer, bucketOf, array, 0, n, 0, true));
+    }
+
+    /**
+     * Splitters for one partitioning step, laid out for branch-free classification.
+     */
+    private static final class Classifier {
+        /** log2 of the number of ranges */
+        final int logBuckets;
+        /** Number of ranges; the bucket count is twice this, one equality bucket per range */
+        final int ranges;
+        /** Implicit search tree over the splitters: children of node j are 2j and 2j+1 */
+        final int[] tree;
+        /** Sorted splitters; upper[r] is the inclusive upper bound of range r */
+        final int[] upper;
+
+        Classifier(int[] sortedSplitters, int count) {
+            int log = 1;
+            while ((1 << log) < count + 1) log++;
+            logBuckets = log;
+            ranges = 1 << log;
+
+            // Pad with the largest splitter so the tree is complete; padded ranges stay empty
+            upper = Arrays.copyOf(sortedSplitters, ranges);
+            Arrays.fill(upper, count, ranges, sortedSplitters[count - 1]);
+
+            tree = new int[ranges];
+            buildTree(1, 0, ranges - 1);
+        }
+
+        /**
+         * Stores the median of upper[low...high-1] at node and recurses into both halves.
+         */
+        private void buildTree(int node, int low, int high) {
+            if (low >= high) return;
+            int mid = (low + high) >>> 1;
+            tree[node] = upper[mid];
+            buildTree(2 * node, low, mid);
+            buildTree(2 * node + 1, mid + 1, high);
+        }
+
+        /**
+         * Returns the bucket of value: 2r for range r, or 2r+1 if value equals upper[r].
+         *
+         * Each step computes the next node from the sign of (splitter - value) in 64-bit
+         * arithmetic, so the loop contains no data-dependent branch to mispredict.
+         */
+        int classify(int value) {
+            int node = 1;
+            for (int level = 0; level < logBuckets; level++) {
+                node = 2 * node + (int) (((long) tree[node] - value) >>> 63);
+            }
+            int range = node - ranges;
+            int equal = (int) ((((upper[range] ^ value) & 0xFFFF_FFFFL) - 1) >>> 63);
+            return 2 * range + equal;
+        }
+    }
+
+    /**
+     * Sorts the elements in from[begin...end-1] and leaves the result in result[begin...end-1].
+     *
+     * Classification scatters into the other array, so source and target swap at every level;
+     * only base-case and equality buckets are copied back when they end on the wrong side.
+     */
+    private class BucketTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] from;
+        private final int[] to;
+        private final short[] bucketOf;
+        private final int[] result;
+        private final int begin;
+        private final int end;
+        private final int depth;
+        private final boolean parallelClassify;
+
+        BucketTask(int[] from, int[] to, short[] bucketOf, int[] result, int begin, int end,
+                   int depth, boolean parallelClassify) {
+            this.from = from;
+            this.to = to;
+            this.bucketOf = bucketOf;
+            this.result = result;
+            this.begin = begin;
+            this.end = end;
+            this.depth = depth;
+            this.parallelClassify = parallelClassify;
+        }
+
+        @Override
+        protected void compute() {
+            int size = end - begin;
+            if (size <= BASE_CASE_SIZE || depth >= MAX_DEPTH) {
+                baseSorter.sortRange(from, begin, end);
+                copyToResult(begin, end);
+                return;
+            }
+
+            Classifier classifier = chooseSplitters();
+            if (classifier == null) {
+                copyToResult(begin, end); // Every sampled key is equal and so is the range
+                return;
+            }
+            int buckets = 2 * classifier.ranges;
+
+            // Split the range into chunks that classify and scatter independently
+            int chunks = parallelClassify
+                    ? Math.max(1, Math.min(pool.getParallelism(), size / BASE_CASE_SIZE))
+                    : 1;
+            int[] chunkStart = new int[chunks + 1];
+            for (int t = 0; t <= chunks; t++) {
+                chunkStart[t] = begin + (int) ((long) size * t / chunks);
+            }
+            int[][] counts = new int[chunks][buckets];
+
+            // Pass 1: classify each element once, remember its bucket and count it
+            forEachChunk(chunks, t -> {
+                int[] chunkCounts = counts[t];
+                for (int i = chunkStart[t]; i < chunkStart[t + 1]; i++) {
+                    int bucket = classifier.classify(from[i]);
+                    bucketOf[i] = (short) bucket;
+                    chunkCounts[bucket]++;
+                }
+            });
+            BenchmarkUtils.recordComparisons((long) size * (classifier.logBuckets + 1));
+            BenchmarkUtils.recordKeyReads(size);
+
+            // Prefix sum over (bucket, chunk) gives every chunk its own write offsets
+            int[] bucketStart = new int[buckets + 1];
+            int offset = begin;
+            for (int b = 0; b < buckets; b++) {
+                bucketStart[b] = offset;
+                for (int t = 0; t < chunks; t++) {
+                    int count = counts[t][b];
+                    counts[t][b] = offset;
+                    offset += count;
+                }
+            }
+            bucketStart[buckets] = end;
+
+            // Pass 2: scatter using the stored bucket numbers
+            forEachChunk(chunks, t -> {
+                int[] offsets = counts[t];
+                for (int i = chunkStart[t]; i < chunkStart[t + 1]; i++) {
+                    to[offsets[bucketOf[i]]++] = from[i];
+                }
+            });
+            BenchmarkUtils.recordKeyReads(size);
+            BenchmarkUtils.recordScatterWrites(size);
+
+            // Equality buckets are finished; every other bucket becomes a subtask
+            List<BucketTask> subtasks = new ArrayList<>();
+            for (int b = 0; b < buckets; b++) {
+                int bucketBegin = bucketStart[b];
+                int bucketEnd = bucketStart[b + 1];
+                if (bucketBegin == bucketEnd) continue;
+
+                if ((b & 1) == 1 || bucketEnd - bucketBegin == 1) {
+                    if (to != result) {
+                        System.arraycopy(to, bucketBegin, result, bucketBegin, bucketEnd - bucketBegin);
+                    }
+                } else {
+                    subtasks.add(new BucketTask(to, from, bucketOf, result, bucketBegin, bucketEnd,
+                            depth + 1, false));
+                }
+            }
+            invokeAll(subtasks);
+        }
+
+        /**
+         * Picks splitters from a sorted random oversample of the range.
+         *
+         * @return Classifier, or null if every sample element is the same key and the range
+         *         holds only that key
+         */
+        private Classifier chooseSplitters() {
+            int size = end - begin;
+
+            // Aim for buckets of half the base case size so sampling noise rarely forces
+            // another level
+            int targetRanges = (int) Math.min(1 << MAX_LOG_BUCKETS, 2L * size / BASE_CASE_SIZE);
+            int logBuckets = Math.max(1, 32 - Integer.numberOfLeadingZeros(targetRanges - 1));
+            int ranges = 1 << logBuckets;
+
+            // Oversampling factor grows slowly with n so splitters stay accurate
+            int oversample = Math.max(1, (int) (0.2 * (31 - Integer.numberOfLeadingZeros(size))));
+            int sampleSize = Math.min(size, oversample * ranges);
+
+            SplittableRandom random = new SplittableRandom(SAMPLE_SEED ^ begin ^ ((long) end << 32));
+            int[] sample = new int[sampleSize];
+            for (int i = 0; i < sampleSize; i++) {
+                sample[i] = from[begin + random.nextInt(size)];
+            }
+            baseSorter.sort(sample);
+
+            // Every oversample-th element, without duplicates
+            int[] splitters = new int[ranges - 1];
+            int count = 0;
+            for (int r = 1; r < ranges; r++) {
+                int candidate = sample[Math.min(sampleSize - 1, r * oversample - 1)];
+                if (count == 0 || splitters[count - 1] != candidate) {
+                    splitters[count++] = candidate;
+                }
+            }
+
+            if (count == 1 && sample[0] == sample[sampleSize - 1] && isConstant(splitters[0])) {
+                return null;
+            }
+            return new Classifier(splitters, count);
+        }
+
+        /**
+         * Returns true if every element of the range equals value.
+         */
+        private boolean isConstant(int value) {
+            for (int i = begin; i < end; i++) {
+                if (from[i] != value) return false;
+            }
+            return true;
+        }
+
+        /**
+         * Copies from[low...high-1] into the result array if they are not already there.
+         */
+        private void copyToResult(int low, int high) {
+            if (from != result) {
+                System.arraycopy(from, low, result, low, high - low);
+            }
+        }
+
+        /**
+         * Runs body for each chunk, forking when there is more than one.
+         */
+        private void forEachChunk(int chunks, IntConsumer body) {
+            if (chunks == 1) {
+                body.accept(0);
+                return;
+            }
+            RecursiveAction[] actions = new RecursiveAction[chunks];
+            for (int t = 0; t < chunks; t++) {
+                int chunk = t;
+                actions[t] = new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        body.accept(chunk);
+                    }
+                };
+            }
+            invokeAll(actions);
+        }
+    }
+
+    /**
+     * Returns the number of worker threads available to this sorter.
+     *
+     * @return Pool parallelism level
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Parallel Sample Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O((n log n) / p)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false; // Base-case buckets are sorted with pdqsort
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return false; // Scatters into an n-sized buffer plus a 2-byte bucket number per element
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Tens of millions of keys on many cores - few passes over memory, buckets sort independently";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Inputs below the sequential threshold - runs as the sequential base sorter";
+    }
+}
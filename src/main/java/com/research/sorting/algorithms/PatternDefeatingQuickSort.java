@@ -0,0 +1,438 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+
+/**
+ * Pattern-defeating quicksort (pdqsort) after Orson Peters.
+ *
+ * Partitions with branchless block partitioning (Edelkamp and Weiss, BlockQuicksort), finishes
+ * already-partitioned ranges with a bounded insertion sort, shuffles elements after unbalanced
+ * partitions to break adversarial patterns, and falls back to heap sort after log2(n) bad
+ * partitions. Ranges are half-open [begin, end) throughout.
+ */
+public class PatternDefeatingQuickSort implements SortingAlgorithm {
+
+    /** Ranges smaller than this are binary insertion sorted */
+    private static final int INSERTION_SORT_THRESHOLD = 24;
+
+    /** Ranges larger than this use a pseudo-median of nine as pivot */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    /** Element moves allowed before partial insertion sort gives up */
+    private static final int PARTIAL_INSERTION_SORT_LIMIT = 8;
+
+    /** Elements classified per block in branchless partitioning */
+    private static final int BLOCK_SIZE = 64;
+
+    /** Fallback used once too many unbalanced partitions have been seen */
+    private final HeapSort heapSort = new HeapSort();
+
+    /**
+     * Entry point for Pattern-Defeating Quick Sort algorithm.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+
+        if (array.length <= 1)
+            return;
+
+        // Left and right offset blocks, allocated once per sort
+        int[] offsets = new int[2 * BLOCK_SIZE];
+        pdqSort(array, 0, array.length, log2(array.length), true, offsets);
+    }
+
+    /**
+     * Sorts the subarray array[begin...end-1] in place.
+     *
+     * Used by engines such as ParallelSampleSort to finish buckets that are too small to
+     * partition further.
+     *
+     * @param array Array containing the range
+     * @param begin First index of the range
+     * @param end One past the last index of the range
+     */
+    void sortRange(int[] array, int begin, int end) {
+        if (end - begin <= 1)
+            return;
+
+        int[] offsets = new int[2 * BLOCK_SIZE];
+        pdqSort(array, begin, end, log2(end - begin), true, offsets);
+    }
+
+    /**
+     * Main pdqsort loop. Recurses into the left partition and loops on the right one.
+     *
+     * @param array Array to sort
+     * @param begin First index of the range
+     * @param end One past the last index of the range
+     * @param badAllowed Unbalanced partitions tolerated before switching to heap sort
+     * @param leftmost Whether the range starts at index 0 (no element to its left)
+     * @param offsets Scratch space for block partitioning
+     */
+    private void pdqSort(int[] array, int begin, int end, int badAllowed, boolean leftmost,
+                         int[] offsets) {
+        while (true) {
+            int size = end - begin;
+
+            if (size < INSERTION_SORT_THRESHOLD) {
+                InsertionSort.binaryInsertionSort(array, begin, end);
+                return;
+            }
+
+            // Choose pivot as median of 3 or pseudo-median of 9 and move it to array[begin]
+            int half = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(array, begin, begin + half, end - 1);
+                sort3(array, begin + 1, begin + (half - 1), end - 2);
+                sort3(array, begin + 2, begin + (half + 1), end - 3);
+                sort3(array, begin + (half - 1), begin + half, begin + (half + 1));
+                BenchmarkUtils.swap(array, begin, begin + half);
+            } else {
+                sort3(array, begin + half, begin, end - 1);
+            }
+
+            // If the pivot equals the element before this range (the previous pivot), every
+            // element here is >= it. Put equal elements on the left; they need no more sorting.
+            if (!leftmost && BenchmarkUtils.compare(array[begin - 1], array[begin]) >= 0) {
+                begin = partitionLeft(array, begin, end) + 1;
+                continue;
+            }
+
+            long partition = partitionRightBranchless(array, begin, end, offsets);
+            int pivotPos = (int) (partition >> 1);
+            boolean alreadyPartitioned = (partition & 1) != 0;
+
+            int leftSize = pivotPos - begin;
+            int rightSize = end - (pivotPos + 1);
+            boolean highlyUnbalanced = leftSize < size / 8 || rightSize < size / 8;
+
+            if (highlyUnbalanced) {
+                // Too many bad pivots: guarantee O(n log n) with heap sort
+                if (--badAllowed == 0) {
+                    heapSort.sortRange(array, begin, end - 1);
+                    return;
+                }
+
+                // Break patterns such as Mountain or Sawtooth by moving elements around
+                if (leftSize >= INSERTION_SORT_THRESHOLD) {
+                    BenchmarkUtils.swap(array, begin, begin + leftSize / 4);
+                    BenchmarkUtils.swap(array, pivotPos - 1, pivotPos - leftSize / 4);
+
+                    if (leftSize > NINTHER_THRESHOLD) {
+                        BenchmarkUtils.swap(array, begin + 1, begin + (leftSize / 4 + 1));
+                        BenchmarkUtils.swap(array, begin + 2, begin + (leftSize / 4 + 2));
+                        BenchmarkUtils.swap(array, pivotPos - 2, pivotPos - (leftSize / 4 + 1));
+                        BenchmarkUtils.swap(array, pivotPos - 3, pivotPos - (leftSize / 4 + 2));
+                    }
+                }
+
+                if (rightSize >= INSERTION_SORT_THRESHOLD) {
+                    BenchmarkUtils.swap(array, pivotPos + 1, pivotPos + (1 + rightSize / 4));
+                    BenchmarkUtils.swap(array, end - 1, end - rightSize / 4);
+
+                    if (rightSize > NINTHER_THRESHOLD) {
+                        BenchmarkUtils.swap(array, pivotPos + 2, pivotPos + (2 + rightSize / 4));
+                        BenchmarkUtils.swap(array, pivotPos + 3, pivotPos + (3 + rightSize / 4));
+                        BenchmarkUtils.swap(array, end - 2, end - (1 + rightSize / 4));
+                        BenchmarkUtils.swap(array, end - 3, end - (2 + rightSize / 4));
+                    }
+                }
+            } else if (alreadyPartitioned
+                    && partialInsertionSort(array, begin, pivotPos)
+                    && partialInsertionSort(array, pivotPos + 1, end)) {
+                // Balanced partition that moved nothing: both sides were (nearly) sorted
+                return;
+            }
+
+            pdqSort(array, begin, pivotPos, badAllowed, leftmost, offsets);
+            begin = pivotPos + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Partitions [begin, end) around pivot array[begin] into {@code < pivot} and
+     * {@code >= pivot} using branchless block partitioning.
+     *
+     * Blocks of up to 64 elements are scanned from each end, recording the offsets of
+     * misplaced elements with an add instead of a branch. The recorded elements are then
+     * exchanged pairwise, so the only data-dependent branches are per block, not per element.
+     *
+     * @return pivot position shifted left by one, with the low bit set if no elements were
+     *         out of place
+     */
+    private long partitionRightBranchless(int[] array, int begin, int end, int[] offsets) {
+        int pivot = array[begin];
+        int first = begin;
+        int last = end;
+
+        // Find the first element >= pivot (guarded by the median-of-3 element at the end)
+        while (BenchmarkUtils.compare(array[++first], pivot) < 0) { }
+
+        // Find the last element < pivot; guard only if nothing precedes first
+        if (first - 1 == begin) {
+            while (first < last && BenchmarkUtils.compare(array[--last], pivot) >= 0) { }
+        } else {
+            while (BenchmarkUtils.compare(array[--last], pivot) >= 0) { }
+        }
+
+        boolean alreadyPartitioned = first >= last;
+
+        if (!alreadyPartitioned) {
+            BenchmarkUtils.swap(array, first, last);
+            first++;
+
+            // Unknown elements are array[first .. last-1]
+            int numL = 0;
+            int numR = 0;
+            int startL = 0;
+            int startR = 0;
+
+            while (last - first > 2 * BLOCK_SIZE) {
+                // Fill offset blocks with elements that are on the wrong side
+                if (numL == 0) {
+                    startL = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsets[numL] = i;
+                        numL += array[first + i] >= pivot ? 1 : 0;
+                    }
+                    BenchmarkUtils.recordComparisons(BLOCK_SIZE);
+                }
+                if (numR == 0) {
+                    startR = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsets[BLOCK_SIZE + numR] = i + 1;
+                        numR += array[last - (i + 1)] < pivot ? 1 : 0;
+                    }
+                    BenchmarkUtils.recordComparisons(BLOCK_SIZE);
+                }
+
+                int num = Math.min(numL, numR);
+                swapOffsets(array, first, last, offsets, startL, BLOCK_SIZE + startR, num,
+                        numL == numR);
+                numL -= num;
+                numR -= num;
+                startL += num;
+                startR += num;
+                if (numL == 0) first += BLOCK_SIZE;
+                if (numR == 0) last -= BLOCK_SIZE;
+            }
+
+            // Split the remaining unknown elements between the blocks that need refilling
+            int leftSize;
+            int rightSize;
+            int unknownLeft = (last - first) - ((numR != 0 || numL != 0) ? BLOCK_SIZE : 0);
+            if (numR != 0) {
+                leftSize = unknownLeft;
+                rightSize = BLOCK_SIZE;
+            } else if (numL != 0) {
+                leftSize = BLOCK_SIZE;
+                rightSize = unknownLeft;
+            } else {
+                leftSize = unknownLeft / 2;
+                rightSize = unknownLeft - leftSize;
+            }
+
+            if (unknownLeft != 0 && numL == 0) {
+                startL = 0;
+                for (int i = 0; i < leftSize; i++) {
+                    offsets[numL] = i;
+                    numL += array[first + i] >= pivot ? 1 : 0;
+                }
+                BenchmarkUtils.recordComparisons(leftSize);
+            }
+            if (unknownLeft != 0 && numR == 0) {
+                startR = 0;
+                for (int i = 0; i < rightSize; i++) {
+                    offsets[BLOCK_SIZE + numR] = i + 1;
+                    numR += array[last - (i + 1)] < pivot ? 1 : 0;
+                }
+                BenchmarkUtils.recordComparisons(rightSize);
+            }
+
+            int num = Math.min(numL, numR);
+            swapOffsets(array, first, last, offsets, startL, BLOCK_SIZE + startR, num,
+                    numL == numR);
+            numL -= num;
+            numR -= num;
+            startL += num;
+            startR += num;
+            if (numL == 0) first += leftSize;
+            if (numR == 0) last -= rightSize;
+
+            // One side still has misplaced elements; move them to the boundary
+            if (numL != 0) {
+                while (numL-- > 0) {
+                    BenchmarkUtils.swap(array, first + offsets[startL + numL], --last);
+                }
+                first = last;
+            }
+            if (numR != 0) {
+                while (numR-- > 0) {
+                    BenchmarkUtils.swap(array, last - offsets[BLOCK_SIZE + startR + numR], first);
+                    first++;
+                }
+                last = first;
+            }
+        }
+
+        // Put the pivot in its final place
+        int pivotPos = first - 1;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+
+        return ((long) pivotPos << 1) | (alreadyPartitioned ? 1 : 0);
+    }
+
+    /**
+     * Exchanges num misplaced pairs recorded by block partitioning.
+     *
+     * Unequal counts use a single rotation through all pairs (one move per element instead of
+     * three). Equal counts use plain swaps, which keeps descending input linear.
+     */
+    private void swapOffsets(int[] array, int first, int last, int[] offsets,
+                             int leftStart, int rightStart, int num, boolean useSwaps) {
+        if (useSwaps) {
+            for (int i = 0; i < num; i++) {
+                BenchmarkUtils.swap(array, first + offsets[leftStart + i],
+                        last - offsets[rightStart + i]);
+            }
+        } else if (num > 0) {
+            int l = first + offsets[leftStart];
+            int r = last - offsets[rightStart];
+            int temp = array[l];
+            array[l] = array[r];
+            for (int i = 1; i < num; i++) {
+                l = first + offsets[leftStart + i];
+                array[r] = array[l];
+                r = last - offsets[rightStart + i];
+                array[l] = array[r];
+            }
+            array[r] = temp;
+            BenchmarkUtils.recordSwaps(num);
+        }
+    }
+
+    /**
+     * Partitions [begin, end) around pivot array[begin] into {@code <= pivot} and
+     * {@code > pivot}. Used when the pivot equals the previous pivot, so every element on the
+     * left side is equal to it and already in place.
+     *
+     * @return Final pivot position
+     */
+    private int partitionLeft(int[] array, int begin, int end) {
+        int pivot = array[begin];
+        int first = begin;
+        int last = end;
+
+        while (BenchmarkUtils.compare(pivot, array[--last]) < 0) { }
+
+        if (last + 1 == end) {
+            while (first < last && BenchmarkUtils.compare(pivot, array[++first]) >= 0) { }
+        } else {
+            while (BenchmarkUtils.compare(pivot, array[++first]) >= 0) { }
+        }
+
+        while (first < last) {
+            BenchmarkUtils.swap(array, first, last);
+            while (BenchmarkUtils.compare(pivot, array[--last]) < 0) { }
+            while (BenchmarkUtils.compare(pivot, array[++first]) >= 0) { }
+        }
+
+        int pivotPos = last;
+        array[begin] = array[pivotPos];
+        array[pivotPos] = pivot;
+        return pivotPos;
+    }
+
+    /**
+     * Insertion sort that gives up after a small number of element moves.
+     *
+     * Kept linear rather than using {@link InsertionSort#binaryInsertionSort}: it only runs on
+     * ranges that look sorted, where each element costs one comparison either way, and the move
+     * budget must be checked after every insertion.
+     *
+     * @return true if the range ended up sorted
+     */
+    private boolean partialInsertionSort(int[] array, int begin, int end) {
+        if (begin == end) return true;
+
+        // Each shifted element is counted as a swap, as in InsertionSort
+        long shifts = 0;
+        boolean sorted = true;
+        for (int cur = begin + 1; cur < end && sorted; cur++) {
+            if (BenchmarkUtils.compare(array[cur], array[cur - 1]) < 0) {
+                int key = array[cur];
+                int sift = cur;
+
+                do {
+                    array[sift] = array[sift - 1];
+                    sift--;
+                } while (sift != begin && BenchmarkUtils.compare(key, array[sift - 1]) < 0);
+
+                array[sift] = key;
+                shifts += cur - sift;
+            }
+
+            sorted = shifts <= PARTIAL_INSERTION_SORT_LIMIT;
+        }
+
+        BenchmarkUtils.recordSwaps(shifts);
+        return sorted;
+    }
+
+    /**
+     * Sorts array[a], array[b], array[c] so that array[a] <= array[b] <= array[c].
+     */
+    private void sort3(int[] array, int a, int b, int c) {
+        if (BenchmarkUtils.compare(array, a, b)) BenchmarkUtils.swap(array, a, b);
+        if (BenchmarkUtils.compare(array, b, c)) BenchmarkUtils.swap(array, b, c);
+        if (BenchmarkUtils.compare(array, a, b)) BenchmarkUtils.swap(array, a, b);
+    }
+
+    /**
+     * Returns floor(log2(n)) for n >= 1.
+     */
+    private static int log2(int n) {
+        return 31 - Integer.numberOfLeadingZeros(n);
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Pattern-Defeating Quick Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false; // Partitioning reorders equal elements
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true; // Two fixed 64-entry offset blocks plus O(log n) stack
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Sorted, reverse sorted or few distinct values - O(n) via partition detection and equal-key partitioning";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Adversarial pivot patterns - broken up by shuffling, heap sort fallback bounds it at O(n log n)";
+    }
+}
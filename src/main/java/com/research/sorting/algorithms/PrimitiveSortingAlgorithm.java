@@ -0,0 +1,53 @@
+package com.research.sorting.algorithms;
+
+/**
+ * A sorting algorithm that also sorts the other primitive key types.
+ *
+ * The int[] entry point stays in {@link SortingAlgorithm}; the overloads here run the same
+ * algorithm on long, double, float, short and char keys with the same operation counting.
+ * Floating-point keys follow the total order of Double.compare and Float.compare, as
+ * java.util.Arrays.sort does. Each scalar variant runs its own kernel for every key type; the
+ * SIMD variants, whose vector kernels are int-only, run a scalar kernel for the other types.
+ */
+public interface PrimitiveSortingAlgorithm extends SortingAlgorithm {
+
+    /**
+     * Sorts the given long array in ascending order.
+     *
+     * @param array The array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    void sort(long[] array);
+
+    /**
+     * Sorts the given double array in ascending order.
+     *
+     * @param array The array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    void sort(double[] array);
+
+    /**
+     * Sorts the given float array in ascending order.
+     *
+     * @param array The array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    void sort(float[] array);
+
+    /**
+     * Sorts the given short array in ascending order.
+     *
+     * @param array The array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    void sort(short[] array);
+
+    /**
+     * Sorts the given char array in ascending order.
+     *
+     * @param array The array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    void sort(char[] array);
+}
@@ -2,7 +2,53 @@ package com.research.sorting.algorithms;
 
 import com.research.sorting.utils.BenchmarkUtils;
 
-public class QuickSort implements SortingAlgorithm {
+public class QuickSort implements PrimitiveSortingAlgorithm, KeyPayloadSortingAlgorithm {
+
+    /**
+     * Partitioning strategies selectable through the constructor.
+     */
+    public enum Variant {
+        /** Recursive Hoare partitioning down to single elements */
+        CLASSIC("Quick Sort"),
+        /**
+         * Vectorized three-way partitioning with SIMD sorting networks for small ranges. The
+         * vector kernels are int-only, so other key types and key/payload pairs are sorted
+         * with the CLASSIC kernels.
+         */
+        SIMD("Quick Sort (SIMD)");
+
+        private final String displayName;
+
+        Variant(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    /** Strategy used by {@link #sort(int[])} */
+    private final Variant variant;
+
+    /** Fallback used once the key/payload recursion depth limit is reached */
+    private final HeapSort heapSort = new HeapSort();
+
+    /**
+     * Creates the classic quick sort.
+     */
+    public QuickSort() {
+        this(Variant.CLASSIC);
+    }
+
+    /**
+     * Creates a quick sort using the given strategy.
+     * 
+     * @param variant Partitioning strategy
+     * @throws IllegalArgumentException if variant is null
+     */
+    public QuickSort(Variant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        this.variant = variant;
+    }
 
     /**
      * Entry point for Quick Sort algorithm.
@@ -12,6 +58,11 @@ public class QuickSort implements SortingAlgorithm {
      */
     @Override
     public void sort(int[] array) {
+        if (variant == Variant.SIMD) {
+            simdSort(array);
+            return;
+        }
+
         BenchmarkUtils.validateArray(array);
 
         if (array.length <= 1)
@@ -68,9 +119,221 @@ public class QuickSort implements SortingAlgorithm {
         }
     }
 
+    /**
+     * Quick sort built on Vector API kernels.
+     * 
+     * Algorithm steps:
+     * 1. Pick the median of the first, middle and last elements as pivot
+     * 2. Three-way partition with vector compares and compress-stores
+     * 3. Recurse into the smaller of the less/greater parts and loop on the larger one
+     * 4. Finish ranges of 64 elements or fewer with a SIMD sorting network
+     * 
+     * Keys equal to the pivot are placed by the partition and never revisited, so inputs
+     * with many duplicates shrink quickly.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    public void simdSort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+
+        if (array.length <= 1)
+            return;
+
+        int[] scratch = new int[Math.max(array.length, SimdSortKernels.scratchLength())];
+        simdQuickSort(array, 0, array.length, scratch, new int[2]);
+    }
+
+    /**
+     * Sorts array[begin...end-1] with vectorized partitioning.
+     */
+    private void simdQuickSort(int[] array, int begin, int end, int[] scratch, int[] bounds) {
+        while (end - begin > SimdSortKernels.MAX_NETWORK_SIZE) {
+            int pivot = medianOfThree(array[begin], array[begin + (end - begin) / 2], array[end - 1]);
+
+            SimdSortKernels.partition3(array, begin, end, pivot, scratch, bounds);
+            int less = bounds[0];
+            int greater = bounds[1];
+
+            if (less - begin < end - greater) {
+                simdQuickSort(array, begin, less, scratch, bounds);
+                begin = greater;
+            } else {
+                simdQuickSort(array, greater, end, scratch, bounds);
+                end = less;
+            }
+        }
+
+        if (SimdSortKernels.ACCELERATED) {
+            SimdSortKernels.sortSmall(array, begin, end, scratch);
+        } else {
+            InsertionSort.binaryInsertionSort(array, begin, end);
+        }
+    }
+
+    /**
+     * Returns the median of three values.
+     */
+    private int medianOfThree(int a, int b, int c) {
+        if (BenchmarkUtils.compare(a, b) > 0) {
+            int temp = a;
+            a = b;
+            b = temp;
+        }
+        if (BenchmarkUtils.compare(b, c) > 0) {
+            b = c;
+            if (BenchmarkUtils.compare(a, b) > 0) {
+                b = a;
+            }
+        }
+        return b;
+    }
+
+    /**
+     * Returns the partitioning strategy used by {@link #sort(int[])}.
+     * 
+     * @return Quick sort variant
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Sorts keys with classic Hoare partitioning, swapping payload entries along with them.
+     *
+     * @param keys Keys to be sorted
+     * @param payload Values moved with their keys
+     * @throws IllegalArgumentException if either array is null or their lengths differ
+     */
+    @Override
+    public void sort(int[] keys, int[] payload) {
+        BenchmarkUtils.validateArrays(keys, payload);
+        if (keys.length > 1) {
+            quickSort(keys, payload, 0, keys.length - 1, IntroSort.depthLimit(keys.length));
+        }
+    }
+
+    /**
+     * Key/payload Quick Sort loop with a depth budget, as in IntroSort.
+     *
+     * Recurses only into the smaller partition and loops on the larger one, so the stack never
+     * holds more than O(log n) frames. When the budget runs out the range is heap sorted.
+     */
+    private void quickSort(int[] keys, int[] payload, int low, int high, int depthLimit) {
+        while (low < high) {
+            if (depthLimit == 0) {
+                heapSort.sortRange(keys, payload, low, high);
+                return;
+            }
+            depthLimit--;
+
+            int pivotIndex = hoarePartition(keys, payload, low, high);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                quickSort(keys, payload, low, pivotIndex, depthLimit);
+                low = pivotIndex + 1;
+            } else {
+                quickSort(keys, payload, pivotIndex + 1, high, depthLimit);
+                high = pivotIndex;
+            }
+        }
+    }
+
+    /**
+     * Key/payload version of {@link #hoarePartition(int[], int, int)}, around the median of the
+     * first, middle and last keys so sorted and reverse sorted ranges split in half.
+     */
+    private int hoarePartition(int[] keys, int[] payload, int low, int high) {
+        int mid = low + (high - low) / 2;
+
+        if (BenchmarkUtils.compare(keys, low, mid)) BenchmarkUtils.swap(keys, payload, low, mid);
+        if (BenchmarkUtils.compare(keys, mid, high)) BenchmarkUtils.swap(keys, payload, mid, high);
+        if (BenchmarkUtils.compare(keys, low, mid)) BenchmarkUtils.swap(keys, payload, low, mid);
+        BenchmarkUtils.swap(keys, payload, low, mid);
+
+        int pivot = keys[low];
+        int i = low - 1;
+        int j = high + 1;
+
+        while (true) {
+            do {
+                i++;
+            } while (BenchmarkUtils.compare(pivot, keys[i]) > 0);
+
+            do {
+                j--;
+            } while (BenchmarkUtils.compare(keys[j], pivot) > 0);
+
+            if (i >= j)
+                return j;
+
+            BenchmarkUtils.swap(keys, payload, i, j);
+        }
+    }
+
+    /**
+     * Sorts a long array; see {@link #sort(int[])}.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(long[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) LongSortKernels.quickSort(array);
+    }
+
+    /**
+     * Sorts a double array; see {@link #sort(int[])}.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(double[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) DoubleSortKernels.quickSort(array);
+    }
+
+    /**
+     * Sorts a float array; see {@link #sort(int[])}.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(float[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) FloatSortKernels.quickSort(array);
+    }
+
+    /**
+     * Sorts a short array; see {@link #sort(int[])}.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(short[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) ShortSortKernels.quickSort(array);
+    }
+
+    /**
+     * Sorts a char array; see {@link #sort(int[])}.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(char[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) CharSortKernels.quickSort(array);
+    }
+
     @Override
     public String getAlgorithmName() {
-        return "Quick Sort";
+        return variant.displayName;
     }
 
     @Override
@@ -80,7 +343,7 @@ public class QuickSort implements SortingAlgorithm {
 
     @Override
     public String getSpaceComplexity() {
-        return "O(log n)";
+        return variant == Variant.SIMD ? "O(n)" : "O(log n)";
     }
 
     @Override
@@ -90,7 +353,8 @@ public class QuickSort implements SortingAlgorithm {
 
     @Override
     public boolean isInPlace() {
-        return true; // Uses only O(log n) extra space for recursion
+        // The SIMD variant partitions out of a scratch copy of the range
+        return variant == Variant.CLASSIC;
     }
 
     @Override
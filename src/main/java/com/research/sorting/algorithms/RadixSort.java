@@ -0,0 +1,191 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+
+public class RadixSort implements KeyPayloadSortingAlgorithm {
+
+    /** Digit width used by the default constructor */
+    public static final int DEFAULT_DIGIT_BITS = 8;
+
+    /** Flipping the sign bit maps signed order onto unsigned order */
+    private static final int SIGN_BIT = 0x8000_0000;
+
+    /** Bits per digit (8, 11 or 16) */
+    private final int digitBits;
+
+    /**
+     * Creates an LSD radix sort with 8-bit digits (four passes).
+     */
+    public RadixSort() {
+        this(DEFAULT_DIGIT_BITS);
+    }
+
+    /**
+     * Creates an LSD radix sort with the given digit width.
+     *
+     * Wider digits mean fewer passes but larger count tables: 8 bits gives four passes over a
+     * 256-entry table, 11 bits three passes over 2048 entries, 16 bits two passes over 65536.
+     *
+     * @param digitBits Bits per digit: 8, 11 or 16
+     * @throws IllegalArgumentException for any other width
+     */
+    public RadixSort(int digitBits) {
+        if (digitBits != 8 && digitBits != 11 && digitBits != 16) {
+            throw new IllegalArgumentException("Digit width must be 8, 11 or 16 bits: " + digitBits);
+        }
+        this.digitBits = digitBits;
+    }
+
+    /**
+     * Sorts the array with least-significant-digit radix sort.
+     *
+     * Algorithm steps:
+     * 1. One read pass builds the histogram of every digit position at once
+     * 2. For each digit, low to high, skip it if all keys share the same value there
+     * 3. Otherwise turn its histogram into bucket offsets and scatter keys into the other buffer
+     * 4. Copy back if the last pass left the result in the scratch buffer
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+        radixSort(array, null);
+    }
+
+    /**
+     * Sorts keys with LSD radix sort, scattering each payload entry in the same pass as its key.
+     *
+     * Every pass is stable, so equal keys keep their payload order.
+     *
+     * @param keys Keys to be sorted
+     * @param payload Values moved with their keys
+     * @throws IllegalArgumentException if either array is null or their lengths differ
+     */
+    @Override
+    public void sort(int[] keys, int[] payload) {
+        BenchmarkUtils.validateArrays(keys, payload);
+        radixSort(keys, payload);
+    }
+
+    /**
+     * Radix sorts array, moving payload with it when payload is not null.
+     */
+    private void radixSort(int[] array, int[] payload) {
+        int n = array.length;
+        if (n <= 1) return;
+
+        int radix = 1 << digitBits;
+        int mask = radix - 1;
+        int passes = (Integer.SIZE + digitBits - 1) / digitBits;
+
+        // Histograms for all digit positions from a single read pass
+        int[][] histograms = new int[passes][radix];
+        for (int i = 0; i < n; i++) {
+            int key = array[i] ^ SIGN_BIT;
+            for (int pass = 0; pass < passes; pass++) {
+                histograms[pass][(key >>> (pass * digitBits)) & mask]++;
+            }
+        }
+        BenchmarkUtils.recordKeyReads(n);
+
+        int[] source = array;
+        int[] target = new int[n];
+        int[] sourcePayload = payload;
+        int[] targetPayload = payload == null ? null : new int[n];
+
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * digitBits;
+            int[] counts = histograms[pass];
+
+            // Every key has the same digit here: this pass would not move anything
+            if (counts[((source[0] ^ SIGN_BIT) >>> shift) & mask] == n) {
+                continue;
+            }
+
+            // Exclusive prefix sum turns counts into starting offsets
+            int offset = 0;
+            for (int digit = 0; digit < radix; digit++) {
+                int count = counts[digit];
+                counts[digit] = offset;
+                offset += count;
+            }
+
+            if (payload == null) {
+                for (int i = 0; i < n; i++) {
+                    int value = source[i];
+                    target[counts[((value ^ SIGN_BIT) >>> shift) & mask]++] = value;
+                }
+            } else {
+                for (int i = 0; i < n; i++) {
+                    int value = source[i];
+                    int position = counts[((value ^ SIGN_BIT) >>> shift) & mask]++;
+                    target[position] = value;
+                    targetPayload[position] = sourcePayload[i];
+                }
+
+                int[] temp = sourcePayload;
+                sourcePayload = targetPayload;
+                targetPayload = temp;
+            }
+            BenchmarkUtils.recordKeyReads(n);
+            BenchmarkUtils.recordScatterWrites(n);
+
+            int[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+            if (payload != null) {
+                System.arraycopy(sourcePayload, 0, payload, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Returns the digit width in bits.
+     *
+     * @return Bits per digit
+     */
+    public int getDigitBits() {
+        return digitBits;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return digitBits == DEFAULT_DIGIT_BITS ? "Radix Sort" : "Radix Sort (" + digitBits + "-bit)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(d(n + b))";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n + b)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return true; // Each scatter pass preserves the order of equal digits
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return false; // Scatters into an n-sized buffer
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Keys sharing their high digits (small value range) - constant passes are skipped";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Small arrays - the count tables and scratch buffer outweigh the O(n) passes";
+    }
+}
@@ -2,7 +2,7 @@ package com.research.sorting.algorithms;
 
 import com.research.sorting.utils.BenchmarkUtils;
 
-public class SelectionSort implements SortingAlgorithm {
+public class SelectionSort implements PrimitiveSortingAlgorithm {
     
     /**
      * Sorts the array using selection sort algorithm.
@@ -47,6 +47,66 @@ public class SelectionSort implements SortingAlgorithm {
         }
     }
     
+    /**
+     * Sorts a long array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(long[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) LongSortKernels.selectionSort(array);
+    }
+    
+    /**
+     * Sorts a double array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(double[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) DoubleSortKernels.selectionSort(array);
+    }
+    
+    /**
+     * Sorts a float array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(float[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) FloatSortKernels.selectionSort(array);
+    }
+    
+    /**
+     * Sorts a short array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(short[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) ShortSortKernels.selectionSort(array);
+    }
+    
+    /**
+     * Sorts a char array; see {@link #sort(int[])}.
+     * 
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(char[] array) {
+        BenchmarkUtils.validateArray(array);
+        if (array.length > 1) CharSortKernels.selectionSort(array);
+    }
+    
     /**
      * Returns the name of this sorting algorithm.
      * 
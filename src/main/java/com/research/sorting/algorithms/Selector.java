@@ -0,0 +1,321 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+
+/**
+ * Selection without a full sort: k-th smallest element, partial sort and top-k.
+ *
+ * Finding the k-th element takes O(n) expected time and the k smallest in order
+ * O(n + k log k), against O(n log n) for sorting everything.
+ */
+public class Selector {
+
+    /**
+     * Selection strategies selectable through the constructor.
+     */
+    public enum Variant {
+        /** Quickselect on median-of-three pivots, heap sorting the range if recursion gets deep */
+        INTROSELECT("Introselect"),
+        /** Floyd-Rivest: pivots bracketing k taken from a recursively selected sample */
+        FLOYD_RIVEST("Floyd-Rivest Select"),
+        /** Bounded max heap of the k smallest, built on HeapSort's bottom-up sift */
+        HEAP("Heap Select");
+
+        private final String displayName;
+
+        Variant(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    /** Ranges at most this long are finished by insertion sort in introselect */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /** Floyd-Rivest samples only ranges longer than this */
+    private static final int SAMPLING_THRESHOLD = 600;
+
+    /** Strategy used by every method */
+    private final Variant variant;
+
+    /** Provides the bottom-up sift for HEAP and the introselect fallback */
+    private final HeapSort heapSort = new HeapSort();
+
+    /** Sorts the prefix left by select-based partial sorts */
+    private final PatternDefeatingQuickSort prefixSorter = new PatternDefeatingQuickSort();
+
+    /**
+     * Creates an introselect selector.
+     */
+    public Selector() {
+        this(Variant.INTROSELECT);
+    }
+
+    /**
+     * Creates a selector using the given strategy.
+     *
+     * @param variant Selection strategy
+     * @throws IllegalArgumentException if variant is null
+     */
+    public Selector(Variant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        this.variant = variant;
+    }
+
+    /**
+     * Moves the k-th smallest element (0-based) to index k.
+     *
+     * Afterwards no element before index k is larger and no element after it is smaller; the
+     * order within either side is unspecified.
+     *
+     * @param array Array to rearrange
+     * @param k Rank of the element to select, from 0 to array.length - 1
+     * @return The k-th smallest element
+     * @throws IllegalArgumentException if array is null or k is out of range
+     */
+    public int select(int[] array, int k) {
+        BenchmarkUtils.validateArray(array);
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException(
+                    "k must be between 0 and " + (array.length - 1) + ": " + k);
+        }
+
+        switch (variant) {
+            case FLOYD_RIVEST:
+                floydRivest(array, 0, array.length - 1, k);
+                break;
+            case HEAP:
+                heapSelect(array, k + 1);
+                BenchmarkUtils.swap(array, 0, k);
+                break;
+            default:
+                introSelect(array, 0, array.length - 1, k);
+                break;
+        }
+        return array[k];
+    }
+
+    /**
+     * Places the k smallest elements, in ascending order, at the front of the array.
+     *
+     * The order of the remaining elements is unspecified.
+     *
+     * @param array Array to rearrange
+     * @param k Number of smallest elements to sort, from 0 to array.length
+     * @throws IllegalArgumentException if array is null or k is out of range
+     */
+    public void partialSort(int[] array, int k) {
+        BenchmarkUtils.validateArray(array);
+        if (k < 0 || k > array.length) {
+            throw new IllegalArgumentException(
+                    "k must be between 0 and " + array.length + ": " + k);
+        }
+        if (k == 0) return;
+
+        if (variant == Variant.HEAP) {
+            heapSelect(array, k);
+            // Sort the heap in place: repeatedly move its maximum to the end
+            for (int end = k - 1; end > 0; end--) {
+                int value = array[end];
+                array[end] = array[0];
+                BenchmarkUtils.recordSwaps(1);
+                heapSort.siftDownBottomUp(array, 0, value, end, 2);
+            }
+            return;
+        }
+
+        select(array, k - 1);
+        prefixSorter.sortRange(array, 0, k - 1);
+    }
+
+    /**
+     * Returns the k largest elements in descending order, leaving the array unchanged.
+     *
+     * HEAP scans the array once with a k-element heap and allocates only the result; the other
+     * variants select on a copy of the array.
+     *
+     * @param array Array to search
+     * @param k Number of largest elements to return, from 0 to array.length
+     * @return New array with the k largest elements, largest first
+     * @throws IllegalArgumentException if array is null or k is out of range
+     */
+    public int[] topK(int[] array, int k) {
+        BenchmarkUtils.validateArray(array);
+        if (k < 0 || k > array.length) {
+            throw new IllegalArgumentException(
+                    "k must be between 0 and " + array.length + ": " + k);
+        }
+        if (k == 0) return new int[0];
+
+        int[] result;
+        if (variant == Variant.HEAP) {
+            // Complemented keys reverse the order, so the max heap keeps the k largest values
+            // with the smallest of them at the root, and sorting it yields descending order
+            result = new int[k];
+            for (int i = 0; i < k; i++) {
+                result[i] = ~array[i];
+            }
+            for (int i = (k - 2) / 2; i >= 0; i--) {
+                heapSort.siftDownBottomUp(result, i, result[i], k, 2);
+            }
+            for (int i = k; i < array.length; i++) {
+                if (BenchmarkUtils.compare(~array[i], result[0]) < 0) {
+                    heapSort.siftDownBottomUp(result, 0, ~array[i], k, 2);
+                }
+            }
+            for (int end = k - 1; end > 0; end--) {
+                int value = result[end];
+                result[end] = result[0];
+                heapSort.siftDownBottomUp(result, 0, value, end, 2);
+            }
+            for (int i = 0; i < k; i++) {
+                result[i] = ~result[i];
+            }
+            return result;
+        }
+
+        int[] copy = array.clone();
+        int n = copy.length;
+        select(copy, n - k);
+        prefixSorter.sortRange(copy, n - k + 1, n);
+
+        result = new int[k];
+        for (int i = 0; i < k; i++) {
+            result[i] = copy[n - 1 - i];
+        }
+        return result;
+    }
+
+    /**
+     * Rearranges array so that its first size positions form a max heap of the size smallest
+     * elements: a heap of the first size elements absorbs every smaller element that follows.
+     */
+    private void heapSelect(int[] array, int size) {
+        for (int i = (size - 2) / 2; i >= 0; i--) {
+            heapSort.siftDownBottomUp(array, i, array[i], size, 2);
+        }
+
+        for (int i = size; i < array.length; i++) {
+            if (BenchmarkUtils.compare(array[i], array[0]) < 0) {
+                int value = array[i];
+                array[i] = array[0];
+                BenchmarkUtils.recordSwaps(1);
+                heapSort.siftDownBottomUp(array, 0, value, size, 2);
+            }
+        }
+    }
+
+    /**
+     * Quickselect on array[left...right] with a recursion budget of 2 log2(n) partitions,
+     * after which the remaining range is heap sorted to bound the worst case at O(n log n).
+     */
+    private void introSelect(int[] array, int left, int right, int k) {
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(right - left + 1));
+
+        while (right - left >= INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort.sortRange(array, left, right);
+                return;
+            }
+
+            // Median of three moved to the middle, used as pivot value
+            int mid = left + (right - left) / 2;
+            if (BenchmarkUtils.compare(array, left, mid)) BenchmarkUtils.swap(array, left, mid);
+            if (BenchmarkUtils.compare(array, mid, right)) BenchmarkUtils.swap(array, mid, right);
+            if (BenchmarkUtils.compare(array, left, mid)) BenchmarkUtils.swap(array, left, mid);
+            int pivot = array[mid];
+
+            // Hoare partition: array[left...j] <= pivot <= array[j+1...right]
+            int i = left - 1;
+            int j = right + 1;
+            while (true) {
+                do {
+                    i++;
+                } while (BenchmarkUtils.compare(pivot, array[i]) > 0);
+                do {
+                    j--;
+                } while (BenchmarkUtils.compare(array[j], pivot) > 0);
+                if (i >= j) break;
+                BenchmarkUtils.swap(array, i, j);
+            }
+
+            // Continue only in the side holding k
+            if (k <= j) {
+                right = j;
+            } else {
+                left = j + 1;
+            }
+        }
+
+        InsertionSort.binaryInsertionSort(array, left, right + 1);
+    }
+
+    /**
+     * Floyd-Rivest selection on array[left...right].
+     *
+     * For long ranges a sample of about n^(2/3) elements around k is selected recursively first,
+     * so the partitioning value lands just below and just above k; each partition then discards
+     * most of the range with about n + min(k, n - k) comparisons.
+     */
+    private void floydRivest(int[] array, int left, int right, int k) {
+        while (right > left) {
+            if (right - left > SAMPLING_THRESHOLD) {
+                double n = right - left + 1;
+                double i = k - left + 1;
+                double z = Math.log(n);
+                double s = 0.5 * Math.exp(2 * z / 3);
+                double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2);
+                int newLeft = (int) Math.max(left, Math.floor(k - i * s / n + sd));
+                int newRight = (int) Math.min(right, Math.floor(k + (n - i) * s / n + sd));
+                floydRivest(array, newLeft, newRight, k);
+            }
+
+            int pivot = array[k];
+            int i = left;
+            int j = right;
+
+            BenchmarkUtils.swap(array, left, k);
+            if (BenchmarkUtils.compare(array[right], pivot) > 0) {
+                BenchmarkUtils.swap(array, right, left);
+            }
+
+            while (i < j) {
+                BenchmarkUtils.swap(array, i, j);
+                i++;
+                j--;
+                while (BenchmarkUtils.compare(array[i], pivot) < 0) i++;
+                while (BenchmarkUtils.compare(array[j], pivot) > 0) j--;
+            }
+
+            // Put the pivot at its final position j
+            if (array[left] == pivot) {
+                BenchmarkUtils.swap(array, left, j);
+            } else {
+                j++;
+                BenchmarkUtils.swap(array, j, right);
+            }
+
+            if (j <= k) left = j + 1;
+            if (k <= j) right = j - 1;
+        }
+    }
+
+    /**
+     * Returns the selection strategy.
+     *
+     * @return Selection variant
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Returns the name of the selection strategy, used in benchmark results.
+     *
+     * @return Strategy name
+     */
+    public String getAlgorithmName() {
+        return variant.displayName;
+    }
+}
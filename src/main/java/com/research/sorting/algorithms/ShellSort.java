@@ -0,0 +1,181 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ShellSort implements SortingAlgorithm {
+
+    /**
+     * Gap sequences selectable through the constructor.
+     */
+    public enum GapSequence {
+        /** Ciura (2001): empirically tuned up to 1750, extended by a factor of 2.25 */
+        CIURA("Ciura"),
+        /** Tokuda (1992): ceil((9^k - 4^k) / (5 * 4^(k-1))) */
+        TOKUDA("Tokuda"),
+        /** Sedgewick (1986): 1 and 4^k + 3 * 2^(k-1) + 1 */
+        SEDGEWICK("Sedgewick"),
+        /** Knuth (1973): (3^k - 1) / 2, largest gap at most n / 3 */
+        KNUTH("Knuth");
+
+        private final String displayName;
+
+        GapSequence(String displayName) {
+            this.displayName = displayName;
+        }
+
+        /**
+         * Returns the gaps to use for an array of length n, largest first, ending with 1.
+         *
+         * @param n Array length
+         * @return Gaps in decreasing order
+         */
+        public int[] gaps(int n) {
+            List<Long> ascending = new ArrayList<>();
+            long gap = 1;
+            int k = 1;
+
+            while (gap < n || ascending.isEmpty()) {
+                ascending.add(gap);
+                gap = next(ascending, k++);
+                if (this == KNUTH && gap > Math.max(1, n / 3)) break;
+            }
+
+            int[] gaps = new int[ascending.size()];
+            for (int i = 0; i < gaps.length; i++) {
+                gaps[i] = (int) (long) ascending.get(gaps.length - 1 - i);
+            }
+            return gaps;
+        }
+
+        /**
+         * Computes the gap after the k-th one.
+         */
+        private long next(List<Long> previous, int k) {
+            switch (this) {
+                case CIURA:
+                    return k < CIURA_GAPS.length
+                            ? CIURA_GAPS[k]
+                            : (long) (previous.get(previous.size() - 1) * 2.25);
+                case TOKUDA:
+                    return (long) Math.ceil(4 * (Math.pow(2.25, k + 1) - 1) / 5);
+                case SEDGEWICK:
+                    return (1L << (2 * k)) + 3L * (1L << (k - 1)) + 1;
+                default:
+                    return 3 * previous.get(previous.size() - 1) + 1;
+            }
+        }
+    }
+
+    /** Ciura's measured sequence; later gaps are extrapolated */
+    private static final long[] CIURA_GAPS = {1, 4, 10, 23, 57, 132, 301, 701, 1750};
+
+    /** Gap sequence used by {@link #sort(int[])} */
+    private final GapSequence gapSequence;
+
+    /**
+     * Creates a shell sort with Ciura's gap sequence.
+     */
+    public ShellSort() {
+        this(GapSequence.CIURA);
+    }
+
+    /**
+     * Creates a shell sort with the given gap sequence.
+     *
+     * @param gapSequence Gap sequence
+     * @throws IllegalArgumentException if gapSequence is null
+     */
+    public ShellSort(GapSequence gapSequence) {
+        if (gapSequence == null) {
+            throw new IllegalArgumentException("Gap sequence cannot be null");
+        }
+        this.gapSequence = gapSequence;
+    }
+
+    /**
+     * Entry point for Shell Sort algorithm.
+     *
+     * Algorithm steps:
+     * 1. Compute the gap sequence for the array length
+     * 2. For each gap, largest first, insertion sort every gap-th element
+     * 3. The final gap is 1, a plain insertion sort over an almost sorted array
+     *
+     * Large gaps move far-away elements in few steps, so the last passes only make
+     * short shifts. No recursion and no extra arrays beyond the gap list are needed.
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+
+        int n = array.length;
+        if (n <= 1) return;
+
+        for (int gap : gapSequence.gaps(n)) {
+            long shifts = 0;
+
+            for (int i = gap; i < n; i++) {
+                int current = array[i];
+                int j = i;
+
+                while (j >= gap && BenchmarkUtils.compare(array[j - gap], current) > 0) {
+                    array[j] = array[j - gap];
+                    j -= gap;
+                    shifts++;
+                }
+                array[j] = current;
+            }
+
+            // Element movements are counted as swaps, as in InsertionSort
+            BenchmarkUtils.recordSwaps(shifts);
+        }
+    }
+
+    /**
+     * Returns the gap sequence used by {@link #sort(int[])}.
+     *
+     * @return Gap sequence
+     */
+    public GapSequence getGapSequence() {
+        return gapSequence;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Shell Sort (" + gapSequence.displayName + ")";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return gapSequence == GapSequence.KNUTH ? "O(n^1.5)" : "O(n^4/3)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(1)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false; // Gapped passes move elements past equal keys
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true; // No recursion, only the gap list
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Sorted or nearly sorted data - every pass makes few shifts";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Large random arrays - still super-linear, O(n log n) sorts pull ahead past ~50K elements";
+    }
+}
@@ -0,0 +1,203 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernels shared by the SIMD variants of QuickSort and MergeSort.
+ *
+ * Requires {@code --add-modules jdk.incubator.vector} at compile time and run time.
+ */
+final class SimdSortKernels {
+
+    /** Widest int vector the hardware supports (8 lanes on AVX2, 16 on AVX-512) */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /** Lanes per vector */
+    private static final int LANES = SPECIES.length();
+
+    /** Without at least four lanes the network does more work than insertion sort */
+    static final boolean ACCELERATED = LANES >= 4;
+
+    /** Largest block sorted by {@link #sortSmall} */
+    static final int MAX_NETWORK_SIZE = 64;
+
+    /** PARTNER.get(s): shuffle pairing lane i with lane i ^ 2^s */
+    private static final List<VectorShuffle<Integer>> PARTNER;
+
+    /** TAKE_MIN.get(t).get(s), s < t: lanes keeping the minimum of a compare-exchange at
+     *  distance 2^s inside bitonic blocks of size 2^t; t == log2(LANES) stands for every block
+     *  at least one vector */
+    private static final List<List<VectorMask<Integer>>> TAKE_MIN;
+
+    static {
+        int logLanes = Integer.numberOfTrailingZeros(LANES);
+
+        List<VectorShuffle<Integer>> partner = new ArrayList<>();
+        for (int s = 0; s < logLanes; s++) {
+            int distance = 1 << s;
+            partner.add(VectorShuffle.fromOp(SPECIES, lane -> lane ^ distance));
+        }
+
+        List<List<VectorMask<Integer>>> takeMin = new ArrayList<>();
+        for (int t = 0; t <= logLanes; t++) {
+            int block = 1 << t;
+            List<VectorMask<Integer>> masks = new ArrayList<>();
+            for (int s = 0; s < t; s++) {
+                int distance = 1 << s;
+                boolean[] bits = new boolean[LANES];
+                for (int lane = 0; lane < LANES; lane++) {
+                    boolean lowerOfPair = (lane & distance) == 0;
+                    boolean descending = block < LANES && (lane & block) != 0;
+                    bits[lane] = lowerOfPair != descending;
+                }
+                masks.add(VectorMask.fromArray(SPECIES, bits, 0));
+            }
+            takeMin.add(List.copyOf(masks));
+        }
+
+        PARTNER = List.copyOf(partner);
+        TAKE_MIN = List.copyOf(takeMin);
+    }
+
+    private SimdSortKernels() {
+    }
+
+    /**
+     * Sorts array[from...to-1], at most {@link #MAX_NETWORK_SIZE} elements, with a bitonic
+     * sorting network.
+     *
+     * The range is copied into scratch, padded with Integer.MAX_VALUE up to a power of two of at
+     * least one vector, sorted there and copied back. Compare-exchange steps between elements
+     * at least one vector apart are plain vector min/max; closer pairs are formed inside a
+     * register with a lane shuffle and recombined with a blend.
+     *
+     * @param array Array containing the range
+     * @param from First index of the range
+     * @param to One past the last index of the range
+     * @param scratch Buffer of at least {@link #scratchLength()} elements
+     */
+    static void sortSmall(int[] array, int from, int to, int[] scratch) {
+        int length = to - from;
+        if (length <= 1) return;
+
+        int size = Math.max(LANES, Integer.highestOneBit(length - 1) << 1);
+        System.arraycopy(array, from, scratch, 0, length);
+        for (int i = length; i < size; i++) {
+            scratch[i] = Integer.MAX_VALUE;
+        }
+
+        bitonicSort(scratch, size);
+
+        System.arraycopy(scratch, 0, array, from, length);
+    }
+
+    /**
+     * Sorts buffer[0...size-1] in place; size is a power of two and a multiple of LANES.
+     */
+    private static void bitonicSort(int[] buffer, int size) {
+        int logLanes = Integer.numberOfTrailingZeros(LANES);
+        long exchanges = 0;
+
+        for (int block = 2; block <= size; block <<= 1) {
+            int blockBits = Math.min(Integer.numberOfTrailingZeros(block), logLanes);
+
+            for (int distance = block >> 1; distance > 0; distance >>= 1) {
+                if (distance >= LANES) {
+                    // Whole vectors against whole vectors; direction is uniform per vector
+                    for (int i = 0; i < size; i += LANES) {
+                        if ((i & distance) != 0) continue;
+
+                        IntVector a = IntVector.fromArray(SPECIES, buffer, i);
+                        IntVector b = IntVector.fromArray(SPECIES, buffer, i + distance);
+                        boolean descending = (i & block) != 0;
+                        (descending ? a.max(b) : a.min(b)).intoArray(buffer, i);
+                        (descending ? a.min(b) : a.max(b)).intoArray(buffer, i + distance);
+                    }
+                } else {
+                    // Pairs inside one vector: shuffle to the partner lane, then blend
+                    int distanceBits = Integer.numberOfTrailingZeros(distance);
+                    VectorShuffle<Integer> partner = PARTNER.get(distanceBits);
+                    VectorMask<Integer> ascending = TAKE_MIN.get(blockBits).get(distanceBits);
+
+                    for (int i = 0; i < size; i += LANES) {
+                        IntVector v = IntVector.fromArray(SPECIES, buffer, i);
+                        IntVector p = v.rearrange(partner);
+                        VectorMask<Integer> takeMin =
+                                block >= LANES && (i & block) != 0 ? ascending.not() : ascending;
+                        v.max(p).blend(v.min(p), takeMin).intoArray(buffer, i);
+                    }
+                }
+                exchanges += size / 2;
+            }
+        }
+
+        BenchmarkUtils.recordComparisons(exchanges);
+    }
+
+    /**
+     * Three-way partitions array[from...to-1] around pivot with compress-stores.
+     *
+     * The range is first copied to scratch. Each vector of it is compared with the pivot once
+     * for less-than and once for greater-than; the lanes of each kind are compressed to the
+     * front of the vector and stored at the next free slot from the left or from the right.
+     * Keys equal to the pivot are only counted and written as one fill in the middle.
+     *
+     * @param array Array containing the range
+     * @param from First index of the range
+     * @param to One past the last index of the range
+     * @param pivot Pivot value; must occur in the range
+     * @param scratch Buffer of at least to - from elements
+     * @param bounds Receives the end of the less-than part in [0] and the start of the
+     *               greater-than part in [1]
+     */
+    static void partition3(int[] array, int from, int to, int pivot, int[] scratch, int[] bounds) {
+        int length = to - from;
+        System.arraycopy(array, from, scratch, 0, length);
+
+        IntVector pivots = IntVector.broadcast(SPECIES, pivot);
+        int less = from;
+        int greater = to;
+
+        for (int i = 0; i < length; i += LANES) {
+            VectorMask<Integer> inRange = SPECIES.indexInRange(i, length);
+            IntVector v = IntVector.fromArray(SPECIES, scratch, i, inRange);
+
+            VectorMask<Integer> lt = v.compare(VectorOperators.LT, pivots, inRange);
+            VectorMask<Integer> gt = v.compare(VectorOperators.GT, pivots, inRange);
+            int ltCount = lt.trueCount();
+            int gtCount = gt.trueCount();
+
+            if (ltCount > 0) {
+                v.compress(lt).intoArray(array, less, SPECIES.indexInRange(0, ltCount));
+                less += ltCount;
+            }
+            if (gtCount > 0) {
+                greater -= gtCount;
+                v.compress(gt).intoArray(array, greater, SPECIES.indexInRange(0, gtCount));
+            }
+        }
+
+        Arrays.fill(array, less, greater, pivot);
+        BenchmarkUtils.recordComparisons(2L * length);
+
+        bounds[0] = less;
+        bounds[1] = greater;
+    }
+
+    /**
+     * Returns the scratch length {@link #sortSmall} needs for blocks up to MAX_NETWORK_SIZE.
+     *
+     * @return Scratch buffer length
+     */
+    static int scratchLength() {
+        return Math.max(LANES, MAX_NETWORK_SIZE);
+    }
+}
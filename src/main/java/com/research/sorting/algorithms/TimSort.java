@@ -0,0 +1,574 @@
+package com.research.sorting.algorithms;
+
+import com.research.sorting.utils.BenchmarkUtils;
+
+public class TimSort implements SortingAlgorithm {
+
+    /** Arrays shorter than this are sorted with a single binary insertion sort */
+    static final int MIN_MERGE = 32;
+
+    /** Consecutive wins by one run before a merge switches to galloping */
+    private static final int MIN_GALLOP = 7;
+
+    /** Initial merge buffer size; grows on demand up to n/2 */
+    private static final int INITIAL_TMP_LENGTH = 256;
+
+    /** Run stack capacity; the stack invariants keep it below this for any int-sized array */
+    private static final int MAX_RUN_STACK = 49;
+
+    /**
+     * Sorts the array with a natural merge sort in the style of TimSort.
+     *
+     * Algorithm steps:
+     * 1. Scan for the next run, reversing it if strictly descending
+     * 2. Extend runs shorter than minRun with binary insertion sort
+     * 3. Push the run and merge stack entries until the run-length invariants hold
+     * 4. Merge whatever remains on the stack once the input is exhausted
+     *
+     * Merges gallop (exponential then binary search) when one run keeps winning, so
+     * interleaving already-ordered blocks costs O(log n) comparisons instead of O(n).
+     *
+     * @param array Array to be sorted
+     * @throws IllegalArgumentException if array is null
+     */
+    @Override
+    public void sort(int[] array) {
+        BenchmarkUtils.validateArray(array);
+
+        int n = array.length;
+        if (n < 2) return;
+
+        // Small arrays: one run plus binary insertion, no merging
+        if (n < MIN_MERGE) {
+            int runLength = countRunAndMakeAscending(array, 0, n);
+            binaryInsertionSort(array, 0, n, runLength);
+            return;
+        }
+
+        RunMerger merger = new RunMerger(array);
+        int minRun = minRunLength(n);
+        int low = 0;
+        int remaining = n;
+
+        do {
+            int runLength = countRunAndMakeAscending(array, low, low + remaining);
+
+            // Short run: extend to min(minRun, remaining) with binary insertion
+            if (runLength < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(array, low, low + forced, low + runLength);
+                runLength = forced;
+            }
+
+            merger.pushRun(low, runLength);
+            merger.mergeCollapse();
+
+            low += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+
+        merger.mergeForceCollapse();
+    }
+
+    /**
+     * Returns the minimum run length for an array of length n.
+     *
+     * Takes the six most significant bits of n, plus one if any remaining bit is set, so that
+     * n / minRun is a power of two or slightly below one - the case where merges stay balanced.
+     *
+     * @param n Array length
+     * @return Value in [MIN_MERGE / 2, MIN_MERGE], or n itself when n < MIN_MERGE
+     */
+    static int minRunLength(int n) {
+        int remainder = 0;
+        while (n >= MIN_MERGE) {
+            remainder |= n & 1;
+            n >>= 1;
+        }
+        return n + remainder;
+    }
+
+    /**
+     * Returns the length of the run starting at low, reversing it first if it is descending.
+     *
+     * Descending runs must be strictly descending so reversing them keeps the sort stable.
+     *
+     * @param array Array to scan
+     * @param low First index of the run
+     * @param high One past the last index that may belong to the run
+     * @return Length of the (now ascending) run
+     */
+    private int countRunAndMakeAscending(int[] array, int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh == high) return 1;
+
+        if (BenchmarkUtils.compare(array[runHigh++], array[low]) < 0) {
+            while (runHigh < high && BenchmarkUtils.compare(array[runHigh], array[runHigh - 1]) < 0) {
+                runHigh++;
+            }
+            reverseRange(array, low, runHigh);
+        } else {
+            while (runHigh < high && BenchmarkUtils.compare(array[runHigh], array[runHigh - 1]) >= 0) {
+                runHigh++;
+            }
+        }
+
+        return runHigh - low;
+    }
+
+    /**
+     * Reverses array[low...high-1].
+     */
+    private void reverseRange(int[] array, int low, int high) {
+        high--;
+        while (low < high) {
+            BenchmarkUtils.swap(array, low++, high--);
+        }
+    }
+
+    /**
+     * Sorts array[low...high-1] given that array[low...start-1] is already sorted.
+     *
+     * Each element is placed by binary search, so only O(log n) comparisons are spent per
+     * element; the shift is a single System.arraycopy.
+     */
+    private void binaryInsertionSort(int[] array, int low, int high, int start) {
+        if (start == low) start++;
+
+        for (; start < high; start++) {
+            int pivot = array[start];
+            int left = low;
+            int right = start;
+
+            // Insert after any equal elements to keep the sort stable
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (BenchmarkUtils.compare(pivot, array[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            System.arraycopy(array, left, array, left + 1, start - left);
+            array[left] = pivot;
+        }
+    }
+
+    /**
+     * Locates the leftmost position at which key can be inserted into the sorted range
+     * array[base...base+length-1], searching outward from base+hint.
+     *
+     * @return k such that array[base+k-1] < key <= array[base+k]
+     */
+    private static int gallopLeft(int key, int[] array, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+
+        if (BenchmarkUtils.compare(key, array[base + hint]) > 0) {
+            // Gallop right until array[base+hint+lastOffset] < key <= array[base+hint+offset]
+            int maxOffset = length - hint;
+            while (offset < maxOffset && BenchmarkUtils.compare(key, array[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset; // int overflow
+            }
+            if (offset > maxOffset) offset = maxOffset;
+
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            // Gallop left until array[base+hint-offset] < key <= array[base+hint-lastOffset]
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && BenchmarkUtils.compare(key, array[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
+            }
+            if (offset > maxOffset) offset = maxOffset;
+
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        }
+
+        // Binary search in (lastOffset, offset]
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (BenchmarkUtils.compare(key, array[base + mid]) > 0) {
+                lastOffset = mid + 1;
+            } else {
+                offset = mid;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Like {@link #gallopLeft}, but returns the rightmost position when the range contains
+     * elements equal to key.
+     *
+     * @return k such that array[base+k-1] <= key < array[base+k]
+     */
+    private static int gallopRight(int key, int[] array, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+
+        if (BenchmarkUtils.compare(key, array[base + hint]) < 0) {
+            // Gallop left until array[base+hint-offset] <= key < array[base+hint-lastOffset]
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && BenchmarkUtils.compare(key, array[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
+            }
+            if (offset > maxOffset) offset = maxOffset;
+
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        } else {
+            // Gallop right until array[base+hint+lastOffset] <= key < array[base+hint+offset]
+            int maxOffset = length - hint;
+            while (offset < maxOffset && BenchmarkUtils.compare(key, array[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
+            }
+            if (offset > maxOffset) offset = maxOffset;
+
+            lastOffset += hint;
+            offset += hint;
+        }
+
+        // Binary search in (lastOffset, offset]
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (BenchmarkUtils.compare(key, array[base + mid]) < 0) {
+                offset = mid;
+            } else {
+                lastOffset = mid + 1;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Per-sort merge state: the pending run stack, the merge buffer and the adaptive
+     * galloping threshold.
+     */
+    private static class RunMerger {
+        private final int[] array;
+        private int[] tmp;
+        private int minGallop = MIN_GALLOP;
+
+        private final int[] runBase = new int[MAX_RUN_STACK];
+        private final int[] runLength = new int[MAX_RUN_STACK];
+        private int stackSize = 0;
+
+        RunMerger(int[] array) {
+            this.array = array;
+        }
+
+        void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Merges adjacent runs until, for the top entries A, B, C (C on top):
+         * A > B + C and B > C.
+         *
+         * Checks the invariant one level deeper as well, so it holds for the whole stack and
+         * run lengths grow at least as fast as the Fibonacci numbers.
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) n--;
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break; // Invariants hold
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges every run on the stack into one.
+         */
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) n--;
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the runs at stack positions i and i+1.
+         *
+         * Elements of the first run that are already below the second run's head, and
+         * elements of the second run already above the first run's tail, are found by
+         * galloping and left in place; only the overlap is merged.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            // Skip the prefix of run 1 that is already in place
+            int skipped = gallopRight(array[base2], array, base1, length1, 0);
+            base1 += skipped;
+            length1 -= skipped;
+            if (length1 == 0) return;
+
+            // Skip the suffix of run 2 that is already in place
+            length2 = gallopLeft(array[base1 + length1 - 1], array, base2, length2, length2 - 1);
+            if (length2 == 0) return;
+
+            // Buffer the shorter run
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Merges left to right with run 1 copied into the buffer; requires length1 <= length2,
+         * array[base2] < array[base1] and the last element of run 1 above every element of
+         * run 2.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            int[] a = array;
+            int[] buffer = ensureCapacity(length1);
+            System.arraycopy(a, base1, buffer, 0, length1);
+
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int dest = base1;
+
+            a[dest++] = a[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(buffer, cursor1, a, dest, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, length2);
+                a[dest + length2] = buffer[cursor1];
+                return;
+            }
+
+            int gallopThreshold = minGallop;
+            outer:
+            while (true) {
+                int wins1 = 0;
+                int wins2 = 0;
+
+                // One element at a time until one run wins gallopThreshold times in a row
+                do {
+                    if (BenchmarkUtils.compare(a[cursor2], buffer[cursor1]) < 0) {
+                        a[dest++] = a[cursor2++];
+                        wins2++;
+                        wins1 = 0;
+                        if (--length2 == 0) break outer;
+                    } else {
+                        a[dest++] = buffer[cursor1++];
+                        wins1++;
+                        wins2 = 0;
+                        if (--length1 == 1) break outer;
+                    }
+                } while ((wins1 | wins2) < gallopThreshold);
+
+                // Galloping: copy whole blocks while runs keep winning by MIN_GALLOP or more
+                do {
+                    wins1 = gallopRight(a[cursor2], buffer, cursor1, length1, 0);
+                    if (wins1 != 0) {
+                        System.arraycopy(buffer, cursor1, a, dest, wins1);
+                        dest += wins1;
+                        cursor1 += wins1;
+                        length1 -= wins1;
+                        if (length1 <= 1) break outer;
+                    }
+                    a[dest++] = a[cursor2++];
+                    if (--length2 == 0) break outer;
+
+                    wins2 = gallopLeft(buffer[cursor1], a, cursor2, length2, 0);
+                    if (wins2 != 0) {
+                        System.arraycopy(a, cursor2, a, dest, wins2);
+                        dest += wins2;
+                        cursor2 += wins2;
+                        length2 -= wins2;
+                        if (length2 == 0) break outer;
+                    }
+                    a[dest++] = buffer[cursor1++];
+                    if (--length1 == 1) break outer;
+
+                    gallopThreshold--;
+                } while (wins1 >= MIN_GALLOP | wins2 >= MIN_GALLOP);
+
+                // Galloping stopped paying off: make it harder to re-enter
+                if (gallopThreshold < 0) gallopThreshold = 0;
+                gallopThreshold += 2;
+            }
+            minGallop = Math.max(1, gallopThreshold);
+
+            if (length1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, length2);
+                a[dest + length2] = buffer[cursor1]; // Last element of run 1 goes at the end
+            } else {
+                System.arraycopy(buffer, cursor1, a, dest, length1);
+            }
+        }
+
+        /**
+         * Merges right to left with run 2 copied into the buffer; requires length1 >= length2
+         * and the same boundary conditions as {@link #mergeLow}.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            int[] a = array;
+            int[] buffer = ensureCapacity(length2);
+            System.arraycopy(a, base2, buffer, 0, length2);
+
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+
+            a[dest--] = a[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(buffer, 0, a, dest - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+                a[dest] = buffer[cursor2];
+                return;
+            }
+
+            int gallopThreshold = minGallop;
+            outer:
+            while (true) {
+                int wins1 = 0;
+                int wins2 = 0;
+
+                do {
+                    if (BenchmarkUtils.compare(buffer[cursor2], a[cursor1]) < 0) {
+                        a[dest--] = a[cursor1--];
+                        wins1++;
+                        wins2 = 0;
+                        if (--length1 == 0) break outer;
+                    } else {
+                        a[dest--] = buffer[cursor2--];
+                        wins2++;
+                        wins1 = 0;
+                        if (--length2 == 1) break outer;
+                    }
+                } while ((wins1 | wins2) < gallopThreshold);
+
+                do {
+                    wins1 = length1 - gallopRight(buffer[cursor2], a, base1, length1, length1 - 1);
+                    if (wins1 != 0) {
+                        dest -= wins1;
+                        cursor1 -= wins1;
+                        length1 -= wins1;
+                        System.arraycopy(a, cursor1 + 1, a, dest + 1, wins1);
+                        if (length1 == 0) break outer;
+                    }
+                    a[dest--] = buffer[cursor2--];
+                    if (--length2 == 1) break outer;
+
+                    wins2 = length2 - gallopLeft(a[cursor1], buffer, 0, length2, length2 - 1);
+                    if (wins2 != 0) {
+                        dest -= wins2;
+                        cursor2 -= wins2;
+                        length2 -= wins2;
+                        System.arraycopy(buffer, cursor2 + 1, a, dest + 1, wins2);
+                        if (length2 <= 1) break outer;
+                    }
+                    a[dest--] = a[cursor1--];
+                    if (--length1 == 0) break outer;
+
+                    gallopThreshold--;
+                } while (wins1 >= MIN_GALLOP | wins2 >= MIN_GALLOP);
+
+                if (gallopThreshold < 0) gallopThreshold = 0;
+                gallopThreshold += 2;
+            }
+            minGallop = Math.max(1, gallopThreshold);
+
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+                a[dest] = buffer[cursor2]; // First element of run 2 goes at the front
+            } else {
+                System.arraycopy(buffer, 0, a, dest - (length2 - 1), length2);
+            }
+        }
+
+        /**
+         * Returns a buffer of at least minCapacity elements, doubling the current one as needed
+         * but never beyond half the array.
+         */
+        private int[] ensureCapacity(int minCapacity) {
+            if (tmp == null || tmp.length < minCapacity) {
+                int capacity = Math.max(INITIAL_TMP_LENGTH, Integer.highestOneBit(minCapacity) << 1);
+                if (capacity <= 0 || capacity > array.length >>> 1) {
+                    capacity = Math.max(minCapacity, array.length >>> 1);
+                }
+                tmp = new int[capacity];
+            }
+            return tmp;
+        }
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Tim Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return true; // Runs are merged left before right and descending runs are strict
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return false; // Merge buffer grows up to n/2
+    }
+
+    @Override
+    public String getBestCaseScenario() {
+        return "Sorted, reverse sorted or few-run inputs - one run costs n-1 comparisons and no merging";
+    }
+
+    @Override
+    public String getWorstCaseScenario() {
+        return "Random data without runs - degrades to balanced O(n log n) merging";
+    }
+}
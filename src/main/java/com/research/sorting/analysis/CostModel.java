@@ -0,0 +1,189 @@
+package com.research.sorting.analysis;
+
+import com.research.sorting.PerformanceMetrics;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Predicts sorting times from measured pipeline results.
+ *
+ * For every algorithm and data type measured at two or more input sizes, the model fits
+ * time = a * n^b by least squares on the logarithms of the median time at each size, so the
+ * growth rate comes from the measurements rather than from the algorithm's textbook
+ * complexity. Exponents below 1 are raised to 1. A fit is only trusted near the sizes it was
+ * measured at: predictions extrapolate the curve up to {@link #EXTRAPOLATION_FACTOR} times
+ * beyond the smallest and largest measured size, and are empty further out, where an
+ * algorithm's growth may differ from what the measured sizes showed.
+ */
+public final class CostModel {
+
+    /** How far beyond the measured sizes, as a factor, predictions are made */
+    public static final int EXTRAPOLATION_FACTOR = 10;
+
+    /** File name prefix of the pipeline's results CSV files */
+    private static final String RESULTS_FILE_PREFIX = "sorting_results_";
+
+    /** File name prefix of the sweep results CSV written alongside each results CSV */
+    private static final String SWEEP_FILE_PREFIX = "sweep_results_";
+
+    /** Fitted curve of one algorithm on one data type, and the sizes it was fitted over */
+    private record Fit(double logScale, double exponent, int minSize, int maxSize) {
+
+        boolean covers(int size) {
+            return (long) size * EXTRAPOLATION_FACTOR >= minSize
+                    && size <= (long) maxSize * EXTRAPOLATION_FACTOR;
+        }
+
+        double predict(int size) {
+            return Math.exp(logScale + exponent * Math.log(size));
+        }
+    }
+
+    /** Fits keyed by algorithm name, then data type */
+    private final Map<String, Map<String, Fit>> fits = new HashMap<>();
+
+    /**
+     * Builds a model from measurements; data points with a non-positive time or size are ignored.
+     *
+     * @param results Measurements, e.g. as loaded from a results CSV
+     * @throws IllegalArgumentException if results is null
+     */
+    public CostModel(List<PerformanceMetrics> results) {
+        if (results == null) {
+            throw new IllegalArgumentException("Results cannot be null");
+        }
+
+        // algorithm -> data type -> size -> times
+        Map<String, Map<String, SortedMap<Integer, List<Long>>>> times = new HashMap<>();
+        for (PerformanceMetrics metrics : results) {
+            if (metrics.getExecutionTimeNanos() <= 0 || metrics.getInputSize() <= 0) continue;
+
+            times.computeIfAbsent(metrics.getAlgorithmName(), name -> new HashMap<>())
+                    .computeIfAbsent(metrics.getDataType(), type -> new TreeMap<>())
+                    .computeIfAbsent(metrics.getInputSize(), size -> new ArrayList<>())
+                    .add(metrics.getExecutionTimeNanos());
+        }
+
+        times.forEach((algorithm, byType) -> byType.forEach((dataType, bySize) -> {
+            Fit fit = fit(bySize);
+            if (fit != null) {
+                fits.computeIfAbsent(algorithm, name -> new HashMap<>()).put(dataType, fit);
+            }
+        }));
+    }
+
+    /**
+     * Builds a model from a results CSV written by the testing pipeline.
+     *
+     * @param csvFile Results CSV
+     * @return Model of the file's measurements
+     * @throws IOException if the file cannot be read
+     */
+    public static CostModel fromCSV(Path csvFile) throws IOException {
+        return new CostModel(DataQualityAnalyzer.loadDataFromCSV(csvFile.toString()));
+    }
+
+    /**
+     * Builds a model from the newest results CSV in a directory, judged by the timestamp in
+     * its name, together with the sweep results CSV of the same run if there is one.
+     *
+     * @param directory Directory holding sorting_results_*.csv files, such as results/data
+     * @return Model of the newest run, or an empty model if there is none
+     * @throws IOException if the directory or a file cannot be read
+     */
+    public static CostModel fromLatestCSV(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new CostModel(List.of());
+        }
+
+        Optional<Path> latest;
+        try (Stream<Path> files = Files.list(directory)) {
+            latest = files
+                    .filter(file -> file.getFileName().toString().startsWith(RESULTS_FILE_PREFIX)
+                            && file.getFileName().toString().endsWith(".csv"))
+                    .max(Comparator.comparing(file -> file.getFileName().toString()));
+        }
+        if (latest.isEmpty()) {
+            return new CostModel(List.of());
+        }
+
+        List<PerformanceMetrics> results =
+                new ArrayList<>(DataQualityAnalyzer.loadDataFromCSV(latest.get().toString()));
+        Path sweep = directory.resolve(latest.get().getFileName().toString()
+                .replace(RESULTS_FILE_PREFIX, SWEEP_FILE_PREFIX));
+        if (Files.isRegularFile(sweep)) {
+            results.addAll(DataQualityAnalyzer.loadDataFromCSV(sweep.toString()));
+        }
+        return new CostModel(results);
+    }
+
+    /**
+     * Returns the predicted time of an algorithm on a data type and size.
+     *
+     * @param algorithmName Algorithm name as recorded in the results
+     * @param dataType Data type as recorded in the results
+     * @param size Input size
+     * @return Predicted nanoseconds, or empty if the pair was not measured at two sizes or
+     *         size is more than EXTRAPOLATION_FACTOR times outside the measured sizes
+     */
+    public OptionalDouble predictNanos(String algorithmName, String dataType, int size) {
+        Fit fit = fits.getOrDefault(algorithmName, Map.of()).get(dataType);
+        return fit == null || !fit.covers(size) ? OptionalDouble.empty()
+                : OptionalDouble.of(fit.predict(size));
+    }
+
+    /**
+     * Returns the fitted growth exponent b of time = a * n^b.
+     *
+     * @param algorithmName Algorithm name as recorded in the results
+     * @param dataType Data type as recorded in the results
+     * @return Exponent, or empty if the pair was not measured at two sizes
+     */
+    public OptionalDouble getExponent(String algorithmName, String dataType) {
+        Fit fit = fits.getOrDefault(algorithmName, Map.of()).get(dataType);
+        return fit == null ? OptionalDouble.empty() : OptionalDouble.of(fit.exponent());
+    }
+
+    /**
+     * Returns whether the model can predict anything.
+     *
+     * @return true if no algorithm and data type had two measured sizes
+     */
+    public boolean isEmpty() {
+        return fits.isEmpty();
+    }
+
+    /**
+     * Least-squares fit of log time against log size over the median time per size, or null
+     * with fewer than two sizes.
+     */
+    private static Fit fit(SortedMap<Integer, List<Long>> bySize) {
+        if (bySize.size() < 2) return null;
+
+        double sumX = 0;
+        double sumY = 0;
+        double sumXX = 0;
+        double sumXY = 0;
+        for (Map.Entry<Integer, List<Long>> entry : bySize.entrySet()) {
+            List<Long> times = entry.getValue();
+            Collections.sort(times);
+            double x = Math.log(entry.getKey());
+            double y = Math.log(times.get(times.size() / 2));
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+        }
+
+        int points = bySize.size();
+        double exponent = (points * sumXY - sumX * sumY) / (points * sumXX - sumX * sumX);
+
+        // Every sort reads each element; flatter fits come from timer noise at small sizes
+        exponent = Math.max(1.0, exponent);
+        return new Fit((sumY - exponent * sumX) / points, exponent, bySize.firstKey(),
+                bySize.lastKey());
+    }
+}
@@ -269,11 +269,16 @@ public class DataQualityAnalyzer {
         if (fields.length < 7) return null;
         
         try {
+            // Key read and scatter write columns were added after the timestamp; older files lack them
+            boolean hasDistributionCounters = fields.length >= 10;
+            
             return new PerformanceMetrics(
                 Long.parseLong(fields[3]), // executionTime
                 Long.parseLong(fields[4]), // memoryUsage
                 Long.parseLong(fields[5]), // comparisons
                 Long.parseLong(fields[6]), // swaps
+                hasDistributionCounters ? Long.parseLong(fields[8]) : 0, // keyReads
+                hasDistributionCounters ? Long.parseLong(fields[9]) : 0, // scatterWrites
                 fields[0], // algorithmName
                 Integer.parseInt(fields[2]), // inputSize
                 fields[1]  // dataType
@@ -1,9 +1,27 @@
 package com.research.sorting.benchmarking;
 
+import com.research.sorting.algorithms.BatchSort;
+import com.research.sorting.algorithms.ExternalMergeSort;
+import com.research.sorting.algorithms.KWayMerger;
+import com.research.sorting.algorithms.KeyPayloadSortingAlgorithm;
+import com.research.sorting.algorithms.ObjectSortingAlgorithm;
+import com.research.sorting.algorithms.OffHeapSort;
+import com.research.sorting.algorithms.PrimitiveSortingAlgorithm;
+import com.research.sorting.algorithms.Selector;
 import com.research.sorting.algorithms.SortingAlgorithm;
 import com.research.sorting.PerformanceMetrics;
 import com.research.sorting.utils.BenchmarkUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 public class BenchmarkingFramework {
     
@@ -35,40 +53,578 @@ public class BenchmarkingFramework {
                                              int[] inputArray, 
                                              String algorithmName, 
                                              String dataType) {
+        return benchmark(algorithm, inputArray, algorithmName, dataType,
+                         WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm with explicit iteration counts.
+     * 
+     * Large inputs (millions of elements) cannot afford the default 1000 warmup runs;
+     * a handful of iterations is enough for the JIT once each run is itself long.
+     * 
+     * @param algorithm Sorting algorithm to benchmark
+     * @param inputArray Array to sort (will be cloned for each test)
+     * @param algorithmName Name for identification in results
+     * @param dataType Description of input data type (e.g., "Random", "Sorted")
+     * @param warmupIterations Number of untimed warmup runs
+     * @param measurementIterations Number of timed runs
+     * @return Comprehensive performance metrics
+     * @throws IllegalArgumentException if measurementIterations is less than 1
+     */
+    public static PerformanceMetrics benchmark(SortingAlgorithm algorithm, 
+                                             int[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType,
+                                             int warmupIterations,
+                                             int measurementIterations) {
+        Trial<int[]> trial = new Trial<>(() -> BenchmarkUtils.copyArray(inputArray),
+                                         algorithm::sort, BenchmarkUtils::isSorted);
+        return run(trial, inputArray.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm on long keys with the default iteration counts.
+     * 
+     * @see #benchmark(SortingAlgorithm, int[], String, String)
+     */
+    public static PerformanceMetrics benchmark(PrimitiveSortingAlgorithm algorithm, 
+                                             long[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType) {
+        return benchmark(algorithm, inputArray, algorithmName, dataType,
+                         WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm on long keys with explicit iteration counts.
+     * 
+     * @see #benchmark(SortingAlgorithm, int[], String, String, int, int)
+     */
+    public static PerformanceMetrics benchmark(PrimitiveSortingAlgorithm algorithm, 
+                                             long[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType,
+                                             int warmupIterations,
+                                             int measurementIterations) {
+        Trial<long[]> trial = new Trial<>(inputArray::clone, algorithm::sort,
+                                         BenchmarkUtils::isSorted);
+        return run(trial, inputArray.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm on double keys with the default iteration counts.
+     * 
+     * @see #benchmark(SortingAlgorithm, int[], String, String)
+     */
+    public static PerformanceMetrics benchmark(PrimitiveSortingAlgorithm algorithm, 
+                                             double[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType) {
+        return benchmark(algorithm, inputArray, algorithmName, dataType,
+                         WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm on double keys with explicit iteration counts.
+     * 
+     * @see #benchmark(SortingAlgorithm, int[], String, String, int, int)
+     */
+    public static PerformanceMetrics benchmark(PrimitiveSortingAlgorithm algorithm, 
+                                             double[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType,
+                                             int warmupIterations,
+                                             int measurementIterations) {
+        Trial<double[]> trial = new Trial<>(inputArray::clone, algorithm::sort,
+                                         BenchmarkUtils::isSorted);
+        return run(trial, inputArray.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm on float keys with the default iteration counts.
+     * 
+     * @see #benchmark(SortingAlgorithm, int[], String, String)
+     */
+    public static PerformanceMetrics benchmark(PrimitiveSortingAlgorithm algorithm, 
+                                             float[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType) {
+        return benchmark(algorithm, inputArray, algorithmName, dataType,
+                         WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm on float keys with explicit iteration counts.
+     * 
+     * @see #benchmark(SortingAlgorithm, int[], String, String, int, int)
+     */
+    public static PerformanceMetrics benchmark(PrimitiveSortingAlgorithm algorithm, 
+                                             float[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType,
+                                             int warmupIterations,
+                                             int measurementIterations) {
+        Trial<float[]> trial = new Trial<>(inputArray::clone, algorithm::sort,
+                                         BenchmarkUtils::isSorted);
+        return run(trial, inputArray.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm on short keys with the default iteration counts.
+     * 
+     * @see #benchmark(SortingAlgorithm, int[], String, String)
+     */
+    public static PerformanceMetrics benchmark(PrimitiveSortingAlgorithm algorithm, 
+                                             short[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType) {
+        return benchmark(algorithm, inputArray, algorithmName, dataType,
+                         WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm on short keys with explicit iteration counts.
+     * 
+     * @see #benchmark(SortingAlgorithm, int[], String, String, int, int)
+     */
+    public static PerformanceMetrics benchmark(PrimitiveSortingAlgorithm algorithm, 
+                                             short[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType,
+                                             int warmupIterations,
+                                             int measurementIterations) {
+        Trial<short[]> trial = new Trial<>(inputArray::clone, algorithm::sort,
+                                         BenchmarkUtils::isSorted);
+        return run(trial, inputArray.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm on char keys with the default iteration counts.
+     * 
+     * @see #benchmark(SortingAlgorithm, int[], String, String)
+     */
+    public static PerformanceMetrics benchmark(PrimitiveSortingAlgorithm algorithm, 
+                                             char[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType) {
+        return benchmark(algorithm, inputArray, algorithmName, dataType,
+                         WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS);
+    }
+    
+    /**
+     * Benchmarks a sorting algorithm on char keys with explicit iteration counts.
+     * 
+     * @see #benchmark(SortingAlgorithm, int[], String, String, int, int)
+     */
+    public static PerformanceMetrics benchmark(PrimitiveSortingAlgorithm algorithm, 
+                                             char[] inputArray, 
+                                             String algorithmName, 
+                                             String dataType,
+                                             int warmupIterations,
+                                             int measurementIterations) {
+        Trial<char[]> trial = new Trial<>(inputArray::clone, algorithm::sort,
+                                         BenchmarkUtils::isSorted);
+        return run(trial, inputArray.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks an object sorting algorithm ordering elements with a comparator.
+     * 
+     * @param algorithm Object sorting algorithm to benchmark
+     * @param inputArray Array to sort (will be cloned for each test)
+     * @param comparator Element order
+     * @param algorithmName Name for identification in results
+     * @param dataType Description of input data type (e.g., "Random", "Sorted")
+     * @param warmupIterations Number of untimed warmup runs
+     * @param measurementIterations Number of timed runs
+     * @return Comprehensive performance metrics
+     * @throws IllegalArgumentException if measurementIterations is less than 1
+     */
+    public static <T> PerformanceMetrics benchmark(ObjectSortingAlgorithm algorithm,
+                                                 T[] inputArray,
+                                                 Comparator<? super T> comparator,
+                                                 String algorithmName,
+                                                 String dataType,
+                                                 int warmupIterations,
+                                                 int measurementIterations) {
+        Trial<T[]> trial = new Trial<>(inputArray::clone,
+                                       array -> algorithm.sort(array, comparator),
+                                       array -> BenchmarkUtils.isSorted(array, comparator));
+        return run(trial, inputArray.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks the decorate-sort-undecorate mode of an object sorting algorithm.
+     * 
+     * @param algorithm Object sorting algorithm to benchmark
+     * @param inputArray Array to sort (will be cloned for each test)
+     * @param keyExtractor Returns the sort key of an element
+     * @param algorithmName Name for identification in results
+     * @param dataType Description of input data type (e.g., "Random", "Sorted")
+     * @param warmupIterations Number of untimed warmup runs
+     * @param measurementIterations Number of timed runs
+     * @return Comprehensive performance metrics
+     * @throws IllegalArgumentException if measurementIterations is less than 1
+     */
+    public static <T> PerformanceMetrics benchmarkByKey(ObjectSortingAlgorithm algorithm,
+                                                      T[] inputArray,
+                                                      ToLongFunction<? super T> keyExtractor,
+                                                      String algorithmName,
+                                                      String dataType,
+                                                      int warmupIterations,
+                                                      int measurementIterations) {
+        Comparator<T> order = Comparator.comparingLong(keyExtractor);
+        Trial<T[]> trial = new Trial<>(inputArray::clone,
+                                       array -> algorithm.sortByKey(array, keyExtractor),
+                                       array -> BenchmarkUtils.isSorted(array, order));
+        return run(trial, inputArray.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks a key/payload sort; both arrays are cloned for each run.
+     * 
+     * A run is valid when the keys are sorted and each payload entry still sits next to the key
+     * it started with, i.e. the output holds exactly the input's (key, payload) pairs.
+     * 
+     * @param algorithm Key/payload sorting algorithm to benchmark
+     * @param keys Keys to sort
+     * @param payload Values moved with their keys
+     * @param algorithmName Name for identification in results
+     * @param dataType Description of input data type (e.g., "Random", "Sorted")
+     * @param warmupIterations Number of untimed warmup runs
+     * @param measurementIterations Number of timed runs
+     * @return Comprehensive performance metrics
+     * @throws IllegalArgumentException if either array is null, their lengths differ or
+     *                                  measurementIterations is less than 1
+     */
+    public static PerformanceMetrics benchmarkPairs(KeyPayloadSortingAlgorithm algorithm,
+                                                    int[] keys,
+                                                    int[] payload,
+                                                    String algorithmName,
+                                                    String dataType,
+                                                    int warmupIterations,
+                                                    int measurementIterations) {
+        BenchmarkUtils.validateArrays(keys, payload);
+        long[] inputPairs = sortedPairs(keys, payload);
+        
+        Trial<int[][]> trial = new Trial<>(() -> new int[][] {keys.clone(), payload.clone()},
+                                           pair -> algorithm.sort(pair[0], pair[1]),
+                                           pair -> BenchmarkUtils.isSorted(pair[0])
+                                                   && Arrays.equals(sortedPairs(pair[0], pair[1]),
+                                                                    inputPairs));
+        return run(trial, keys.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Packs each key with its payload entry into one long, key in the high half, and sorts
+     * them; two key/payload arrays hold the same pairs exactly when the results are equal.
+     */
+    private static long[] sortedPairs(int[] keys, int[] payload) {
+        long[] pairs = new long[keys.length];
+        for (int i = 0; i < pairs.length; i++) {
+            pairs[i] = ((long) keys[i] << 32) | (payload[i] & 0xFFFF_FFFFL);
+        }
+        Arrays.sort(pairs);
+        return pairs;
+    }
+    
+    /**
+     * Benchmarks a partial sort of the k smallest elements.
+     * 
+     * A run is valid when the first k elements are sorted and none of the rest is smaller.
+     * 
+     * @param selector Selection strategy to benchmark
+     * @param inputArray Array to partially sort (will be cloned for each test)
+     * @param k Number of smallest elements to sort
+     * @param algorithmName Name for identification in results
+     * @param dataType Description of input data type (e.g., "Random", "Sorted")
+     * @param warmupIterations Number of untimed warmup runs
+     * @param measurementIterations Number of timed runs
+     * @return Comprehensive performance metrics
+     * @throws IllegalArgumentException if measurementIterations is less than 1
+     */
+    public static PerformanceMetrics benchmarkPartialSort(Selector selector,
+                                                          int[] inputArray,
+                                                          int k,
+                                                          String algorithmName,
+                                                          String dataType,
+                                                          int warmupIterations,
+                                                          int measurementIterations) {
+        Trial<int[]> trial = new Trial<>(() -> BenchmarkUtils.copyArray(inputArray),
+                                         array -> selector.partialSort(array, k),
+                                         array -> isPartiallySorted(array, k));
+        return run(trial, inputArray.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks sorting a batch of small arrays with one sortBatch call per run.
+     * 
+     * The input size reported is the number of arrays, so throughput in arrays per second is
+     * that size divided by the mean time.
+     * 
+     * @param batchSort Batch sorter to benchmark
+     * @param batch Arrays to sort (deep-copied for each run)
+     * @param algorithmName Name for identification in results
+     * @param dataType Description of input data type (e.g., "Random", "Sorted")
+     * @param warmupIterations Number of untimed warmup runs
+     * @param measurementIterations Number of timed runs
+     * @return Comprehensive performance metrics
+     * @throws IllegalArgumentException if measurementIterations is less than 1
+     */
+    public static PerformanceMetrics benchmarkBatch(BatchSort batchSort,
+                                                    int[][] batch,
+                                                    String algorithmName,
+                                                    String dataType,
+                                                    int warmupIterations,
+                                                    int measurementIterations) {
+        Trial<int[][]> trial = new Trial<>(() -> copyBatch(batch),
+                                           batchSort::sortBatch,
+                                           BenchmarkingFramework::isBatchSorted);
+        return run(trial, batch.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks sorting a batch of small arrays with one sort call per array, the baseline
+     * for {@link #benchmarkBatch}.
+     * 
+     * @param algorithm Sorting algorithm to benchmark
+     * @param batch Arrays to sort (deep-copied for each run)
+     * @param algorithmName Name for identification in results
+     * @param dataType Description of input data type (e.g., "Random", "Sorted")
+     * @param warmupIterations Number of untimed warmup runs
+     * @param measurementIterations Number of timed runs
+     * @return Comprehensive performance metrics
+     * @throws IllegalArgumentException if measurementIterations is less than 1
+     */
+    public static PerformanceMetrics benchmarkPerArray(SortingAlgorithm algorithm,
+                                                       int[][] batch,
+                                                       String algorithmName,
+                                                       String dataType,
+                                                       int warmupIterations,
+                                                       int measurementIterations) {
+        Trial<int[][]> trial = new Trial<>(() -> copyBatch(batch),
+                                           arrays -> {
+                                               for (int[] array : arrays) {
+                                                   algorithm.sort(array);
+                                               }
+                                           },
+                                           BenchmarkingFramework::isBatchSorted);
+        return run(trial, batch.length, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks an external sort of a binary int file into an output file.
+     * 
+     * The input file is not modified, so each run sorts it afresh; the output is overwritten
+     * by every run and checked by streaming through it.
+     * 
+     * @param sorter External sort to benchmark
+     * @param input File of big-endian ints to sort
+     * @param output File written by each run
+     * @param algorithmName Name for identification in results
+     * @param dataType Description of input data type (e.g., "Random", "Sorted")
+     * @param warmupIterations Number of untimed warmup runs
+     * @param measurementIterations Number of timed runs
+     * @return Comprehensive performance metrics
+     * @throws IOException if the size of the input cannot be read
+     * @throws IllegalArgumentException if measurementIterations is less than 1
+     * @throws ArithmeticException if the input holds more than Integer.MAX_VALUE ints, the
+     *                             largest input size the metrics can record
+     */
+    public static PerformanceMetrics benchmarkExternal(ExternalMergeSort sorter,
+                                                       Path input,
+                                                       Path output,
+                                                       String algorithmName,
+                                                       String dataType,
+                                                       int warmupIterations,
+                                                       int measurementIterations)
+            throws IOException {
+        Trial<Path> trial = new Trial<>(() -> output,
+                                        file -> {
+                                            try {
+                                                sorter.sort(input, file);
+                                            } catch (IOException e) {
+                                                throw new UncheckedIOException(e);
+                                            }
+                                        },
+                                        file -> {
+                                            try {
+                                                return BenchmarkUtils.isSorted(file);
+                                            } catch (IOException e) {
+                                                return false;
+                                            }
+                                        });
+        return run(trial, Math.toIntExact(Files.size(input) / Integer.BYTES), algorithmName,
+                   dataType, warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Benchmarks an off-heap sort of a memory segment.
+     * 
+     * Each run sorts a copy of the input in one working segment, allocated off-heap once for
+     * all runs and freed on return, so neither the input nor its copies occupy the heap.
+     * 
+     * @param sorter Off-heap sorting engine to benchmark
+     * @param input Segment of ints to sort (copied for each run, never modified)
+     * @param algorithmName Name for identification in results
+     * @param dataType Description of input data type (e.g., "Random", "Sorted")
+     * @param warmupIterations Number of untimed warmup runs
+     * @param measurementIterations Number of timed runs
+     * @return Comprehensive performance metrics
+     * @throws IllegalArgumentException if measurementIterations is less than 1
+     * @throws ArithmeticException if the input holds more than Integer.MAX_VALUE ints, the
+     *                             largest input size the metrics can record
+     */
+    public static PerformanceMetrics benchmarkSegment(OffHeapSort sorter,
+                                                      MemorySegment input,
+                                                      String algorithmName,
+                                                      String dataType,
+                                                      int warmupIterations,
+                                                      int measurementIterations) {
+        int inputSize = Math.toIntExact(input.byteSize() / Integer.BYTES);
+        
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment working = arena.allocate(input.byteSize(), Integer.BYTES);
+            Trial<MemorySegment> trial = new Trial<>(() -> working.copyFrom(input),
+                                                     sorter::sort,
+                                                     BenchmarkUtils::isSorted);
+            return run(trial, inputSize, algorithmName, dataType,
+                       warmupIterations, measurementIterations);
+        }
+    }
+    
+    /**
+     * Benchmarks merging sorted runs into one output array.
+     * 
+     * The runs are only read, so every run merges the same arrays; the output array is
+     * allocated before timing.
+     * 
+     * @param merger Merge strategy to benchmark
+     * @param runs Runs each sorted in ascending order
+     * @param algorithmName Name for identification in results
+     * @param dataType Description of input data type (e.g., "Random", "Sorted")
+     * @param warmupIterations Number of untimed warmup runs
+     * @param measurementIterations Number of timed runs
+     * @return Comprehensive performance metrics
+     * @throws IllegalArgumentException if measurementIterations is less than 1
+     */
+    public static PerformanceMetrics benchmarkMerge(KWayMerger merger,
+                                                    int[][] runs,
+                                                    String algorithmName,
+                                                    String dataType,
+                                                    int warmupIterations,
+                                                    int measurementIterations) {
+        int total = 0;
+        for (int[] run : runs) {
+            total += run.length;
+        }
+        int outputLength = total;
+        
+        Trial<int[]> trial = new Trial<>(() -> new int[outputLength],
+                                         output -> merger.merge(runs, output, 0),
+                                         BenchmarkUtils::isSorted);
+        return run(trial, total, algorithmName, dataType,
+                   warmupIterations, measurementIterations);
+    }
+    
+    /**
+     * Copies every array of a batch.
+     */
+    private static int[][] copyBatch(int[][] batch) {
+        int[][] copy = new int[batch.length][];
+        for (int i = 0; i < batch.length; i++) {
+            copy[i] = batch[i].clone();
+        }
+        return copy;
+    }
+    
+    /**
+     * Checks that every array of a batch is sorted.
+     */
+    private static boolean isBatchSorted(int[][] batch) {
+        for (int[] array : batch) {
+            if (!BenchmarkUtils.isSorted(array)) return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Checks that array[0...k-1] is sorted and no later element is smaller than array[k-1].
+     */
+    private static boolean isPartiallySorted(int[] array, int k) {
+        if (!BenchmarkUtils.isSorted(Arrays.copyOf(array, k))) return false;
+        for (int i = k; i < array.length; i++) {
+            if (k > 0 && array[i] < array[k - 1]) return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Runs warmup, measurement and analysis for one trial; shared by all key types.
+     */
+    private static <A> PerformanceMetrics run(Trial<A> trial, int inputSize,
+                                              String algorithmName, String dataType,
+                                              int warmupIterations, int measurementIterations) {
+        if (measurementIterations < 1) {
+            throw new IllegalArgumentException("At least one measurement iteration is required");
+        }
         
         System.out.printf("Benchmarking %s on %s data (%d elements)...%n", 
-                         algorithmName, dataType, inputArray.length);
+                         algorithmName, dataType, inputSize);
         
         // Phase 1: JVM Warmup
-        performWarmup(algorithm, inputArray);
+        performWarmup(trial, warmupIterations);
         
         // Phase 2: Data Collection
-        List<MeasurementResult> results = collectMeasurements(algorithm, inputArray);
+        List<MeasurementResult> results = collectMeasurements(trial, measurementIterations);
         
         // Phase 3: Statistical Analysis
-        return analyzeResults(results, algorithmName, dataType, inputArray.length);
+        return analyzeResults(results, algorithmName, dataType, inputSize);
+    }
+    
+    /**
+     * One benchmark input bound to one algorithm, independent of the key type.
+     * 
+     * @param copier Returns a fresh copy of the input for each run (not timed)
+     * @param sorter Sorts a copy (timed)
+     * @param checker Verifies a sorted copy
+     */
+    private record Trial<A>(Supplier<A> copier, Consumer<A> sorter, Predicate<A> checker) {
     }
     
     /**
      * Performs JVM warmup to ensure optimal performance measurement.
      * Runs the algorithm multiple times to trigger Just-In-Time compilation.
      */
-    private static void performWarmup(SortingAlgorithm algorithm, int[] inputArray) {
+    private static <A> void performWarmup(Trial<A> trial, int iterations) {
         System.out.print("  Warming up JVM");
         
-        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
-            int[] warmupArray = BenchmarkUtils.copyArray(inputArray);
+        for (int i = 0; i < iterations; i++) {
+            A warmupArray = trial.copier().get();
             BenchmarkUtils.resetCounters();
             
             try {
-                algorithm.sort(warmupArray);
+                trial.sorter().accept(warmupArray);
             } catch (Exception e) {
                 System.err.println("Warmup failed: " + e.getMessage());
                 break;
             }
             
             // Progress indicator
-            if (i % (WARMUP_ITERATIONS / 10) == 0) {
+            if (i % Math.max(1, iterations / 10) == 0) {
                 System.out.print(".");
             }
         }
@@ -86,12 +642,12 @@ public class BenchmarkingFramework {
     /**
      * Collects measurement data through multiple algorithm iterations.
      */
-    private static List<MeasurementResult> collectMeasurements(SortingAlgorithm algorithm, 
-                                                              int[] inputArray) {
+    private static <A> List<MeasurementResult> collectMeasurements(Trial<A> trial,
+                                                                  int iterations) {
         List<MeasurementResult> results = new ArrayList<>();
         System.out.print("  Collecting measurements");
         
-        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+        for (int i = 0; i < iterations; i++) {
             // Stabilization delay between measurements
             try {
                 Thread.sleep(STABILIZATION_DELAY_MS);
@@ -101,31 +657,39 @@ public class BenchmarkingFramework {
             }
             
             // Prepare clean test environment
-            int[] testArray = BenchmarkUtils.copyArray(inputArray);
+            A testArray = trial.copier().get();
             BenchmarkUtils.resetCounters();
             
             // Force garbage collection for accurate memory measurement
             System.gc();
             long memoryBefore = BenchmarkUtils.measureMemoryUsage();
             
+            long allocatedBefore = BenchmarkUtils.measureAllocatedBytes();
+            
             // High-precision timing measurement
             long startTime = System.nanoTime();
             
             try {
-                algorithm.sort(testArray);
+                trial.sorter().accept(testArray);
             } catch (Exception e) {
                 System.err.println("Measurement failed: " + e.getMessage());
                 continue;
             }
             
             long endTime = System.nanoTime();
+            long allocatedAfter = BenchmarkUtils.measureAllocatedBytes();
             
             // Post-execution measurements
             System.gc();
             long memoryAfter = BenchmarkUtils.measureMemoryUsage();
             
+            // Prefer bytes allocated by the sort; the heap delta misses temporaries the GC reclaimed
+            long memoryUsed = allocatedBefore >= 0
+                ? allocatedAfter - allocatedBefore
+                : memoryAfter - memoryBefore;
+            
             // Validate sorting correctness
-            if (!BenchmarkUtils.isSorted(testArray)) {
+            if (!trial.checker().test(testArray)) {
                 System.err.println("Warning: Array not sorted correctly in iteration " + i);
                 continue;
             }
@@ -133,13 +697,15 @@ public class BenchmarkingFramework {
             // Record measurement
             results.add(new MeasurementResult(
                 endTime - startTime,
-                Math.max(0, memoryAfter - memoryBefore), // Ensure non-negative
+                Math.max(0, memoryUsed), // Ensure non-negative
                 BenchmarkUtils.getComparisonCount(),
-                BenchmarkUtils.getSwapCount()
+                BenchmarkUtils.getSwapCount(),
+                BenchmarkUtils.getKeyReadCount(),
+                BenchmarkUtils.getScatterWriteCount()
             ));
             
             // Progress indicator
-            if (i % (MEASUREMENT_ITERATIONS / 10) == 0) {
+            if (i % Math.max(1, iterations / 10) == 0) {
                 System.out.print(".");
             }
         }
@@ -158,7 +724,7 @@ public class BenchmarkingFramework {
         
         if (results.isEmpty()) {
             System.err.println("No valid measurements collected");
-            return new PerformanceMetrics(0, 0, 0, 0, algorithmName, inputSize, dataType);
+            return new PerformanceMetrics(0, 0, 0, 0, 0, 0, algorithmName, inputSize, dataType);
         }
         
         // Extract measurement vectors
@@ -166,12 +732,16 @@ public class BenchmarkingFramework {
         List<Long> memoryUsages = new ArrayList<>();
         List<Long> comparisons = new ArrayList<>();
         List<Long> swaps = new ArrayList<>();
+        List<Long> keyReads = new ArrayList<>();
+        List<Long> scatterWrites = new ArrayList<>();
         
         for (MeasurementResult result : results) {
             executionTimes.add(result.executionTime);
             memoryUsages.add(result.memoryUsage);
             comparisons.add(result.comparisons);
             swaps.add(result.swaps);
+            keyReads.add(result.keyReads);
+            scatterWrites.add(result.scatterWrites);
         }
         
         // Statistical analysis - use median to avoid outlier influence
@@ -179,17 +749,21 @@ public class BenchmarkingFramework {
         long medianMemory = calculateMedian(memoryUsages);
         long medianComparisons = calculateMedian(comparisons);
         long medianSwaps = calculateMedian(swaps);
+        long medianKeyReads = calculateMedian(keyReads);
+        long medianScatterWrites = calculateMedian(scatterWrites);
         
         // Additional statistics for analysis
         double avgTime = executionTimes.stream().mapToLong(Long::longValue).average().orElse(0.0);
         double stdDevTime = calculateStandardDeviation(executionTimes, avgTime);
         
-        System.out.printf("  Results: Time=%.2f±%.2fms, Memory=%dKB, Ops=%d/%d%n",
+        System.out.printf("  Results: Time=%.2f±%.2fms, Memory=%dKB, Ops=%d/%d, Reads/Writes=%d/%d%n",
                          medianTime / 1_000_000.0, stdDevTime / 1_000_000.0,
-                         medianMemory / 1024, medianComparisons, medianSwaps);
+                         medianMemory / 1024, medianComparisons, medianSwaps,
+                         medianKeyReads, medianScatterWrites);
         
         return new PerformanceMetrics(
             medianTime, medianMemory, medianComparisons, medianSwaps,
+            medianKeyReads, medianScatterWrites,
             algorithmName, inputSize, dataType
         );
     }
@@ -235,13 +809,18 @@ public class BenchmarkingFramework {
         final long memoryUsage;
         final long comparisons;
         final long swaps;
+        final long keyReads;
+        final long scatterWrites;
         
         MeasurementResult(long executionTime, long memoryUsage, 
-                         long comparisons, long swaps) {
+                         long comparisons, long swaps,
+                         long keyReads, long scatterWrites) {
             this.executionTime = executionTime;
             this.memoryUsage = memoryUsage;
             this.comparisons = comparisons;
             this.swaps = swaps;
+            this.keyReads = keyReads;
+            this.scatterWrites = scatterWrites;
         }
     }
     
@@ -2,9 +2,17 @@ package com.research.sorting.benchmarking;
 
 import com.research.sorting.algorithms.*;
 import com.research.sorting.PerformanceMetrics;
+import com.research.sorting.analysis.CostModel;
 import com.research.sorting.utils.DataGenerationUtilities;
 import java.util.*;
 import java.io.*;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -13,7 +21,17 @@ public class TestingPipeline {
 
     /** Algorithms to be tested */
     private static final SortingAlgorithm[] ALGORITHMS = {new BubbleSort(), new SelectionSort(),
-            new InsertionSort(), new QuickSort(), new MergeSort(), new HeapSort()};
+            new InsertionSort(), new InsertionSort(InsertionSort.Variant.BINARY), new ShellSort(),
+            new QuickSort(), new MergeSort(), new HeapSort(),
+            new ParallelMergeSort(), new MergeSort(MergeSort.Variant.PING_PONG),
+            new MergeSort(MergeSort.Variant.BOTTOM_UP), new TimSort(),
+            new HeapSort(HeapSort.Variant.BOTTOM_UP), new HeapSort(HeapSort.Variant.BOTTOM_UP_4ARY),
+            new QuickSort(QuickSort.Variant.SIMD), new MergeSort(MergeSort.Variant.SIMD),
+            new DualPivotQuickSort(),
+            new IntroSort(), new PatternDefeatingQuickSort(), new RadixSort(),
+            new ParallelRadixSort(), new AmericanFlagSort(), new InPlaceMergeSort(),
+            new InPlaceMergeSort(InPlaceMergeSort.Variant.NO_BUFFER), new CountingSort(),
+            new CountingSort(CountingSort.Variant.BITMAP)};
 
     /** Input sizes for testing */
        private static final int[] TEST_SIZES = {100, 200, 400, 600, 800, 1_000};
@@ -21,9 +39,146 @@ public class TestingPipeline {
     private static final String[] DATA_TYPES =
             {"Random", "Sorted", "ReverseSorted", "NearlySorted", "WithDuplicates"};
 
+    /** Input size for the core-count scaling sweep */
+    private static final int SCALING_SIZE = 10_000_000;
+
+    /** Warmup and measurement runs per point of the scaling sweep */
+    private static final int SCALING_WARMUP_ITERATIONS = 3;
+    private static final int SCALING_MEASUREMENT_ITERATIONS = 10;
+
+    /** Input sizes for the large-input comparison of parallel engines */
+    private static final int[] LARGE_INPUT_SIZES = {1_000_000, 10_000_000, 100_000_000};
+
+    /** Warmup and measurement runs per point of the large-input comparison */
+    private static final int LARGE_INPUT_WARMUP_ITERATIONS = 1;
+    private static final int LARGE_INPUT_MEASUREMENT_ITERATIONS = 5;
+
+    /** Input sizes for the Shell Sort gap sequence sweep */
+    private static final int[] GAP_SWEEP_SIZES = {1_000, 10_000, 50_000};
+
+    /** Algorithms with long, double, float, short and char kernels */
+    private static final PrimitiveSortingAlgorithm[] PRIMITIVE_ALGORITHMS = {new BubbleSort(),
+            new SelectionSort(), new InsertionSort(), new QuickSort(), new MergeSort(),
+            new HeapSort()};
+
+    /** Input size for the primitive key type comparison; matches the largest of TEST_SIZES */
+    private static final int PRIMITIVE_SWEEP_SIZE = 1_000;
+
+    /** Key types of the primitive comparison, in report column order */
+    private static final String[] PRIMITIVE_KEY_TYPES = {"long", "double", "float", "short", "char"};
+
+    /** Input sizes for the Integer[] versus int[] comparison */
+    private static final int[] BOXED_SWEEP_SIZES = {10_000, 100_000, 1_000_000};
+
+    /** Warmup and measurement runs per point of the boxed comparison */
+    private static final int BOXED_WARMUP_ITERATIONS = 3;
+    private static final int BOXED_MEASUREMENT_ITERATIONS = 10;
+
+    /** Engines that sort an int payload along with int keys */
+    private static final KeyPayloadSortingAlgorithm[] PAIR_ALGORITHMS = {new QuickSort(),
+            new MergeSort(), new HeapSort(), new RadixSort()};
+
+    /** Data type label of key/payload runs */
+    private static final String PAIR_DATA_TYPE = "Random (with payload)";
+
+    /** Data type label and result name of the boxed comparison */
+    private static final String BOXED_DATA_TYPE = "Random (Integer)";
+    private static final String KEYED_OBJECT_SORT = "Object Merge Sort (Keyed)";
+
+    /** Input size and values of k for the top-k comparison */
+    private static final int TOP_K_SIZE = 1_000_000;
+    private static final int[] TOP_K_VALUES = {10, 100, 1_000, 10_000, 100_000};
+
+    /** Warmup and measurement runs per point of the top-k comparison */
+    private static final int TOP_K_WARMUP_ITERATIONS = 3;
+    private static final int TOP_K_MEASUREMENT_ITERATIONS = 10;
+
+    /** Number of arrays and array lengths for the small-array batch comparison */
+    private static final int BATCH_COUNT = 100_000;
+    private static final int[] BATCH_ARRAY_LENGTHS = {4, 8, 16, 32, 64};
+
+    /** Engines sorting the batch one array at a time, the baseline for Batch Sort */
+    private static final SortingAlgorithm[] PER_ARRAY_ALGORITHMS = {new InsertionSort(),
+            new PatternDefeatingQuickSort()};
+
+    /** Warmup and measurement runs per point of the batch comparison */
+    private static final int BATCH_WARMUP_ITERATIONS = 3;
+    private static final int BATCH_MEASUREMENT_ITERATIONS = 10;
+
+    /** File size and in-memory chunk size of the external sort, in ints */
+    private static final int EXTERNAL_SORT_ELEMENTS = 25_000_000;
+    private static final int EXTERNAL_CHUNK_ELEMENTS = 4_000_000;
+
+    /** Warmup and measurement runs of the external sort */
+    private static final int EXTERNAL_WARMUP_ITERATIONS = 1;
+    private static final int EXTERNAL_MEASUREMENT_ITERATIONS = 3;
+
+    /** Data type label of external sort runs */
+    private static final String EXTERNAL_DATA_TYPE = "Random (file)";
+
+    /** Input sizes for off-heap segment sorting, compared with the same engines on int[] */
+    private static final int[] OFF_HEAP_SIZES = {10_000_000, 100_000_000};
+
+    /** Data type label of off-heap runs */
+    private static final String OFF_HEAP_DATA_TYPE = "Random (off-heap)";
+
+    /** Total elements and run counts for the k-way merge comparison */
+    private static final int MERGE_TOTAL_ELEMENTS = 10_000_000;
+    private static final int[] MERGE_WAYS = {2, 4, 8, 16, 32, 64, 128, 256, 512, 1_024};
+
+    /** Warmup and measurement runs per point of the k-way merge comparison */
+    private static final int MERGE_WARMUP_ITERATIONS = 2;
+    private static final int MERGE_MEASUREMENT_ITERATIONS = 5;
+
+    /** Stable engines compared by time and bytes allocated on large inputs */
+    private static final SortingAlgorithm[] STABLE_ALGORITHMS = {
+            new MergeSort(MergeSort.Variant.BOTTOM_UP), new TimSort(), new InPlaceMergeSort(),
+            new InPlaceMergeSort(InPlaceMergeSort.Variant.NO_BUFFER)};
+
+    /** Input sizes for the stable sort footprint comparison */
+    private static final int[] STABLE_SWEEP_SIZES = {1_000_000, 10_000_000};
+
+    /** Input size and data types on which Auto Sort is compared with fixed engines */
+    private static final int AUTO_SORT_SIZE = 100_000;
+    private static final String[] AUTO_SORT_DATA_TYPES = {"Random", "NearlySorted", "WithDuplicates"};
+
+    /**
+     * Sizes at which every Auto Sort candidate is measured on every data type before the
+     * comparison, bracketing AUTO_SORT_SIZE so its cost model interpolates there
+     */
+    private static final int[] AUTO_SORT_CALIBRATION_SIZES =
+            {AUTO_SORT_SIZE / 4, AUTO_SORT_SIZE * 4};
+
+    /** Fixed engines Auto Sort is compared with */
+    private static final SortingAlgorithm[] AUTO_SORT_BASELINES = {new PatternDefeatingQuickSort(),
+            new TimSort(), new RadixSort()};
+
+    /** Input sizes for the small-range comparison of counting, bitmap, radix and quick sort */
+    private static final int[] COUNTING_SWEEP_SIZES = {1_000_000, 10_000_000};
+
+    /** Engines of the small-range comparison */
+    private static final SortingAlgorithm[] COUNTING_ALGORITHMS = {new CountingSort(),
+            new CountingSort(CountingSort.Variant.BITMAP), new RadixSort(),
+            new PatternDefeatingQuickSort()};
+
+    /** Data types of the small-range comparison: 10% distinct values, and distinct keys */
+    private static final String[] COUNTING_DATA_TYPES = {"WithDuplicates", "Random (permutation)"};
+
     /** Results storage */
     private final List<PerformanceMetrics> allResults = new ArrayList<>();
 
+    /** Sweep results, kept apart so they do not skew the grid averages and counts */
+    private final List<PerformanceMetrics> sweepResults = new ArrayList<>();
+
+    /** Scaling sweep results, keyed by core count */
+    private final Map<Integer, PerformanceMetrics> scalingResults = new TreeMap<>();
+
+    /** Run count and I/O volume of one external sort, or null if none completed */
+    private ExternalMergeSort.Result externalSortResult;
+
+    /** Engine Auto Sort chose for each of AUTO_SORT_DATA_TYPES */
+    private final Map<String, String> autoSortChoices = new LinkedHashMap<>();
+
     /** Progress tracking */
     private int totalTests;
     private int completedTests;
@@ -32,14 +187,14 @@ public class TestingPipeline {
      * Executes the complete testing pipeline.
      * 
      * @param outputDirectory Directory to store results
-     * @return List of all performance metrics collected
+     * @return List of the performance metrics of the main grid; sweep results are only saved
      */
     public List<PerformanceMetrics> executeFullPipeline(String outputDirectory) {
         System.out.println("=== Starting Comprehensive Sorting Algorithm Analysis ===");
         BenchmarkingFramework.validateEnvironment();
 
         // Calculate total number of tests
-        totalTests = ALGORITHMS.length * DATA_TYPES.length * TEST_SIZES.length;
+        totalTests = getExpectedMeasurementCount();
         completedTests = 0;
 
         System.out.printf("Total tests to execute: %d%n", totalTests);
@@ -69,11 +224,27 @@ public class TestingPipeline {
             }
         }
 
+        executeGapSweep();
+        executeScalingSweep();
+        executeLargeInputSweep();
+        executePrimitiveSweep();
+        executeBoxedSweep();
+        executePairSweep();
+        executeTopKSweep();
+        executeBatchSweep();
+        executeExternalSweep();
+        executeOffHeapSweep();
+        executeMergeSweep();
+        executeStableSweep();
+        executeAutoSortSweep();
+        executeCountingSweep();
+
         long pipelineEndTime = System.currentTimeMillis();
         double totalTime = (pipelineEndTime - pipelineStartTime) / 1000.0;
 
         System.out.printf("Pipeline completed in %.2f seconds%n", totalTime);
-        System.out.printf("Collected %d performance measurements%n", allResults.size());
+        System.out.printf("Collected %d performance measurements and %d sweep measurements%n",
+                allResults.size(), sweepResults.size());
 
         // Save results
         try {
@@ -108,6 +279,464 @@ public class TestingPipeline {
         validateResult(metrics, algorithm, dataType, size);
     }
 
+    /**
+     * Runs Shell Sort with every gap sequence on random inputs of the sweep sizes.
+     */
+    private void executeGapSweep() {
+        for (int size : GAP_SWEEP_SIZES) {
+            int[] testArray = DataGenerationUtilities.generateRandomArray(size, size * 10);
+            for (ShellSort.GapSequence gaps : ShellSort.GapSequence.values()) {
+                ShellSort shellSort = new ShellSort(gaps);
+                try {
+                    sweepResults.add(BenchmarkingFramework.benchmark(shellSort, testArray,
+                            shellSort.getAlgorithmName(), "Random"));
+                } catch (Exception e) {
+                    System.err.printf("Gap sweep failed: %s on %d elements - %s%n",
+                            shellSort.getAlgorithmName(), size, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Measures Parallel Radix Sort throughput on a large random input for increasing core
+     * counts (powers of two up to the available processors). Each point runs on its own pool.
+     */
+    private void executeScalingSweep() {
+        int maxCores = Runtime.getRuntime().availableProcessors();
+        int[] testArray = DataGenerationUtilities.generateRandomArray(SCALING_SIZE, Integer.MAX_VALUE);
+
+        System.out.printf("Scaling sweep: Parallel Radix Sort on %,d elements, 1-%d cores%n",
+                SCALING_SIZE, maxCores);
+
+        List<Integer> coreCounts = new ArrayList<>();
+        for (int cores = 1; cores < maxCores; cores *= 2) {
+            coreCounts.add(cores);
+        }
+        coreCounts.add(maxCores);
+
+        for (int cores : coreCounts) {
+            ForkJoinPool pool = new ForkJoinPool(cores);
+            try {
+                String name = String.format("Parallel Radix Sort (%d cores)", cores);
+                PerformanceMetrics metrics = BenchmarkingFramework.benchmark(
+                        new ParallelRadixSort(pool, ParallelRadixSort.DEFAULT_SEQUENTIAL_THRESHOLD),
+                        testArray, name, "Random", SCALING_WARMUP_ITERATIONS,
+                        SCALING_MEASUREMENT_ITERATIONS);
+                scalingResults.put(cores, metrics);
+                sweepResults.add(metrics);
+            } catch (Exception e) {
+                System.err.printf("Scaling test failed on %d cores - %s%n", cores, e.getMessage());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Compares Parallel Sample Sort with Parallel Merge Sort on random inputs from 1M to 100M
+     * elements, sizes at which the data no longer fits in the last-level cache, with sequential
+     * Merge Sort as the baseline.
+     */
+    private void executeLargeInputSweep() {
+        SortingAlgorithm[] engines = {new ParallelSampleSort(), new ParallelMergeSort(),
+                new MergeSort()};
+
+        for (int size : LARGE_INPUT_SIZES) {
+            System.out.printf("Large-input sweep: %,d elements%n", size);
+            try {
+                int[] testArray = DataGenerationUtilities.generateRandomArray(size, Integer.MAX_VALUE);
+                for (SortingAlgorithm engine : engines) {
+                    PerformanceMetrics metrics = BenchmarkingFramework.benchmark(engine, testArray,
+                            engine.getAlgorithmName(), "Random", LARGE_INPUT_WARMUP_ITERATIONS,
+                            LARGE_INPUT_MEASUREMENT_ITERATIONS);
+                    sweepResults.add(metrics);
+                }
+            } catch (Exception | OutOfMemoryError e) {
+                // Larger sizes need even more heap, so stop here
+                System.err.printf("Large-input test failed on %,d elements - %s%n", size, e);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Runs the six classic algorithms on random long, double, float, short and char keys. The
+     * int[] baseline at the same size comes from the main loop.
+     */
+    private void executePrimitiveSweep() {
+        long[] longs = DataGenerationUtilities.generateRandomLongArray(PRIMITIVE_SWEEP_SIZE);
+        double[] doubles = DataGenerationUtilities.generateRandomDoubleArray(PRIMITIVE_SWEEP_SIZE);
+        float[] floats = DataGenerationUtilities.generateRandomFloatArray(PRIMITIVE_SWEEP_SIZE);
+        short[] shorts = DataGenerationUtilities.generateRandomShortArray(PRIMITIVE_SWEEP_SIZE);
+        char[] chars = DataGenerationUtilities.generateRandomCharArray(PRIMITIVE_SWEEP_SIZE);
+
+        for (PrimitiveSortingAlgorithm engine : PRIMITIVE_ALGORITHMS) {
+            String name = engine.getAlgorithmName();
+            try {
+                sweepResults.add(BenchmarkingFramework.benchmark(engine, longs, name,
+                        primitiveDataType("long")));
+                sweepResults.add(BenchmarkingFramework.benchmark(engine, doubles, name,
+                        primitiveDataType("double")));
+                sweepResults.add(BenchmarkingFramework.benchmark(engine, floats, name,
+                        primitiveDataType("float")));
+                sweepResults.add(BenchmarkingFramework.benchmark(engine, shorts, name,
+                        primitiveDataType("short")));
+                sweepResults.add(BenchmarkingFramework.benchmark(engine, chars, name,
+                        primitiveDataType("char")));
+            } catch (Exception e) {
+                System.err.printf("Primitive sweep failed: %s - %s%n", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the data type label of random keys of the given primitive type.
+     */
+    private static String primitiveDataType(String keyType) {
+        return "Random (" + keyType + ")";
+    }
+
+    /**
+     * Sorts the same random keys as int[] with the ping-pong merge sort and as Integer[] with the
+     * object merge sort, once through a comparator and once by cached keys. The merge structure
+     * is identical, so the gaps are the cost of boxing, pointer chasing and comparator calls.
+     */
+    private void executeBoxedSweep() {
+        SortingAlgorithm intSort = new MergeSort(MergeSort.Variant.PING_PONG);
+        ObjectMergeSort objectSort = new ObjectMergeSort();
+
+        for (int size : BOXED_SWEEP_SIZES) {
+            int[] ints = DataGenerationUtilities.generateRandomArray(size, Integer.MAX_VALUE);
+            Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+            try {
+                sweepResults.add(BenchmarkingFramework.benchmark(intSort, ints,
+                        intSort.getAlgorithmName(), "Random", BOXED_WARMUP_ITERATIONS,
+                        BOXED_MEASUREMENT_ITERATIONS));
+                sweepResults.add(BenchmarkingFramework.benchmark(objectSort, boxed,
+                        Comparator.<Integer>naturalOrder(), objectSort.getAlgorithmName(),
+                        BOXED_DATA_TYPE, BOXED_WARMUP_ITERATIONS, BOXED_MEASUREMENT_ITERATIONS));
+                sweepResults.add(BenchmarkingFramework.benchmarkByKey(objectSort, boxed,
+                        Integer::longValue, KEYED_OBJECT_SORT, BOXED_DATA_TYPE,
+                        BOXED_WARMUP_ITERATIONS, BOXED_MEASUREMENT_ITERATIONS));
+            } catch (Exception e) {
+                System.err.printf("Boxed sweep failed on %,d elements - %s%n", size,
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Sorts random keys with their original indices as payload (an argsort) at the boxed sweep
+     * sizes, so the results sit next to the Integer[] runs.
+     */
+    private void executePairSweep() {
+        for (int size : BOXED_SWEEP_SIZES) {
+            int[] keys = DataGenerationUtilities.generateRandomArray(size, Integer.MAX_VALUE);
+            int[] payload = new int[size];
+            for (int i = 0; i < size; i++) {
+                payload[i] = i;
+            }
+
+            for (KeyPayloadSortingAlgorithm engine : PAIR_ALGORITHMS) {
+                try {
+                    sweepResults.add(BenchmarkingFramework.benchmarkPairs(engine, keys, payload,
+                            engine.getAlgorithmName(), PAIR_DATA_TYPE, BOXED_WARMUP_ITERATIONS,
+                            BOXED_MEASUREMENT_ITERATIONS));
+                } catch (Exception e) {
+                    System.err.printf("Key/payload sweep failed: %s on %,d elements - %s%n",
+                            engine.getAlgorithmName(), size, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Partially sorts the k smallest of one million random keys with every selection strategy
+     * and sorts the same input fully with Quick Sort as the baseline.
+     */
+    private void executeTopKSweep() {
+        int[] testArray = DataGenerationUtilities.generateRandomArray(TOP_K_SIZE, Integer.MAX_VALUE);
+        SortingAlgorithm fullSort = new QuickSort();
+
+        try {
+            sweepResults.add(BenchmarkingFramework.benchmark(fullSort, testArray,
+                    fullSort.getAlgorithmName(), "Random", TOP_K_WARMUP_ITERATIONS,
+                    TOP_K_MEASUREMENT_ITERATIONS));
+        } catch (Exception e) {
+            System.err.printf("Top-k baseline failed - %s%n", e.getMessage());
+        }
+
+        for (int k : TOP_K_VALUES) {
+            for (Selector.Variant variant : Selector.Variant.values()) {
+                Selector selector = new Selector(variant);
+                try {
+                    sweepResults.add(BenchmarkingFramework.benchmarkPartialSort(selector, testArray,
+                            k, topKName(selector, k), "Random", TOP_K_WARMUP_ITERATIONS,
+                            TOP_K_MEASUREMENT_ITERATIONS));
+                } catch (Exception e) {
+                    System.err.printf("Top-k test failed: %s - %s%n", topKName(selector, k),
+                            e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the result name of a partial sort of the k smallest elements.
+     */
+    private static String topKName(Selector selector, int k) {
+        return String.format("%s (k=%d)", selector.getAlgorithmName(), k);
+    }
+
+    /**
+     * Sorts a batch of small random arrays for each array length, once with Batch Sort across
+     * all cores and once per array with each baseline engine.
+     */
+    private void executeBatchSweep() {
+        BatchSort batchSort = new BatchSort();
+
+        for (int length : BATCH_ARRAY_LENGTHS) {
+            int[][] batch = new int[BATCH_COUNT][];
+            for (int i = 0; i < BATCH_COUNT; i++) {
+                batch[i] = DataGenerationUtilities.generateRandomArray(length, Integer.MAX_VALUE);
+            }
+            String dataType = batchDataType(length);
+
+            try {
+                sweepResults.add(BenchmarkingFramework.benchmarkBatch(batchSort, batch,
+                        batchSort.getAlgorithmName(), dataType, BATCH_WARMUP_ITERATIONS,
+                        BATCH_MEASUREMENT_ITERATIONS));
+            } catch (Exception e) {
+                System.err.printf("Batch sweep failed: %s on %s - %s%n",
+                        batchSort.getAlgorithmName(), dataType, e.getMessage());
+            }
+
+            for (SortingAlgorithm algorithm : PER_ARRAY_ALGORITHMS) {
+                try {
+                    sweepResults.add(BenchmarkingFramework.benchmarkPerArray(algorithm, batch,
+                            algorithm.getAlgorithmName(), dataType, BATCH_WARMUP_ITERATIONS,
+                            BATCH_MEASUREMENT_ITERATIONS));
+                } catch (Exception e) {
+                    System.err.printf("Batch sweep failed: %s on %s - %s%n",
+                            algorithm.getAlgorithmName(), dataType, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the data type label of a batch of random arrays of the given length.
+     */
+    private static String batchDataType(int length) {
+        return String.format("Random (batch of length %d)", length);
+    }
+
+    /**
+     * Sorts a random int file several times the chunk size with External Merge Sort, using
+     * run files in a temporary directory that is removed afterwards.
+     */
+    private void executeExternalSweep() {
+        Path directory;
+        try {
+            directory = Files.createTempDirectory("external-sort-");
+        } catch (IOException e) {
+            System.err.printf("External sort skipped - %s%n", e.getMessage());
+            return;
+        }
+        ExternalMergeSort sorter = new ExternalMergeSort(new PatternDefeatingQuickSort(),
+                EXTERNAL_CHUNK_ELEMENTS, directory);
+
+        try {
+            Path input = directory.resolve("input.bin");
+            Path output = directory.resolve("output.bin");
+            DataGenerationUtilities.generateRandomIntFile(input, EXTERNAL_SORT_ELEMENTS);
+
+            externalSortResult = sorter.sort(input, output);
+            sweepResults.add(BenchmarkingFramework.benchmarkExternal(sorter, input, output,
+                    sorter.getAlgorithmName(), EXTERNAL_DATA_TYPE, EXTERNAL_WARMUP_ITERATIONS,
+                    EXTERNAL_MEASUREMENT_ITERATIONS));
+        } catch (Exception e) {
+            System.err.printf("External sort failed: %s - %s%n", sorter.getAlgorithmName(),
+                    e.getMessage());
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Sorts random keys in an off-heap segment with each OffHeapSort variant, and the same keys
+     * in an int[] through a heap segment view. Stops at the first size that does not fit.
+     */
+    private void executeOffHeapSweep() {
+        for (int size : OFF_HEAP_SIZES) {
+            System.out.printf("Off-heap sweep: %,d elements%n", size);
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment segment = DataGenerationUtilities.generateRandomSegment(arena, size,
+                        Integer.MAX_VALUE);
+                int[] array = segment.toArray(ValueLayout.JAVA_INT);
+
+                for (OffHeapSort.Variant variant : OffHeapSort.Variant.values()) {
+                    OffHeapSort engine = new OffHeapSort(variant);
+                    sweepResults.add(BenchmarkingFramework.benchmarkSegment(engine, segment,
+                            engine.getAlgorithmName(), OFF_HEAP_DATA_TYPE,
+                            LARGE_INPUT_WARMUP_ITERATIONS, LARGE_INPUT_MEASUREMENT_ITERATIONS));
+                    sweepResults.add(BenchmarkingFramework.benchmark(engine, array,
+                            engine.getAlgorithmName(), "Random", LARGE_INPUT_WARMUP_ITERATIONS,
+                            LARGE_INPUT_MEASUREMENT_ITERATIONS));
+                }
+            } catch (Exception | OutOfMemoryError e) {
+                // Larger sizes need even more memory, so stop here
+                System.err.printf("Off-heap test failed on %,d elements - %s%n", size, e);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Splits ten million random keys into k sorted runs for each k and merges them with every
+     * KWayMerger strategy.
+     */
+    private void executeMergeSweep() {
+        int[] keys = DataGenerationUtilities.generateRandomArray(MERGE_TOTAL_ELEMENTS,
+                Integer.MAX_VALUE);
+        RadixSort runSorter = new RadixSort();
+
+        for (int k : MERGE_WAYS) {
+            int[][] runs = new int[k][];
+            for (int run = 0; run < k; run++) {
+                runs[run] = Arrays.copyOfRange(keys, (int) ((long) MERGE_TOTAL_ELEMENTS * run / k),
+                        (int) ((long) MERGE_TOTAL_ELEMENTS * (run + 1) / k));
+                runSorter.sort(runs[run]);
+            }
+
+            for (KWayMerger.Variant variant : KWayMerger.Variant.values()) {
+                KWayMerger merger = new KWayMerger(variant);
+                try {
+                    sweepResults.add(BenchmarkingFramework.benchmarkMerge(merger, runs,
+                            merger.getAlgorithmName(), mergeDataType(k), MERGE_WARMUP_ITERATIONS,
+                            MERGE_MEASUREMENT_ITERATIONS));
+                } catch (Exception e) {
+                    System.err.printf("Merge sweep failed: %s on %d runs - %s%n",
+                            merger.getAlgorithmName(), k, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the stable engines on large random inputs, recording the bytes each sort allocates
+     * alongside its time. Stops at the first size that does not fit.
+     */
+    private void executeStableSweep() {
+        for (int size : STABLE_SWEEP_SIZES) {
+            System.out.printf("Stable sort sweep: %,d elements%n", size);
+            try {
+                int[] testArray = DataGenerationUtilities.generateRandomArray(size, Integer.MAX_VALUE);
+                for (SortingAlgorithm engine : STABLE_ALGORITHMS) {
+                    sweepResults.add(BenchmarkingFramework.benchmark(engine, testArray,
+                            engine.getAlgorithmName(), "Random", LARGE_INPUT_WARMUP_ITERATIONS,
+                            LARGE_INPUT_MEASUREMENT_ITERATIONS));
+                }
+            } catch (Exception | OutOfMemoryError e) {
+                // Larger sizes need even more heap, so stop here
+                System.err.printf("Stable sort test failed on %,d elements - %s%n", size, e);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Measures every Auto Sort candidate on every data type at AUTO_SORT_CALIBRATION_SIZES, then
+     * runs Auto Sort, with a cost model built from every result collected so far, against fixed
+     * engines on each data type of AUTO_SORT_DATA_TYPES.
+     */
+    private void executeAutoSortSweep() {
+        for (int size : AUTO_SORT_CALIBRATION_SIZES) {
+            System.out.printf("Auto Sort calibration: %,d elements%n", size);
+            for (String dataType : DATA_TYPES) {
+                int[] testArray = generateTestData(dataType, size);
+                for (SortingAlgorithm engine : AutoSort.getDefaultCandidates()) {
+                    try {
+                        sweepResults.add(BenchmarkingFramework.benchmark(engine, testArray,
+                                engine.getAlgorithmName(), dataType));
+                    } catch (Exception e) {
+                        System.err.printf("Auto Sort calibration failed: %s on %s - %s%n",
+                                engine.getAlgorithmName(), dataType, e.getMessage());
+                    }
+                }
+            }
+        }
+
+        List<PerformanceMetrics> measured = new ArrayList<>(allResults);
+        measured.addAll(sweepResults);
+        AutoSort autoSort = new AutoSort(new CostModel(measured));
+
+        for (String dataType : AUTO_SORT_DATA_TYPES) {
+            int[] testArray = generateTestData(dataType, AUTO_SORT_SIZE);
+            autoSortChoices.put(dataType, autoSort.choose(testArray).getAlgorithmName());
+
+            List<SortingAlgorithm> engines = new ArrayList<>(List.of(AUTO_SORT_BASELINES));
+            engines.add(0, autoSort);
+            for (SortingAlgorithm engine : engines) {
+                try {
+                    sweepResults.add(BenchmarkingFramework.benchmark(engine, testArray,
+                            engine.getAlgorithmName(), dataType));
+                } catch (Exception e) {
+                    System.err.printf("Auto Sort sweep failed: %s on %s - %s%n",
+                            engine.getAlgorithmName(), dataType, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts keys with 10% distinct values and random permutations with the counting, bitmap,
+     * radix and quick sort engines. Stops at the first size that does not fit.
+     */
+    private void executeCountingSweep() {
+        for (int size : COUNTING_SWEEP_SIZES) {
+            System.out.printf("Small-range sweep: %,d elements%n", size);
+            try {
+                for (String dataType : COUNTING_DATA_TYPES) {
+                    int[] testArray = dataType.equals("WithDuplicates")
+                            ? generateTestData(dataType, size)
+                            : DataGenerationUtilities.generateRandomPermutation(size);
+                    for (SortingAlgorithm engine : COUNTING_ALGORITHMS) {
+                        sweepResults.add(BenchmarkingFramework.benchmark(engine, testArray,
+                                engine.getAlgorithmName(), dataType, LARGE_INPUT_WARMUP_ITERATIONS,
+                                LARGE_INPUT_MEASUREMENT_ITERATIONS));
+                    }
+                }
+            } catch (Exception | OutOfMemoryError e) {
+                // Larger sizes need even more heap, so stop here
+                System.err.printf("Small-range test failed on %,d elements - %s%n", size, e);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the data type label of random keys split into k sorted runs.
+     */
+    private static String mergeDataType(int k) {
+        return String.format("Random (%d sorted runs)", k);
+    }
+
+    /**
+     * Deletes a directory and the files in it, ignoring failures.
+     */
+    private static void deleteDirectory(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            System.err.printf("Could not delete %s - %s%n", directory, e.getMessage());
+        }
+    }
+
     /**
      * Generates test data based on specified type and size.
      */
@@ -151,7 +780,8 @@ public class TestingPipeline {
         long comparisons = metrics.getComparisonCount();
         long swaps = metrics.getSwapCount();
 
-        if (comparisons == 0 && size > 1) {
+        // Distribution sorts make no comparisons; their work shows up as key reads
+        if (comparisons == 0 && metrics.getKeyReadCount() == 0 && size > 1) {
             System.out.printf("Warning: No comparisons recorded for %s on %d elements%n",
                     algorithm.getAlgorithmName(), size);
         }
@@ -188,6 +818,17 @@ public class TestingPipeline {
 
         System.out.printf("Results saved to: %s%n", outputFile.getAbsolutePath());
 
+        if (!sweepResults.isEmpty()) {
+            File sweepFile = new File(dir, String.format("sweep_results_%s.csv", timestamp));
+            try (PrintWriter writer = new PrintWriter(new FileWriter(sweepFile))) {
+                writer.println(PerformanceMetrics.getCSVHeader());
+                for (PerformanceMetrics metrics : sweepResults) {
+                    writer.println(metrics.toCSV());
+                }
+            }
+            System.out.printf("Sweep results saved to: %s%n", sweepFile.getAbsolutePath());
+        }
+
         // Generate summary statistics
         generateSummaryReport(outputDirectory, timestamp);
     }
@@ -205,6 +846,7 @@ public class TestingPipeline {
             writer.println("=".repeat(50));
             writer.printf("Generated: %s%n", LocalDateTime.now());
             writer.printf("Total measurements: %d%n", allResults.size());
+            writer.printf("Sweep measurements: %d%n", sweepResults.size());
             writer.println();
 
             // Algorithm performance summary
@@ -213,19 +855,73 @@ public class TestingPipeline {
 
             Map<String, List<PerformanceMetrics>> byAlgorithm = groupByAlgorithm();
 
-            for (String algorithm : Arrays.asList("Bubble Sort", "Selection Sort", "Insertion Sort",
-                    "Quick Sort", "Merge Sort", "Heap Sort")) {
+            for (String algorithm : getAlgorithmNames()) {
                 List<PerformanceMetrics> algorithmResults = byAlgorithm.get(algorithm);
                 if (algorithmResults != null && !algorithmResults.isEmpty()) {
                     double avgTime = algorithmResults.stream()
                             .mapToDouble(PerformanceMetrics::getExecutionTimeMillis).average()
                             .orElse(0.0);
+                    double avgMemory = algorithmResults.stream()
+                            .mapToDouble(PerformanceMetrics::getMemoryUsageKB).average()
+                            .orElse(0.0);
 
-                    writer.printf("%-15s: Avg Time = %8.2f ms (%d measurements)%n", algorithm,
-                            avgTime, algorithmResults.size());
+                    writer.printf("%-15s: Avg Time = %8.2f ms, Avg Memory = %10.2f KB "
+                            + "(%d measurements)%n", algorithm, avgTime, avgMemory,
+                            algorithmResults.size());
                 }
             }
 
+            writer.println();
+            writeSpeedupSection(writer, "Parallel Merge Sort", "Merge Sort");
+
+            writer.println();
+            writeSavingsSection(writer, "Heap Sort (Bottom-Up)", "Heap Sort");
+
+            writer.println();
+            writeSavingsSection(writer, "Heap Sort (Bottom-Up 4-ary)", "Heap Sort");
+
+            writer.println();
+            writeGapSweepSection(writer);
+
+            writer.println();
+            writeScalingSection(writer);
+
+            writer.println();
+            writeLargeInputSection(writer);
+
+            writer.println();
+            writePrimitiveSection(writer);
+
+            writer.println();
+            writeBoxedSection(writer);
+
+            writer.println();
+            writePairSection(writer);
+
+            writer.println();
+            writeTopKSection(writer);
+
+            writer.println();
+            writeBatchSection(writer);
+
+            writer.println();
+            writeExternalSection(writer);
+
+            writer.println();
+            writeOffHeapSection(writer);
+
+            writer.println();
+            writeMergeSection(writer);
+
+            writer.println();
+            writeStableSection(writer);
+
+            writer.println();
+            writeAutoSortSection(writer);
+
+            writer.println();
+            writeCountingSection(writer);
+
             writer.println();
             writer.println("Detailed analysis available in CSV file.");
         }
@@ -234,7 +930,467 @@ public class TestingPipeline {
     }
 
     /**
-     * Groups results by algorithm for analysis.
+     * Writes the speedup of a parallel engine over its sequential baseline on random inputs at
+     * each large-input size. Speedup is the ratio of median sequential time to median parallel
+     * time.
+     */
+    private void writeSpeedupSection(PrintWriter writer, String parallelName,
+            String sequentialName) {
+        writer.printf("PARALLEL SPEEDUP (%s vs %s, %d cores):%n", parallelName, sequentialName,
+                Runtime.getRuntime().availableProcessors());
+        writer.println("-".repeat(40));
+
+        // The grid sizes are all below the sequential cutoff, so compare at the large-input sizes
+        for (int size : LARGE_INPUT_SIZES) {
+            PerformanceMetrics parallel = findResult(parallelName, "Random", size);
+            PerformanceMetrics sequential = findResult(sequentialName, "Random", size);
+
+            if (parallel != null && sequential != null && parallel.getExecutionTimeNanos() > 0) {
+                double speedup = (double) sequential.getExecutionTimeNanos()
+                        / parallel.getExecutionTimeNanos();
+                writer.printf("Random %,12d: %6.2fx%n", size, speedup);
+            }
+        }
+    }
+
+    /**
+     * Writes the comparisons and time a variant saves over its baseline at each size, summed over
+     * all data types. Negative values mean the variant did more work.
+     */
+    private void writeSavingsSection(PrintWriter writer, String variantName,
+            String baselineName) {
+        writer.printf("VARIANT SAVINGS (%s vs %s):%n", variantName, baselineName);
+        writer.println("-".repeat(40));
+
+        for (int size : TEST_SIZES) {
+            long variantComparisons = 0;
+            long baselineComparisons = 0;
+            long variantNanos = 0;
+            long baselineNanos = 0;
+
+            for (String dataType : DATA_TYPES) {
+                PerformanceMetrics variant = findResult(variantName, dataType, size);
+                PerformanceMetrics baseline = findResult(baselineName, dataType, size);
+
+                if (variant != null && baseline != null) {
+                    variantComparisons += variant.getComparisonCount();
+                    baselineComparisons += baseline.getComparisonCount();
+                    variantNanos += variant.getExecutionTimeNanos();
+                    baselineNanos += baseline.getExecutionTimeNanos();
+                }
+            }
+
+            if (baselineComparisons > 0 && baselineNanos > 0) {
+                writer.printf("%10d: %6.1f%% fewer comparisons, %6.1f%% less time%n", size,
+                        100.0 * (1 - (double) variantComparisons / baselineComparisons),
+                        100.0 * (1 - (double) variantNanos / baselineNanos));
+            }
+        }
+    }
+
+    /**
+     * Writes median time, comparisons and element moves of each Shell Sort gap sequence at each
+     * size of the gap sweep.
+     */
+    private void writeGapSweepSection(PrintWriter writer) {
+        writer.println("SHELL SORT GAP SEQUENCES (random data):");
+        writer.println("-".repeat(40));
+
+        for (int size : GAP_SWEEP_SIZES) {
+            for (ShellSort.GapSequence gaps : ShellSort.GapSequence.values()) {
+                String name = new ShellSort(gaps).getAlgorithmName();
+                PerformanceMetrics metrics = findResult(name, "Random", size);
+                if (metrics != null) {
+                    writer.printf("%-24s %8d: %8.3f ms, %,12d comparisons, %,12d moves%n", name,
+                            size, metrics.getExecutionTimeMillis(), metrics.getComparisonCount(),
+                            metrics.getSwapCount());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes Parallel Radix Sort throughput (million keys per second) and speedup over one core
+     * for each core count in the scaling sweep.
+     */
+    private void writeScalingSection(PrintWriter writer) {
+        writer.printf("PARALLEL RADIX SORT SCALING (%,d random keys):%n", SCALING_SIZE);
+        writer.println("-".repeat(40));
+
+        PerformanceMetrics singleCore = scalingResults.get(1);
+        for (Map.Entry<Integer, PerformanceMetrics> entry : scalingResults.entrySet()) {
+            PerformanceMetrics metrics = entry.getValue();
+            if (metrics.getExecutionTimeNanos() <= 0) continue;
+
+            double keysPerSecond = SCALING_SIZE / (metrics.getExecutionTimeNanos() / 1e9);
+            double speedup = singleCore != null && singleCore.getExecutionTimeNanos() > 0
+                    ? (double) singleCore.getExecutionTimeNanos() / metrics.getExecutionTimeNanos()
+                    : 0.0;
+            writer.printf("%3d cores: %8.2f ms, %8.1f Mkeys/s, %5.2fx%n", entry.getKey(),
+                    metrics.getExecutionTimeMillis(), keysPerSecond / 1e6, speedup);
+        }
+    }
+
+    /**
+     * Writes Parallel Sample Sort and Parallel Merge Sort throughput (million keys per second)
+     * and the speedup of samplesort at each size of the large-input comparison.
+     */
+    private void writeLargeInputSection(PrintWriter writer) {
+        writer.printf("LARGE INPUTS (random keys, %d cores):%n",
+                Runtime.getRuntime().availableProcessors());
+        writer.println("-".repeat(40));
+
+        for (int size : LARGE_INPUT_SIZES) {
+            PerformanceMetrics sample = findResult("Parallel Sample Sort", "Random", size);
+            PerformanceMetrics merge = findResult("Parallel Merge Sort", "Random", size);
+            if (sample == null || merge == null || sample.getExecutionTimeNanos() <= 0
+                    || merge.getExecutionTimeNanos() <= 0) {
+                continue;
+            }
+
+            writer.printf("%,12d: sample %8.1f Mkeys/s, merge %8.1f Mkeys/s, %5.2fx%n", size,
+                    size / (sample.getExecutionTimeNanos() / 1e3),
+                    size / (merge.getExecutionTimeNanos() / 1e3),
+                    (double) merge.getExecutionTimeNanos() / sample.getExecutionTimeNanos());
+        }
+    }
+
+    /**
+     * Writes the median time of each classic algorithm per key type at the primitive sweep
+     * size, with int[] as the baseline. Missing measurements are left blank.
+     */
+    private void writePrimitiveSection(PrintWriter writer) {
+        writer.printf("KEY TYPES (random keys, %d elements, ms):%n", PRIMITIVE_SWEEP_SIZE);
+        writer.println("-".repeat(40));
+
+        writer.printf("%-15s %9s", "", "int");
+        for (String keyType : PRIMITIVE_KEY_TYPES) {
+            writer.printf(" %9s", keyType);
+        }
+        writer.println();
+
+        for (PrimitiveSortingAlgorithm algorithm : PRIMITIVE_ALGORITHMS) {
+            String name = algorithm.getAlgorithmName();
+            writer.printf("%-15s %9s", name, formatMillis(findResult(name, "Random",
+                    PRIMITIVE_SWEEP_SIZE)));
+            for (String keyType : PRIMITIVE_KEY_TYPES) {
+                writer.printf(" %9s", formatMillis(findResult(name, primitiveDataType(keyType),
+                        PRIMITIVE_SWEEP_SIZE)));
+            }
+            writer.println();
+        }
+    }
+
+    /**
+     * Formats a median time in milliseconds, or an empty cell if the result is missing.
+     */
+    private static String formatMillis(PerformanceMetrics metrics) {
+        return metrics == null ? "" : String.format("%.3f", metrics.getExecutionTimeMillis());
+    }
+
+    /**
+     * Writes median times of the boxed comparison and how many times slower each Integer[] mode
+     * is than int[].
+     */
+    private void writeBoxedSection(PrintWriter writer) {
+        writer.println("BOXED KEYS (Integer[] vs int[], random keys, merge sort):");
+        writer.println("-".repeat(40));
+
+        String intName = new MergeSort(MergeSort.Variant.PING_PONG).getAlgorithmName();
+        String objectName = new ObjectMergeSort().getAlgorithmName();
+        for (int size : BOXED_SWEEP_SIZES) {
+            PerformanceMetrics primitive = findResult(intName, "Random", size);
+            PerformanceMetrics comparator = findResult(objectName, BOXED_DATA_TYPE, size);
+            PerformanceMetrics keyed = findResult(KEYED_OBJECT_SORT, BOXED_DATA_TYPE, size);
+            if (primitive == null || comparator == null || keyed == null
+                    || primitive.getExecutionTimeNanos() <= 0) {
+                continue;
+            }
+
+            double base = primitive.getExecutionTimeNanos();
+            writer.printf("%,12d: int[] %9.3f ms, comparator %9.3f ms (%5.2fx), "
+                    + "keyed %9.3f ms (%5.2fx)%n", size, primitive.getExecutionTimeMillis(),
+                    comparator.getExecutionTimeMillis(), comparator.getExecutionTimeNanos() / base,
+                    keyed.getExecutionTimeMillis(), keyed.getExecutionTimeNanos() / base);
+        }
+    }
+
+    /**
+     * Writes median time and bytes allocated per element of each key/payload engine, with the
+     * comparator-mode Integer[] sort of the boxed comparison as reference.
+     */
+    private void writePairSection(PrintWriter writer) {
+        writer.println("KEY/PAYLOAD SORT (int keys + int payload, random keys):");
+        writer.println("-".repeat(40));
+
+        String objectName = new ObjectMergeSort().getAlgorithmName();
+        for (int size : BOXED_SWEEP_SIZES) {
+            for (KeyPayloadSortingAlgorithm engine : PAIR_ALGORITHMS) {
+                writePairLine(writer, engine.getAlgorithmName(),
+                        findResult(engine.getAlgorithmName(), PAIR_DATA_TYPE, size), size);
+            }
+            writePairLine(writer, objectName + " (Integer[])",
+                    findResult(objectName, BOXED_DATA_TYPE, size), size);
+        }
+    }
+
+    /**
+     * Writes one line of the key/payload section, skipping missing results.
+     */
+    private void writePairLine(PrintWriter writer, String name, PerformanceMetrics metrics,
+            int size) {
+        if (metrics == null) return;
+
+        writer.printf("%-30s %,12d: %9.3f ms, %6.1f bytes/element allocated%n", name, size,
+                metrics.getExecutionTimeMillis(), (double) metrics.getMemoryUsageBytes() / size);
+    }
+
+    /**
+     * Writes the median time of each selection strategy for each k and its speedup over fully
+     * sorting the same input with Quick Sort.
+     */
+    private void writeTopKSection(PrintWriter writer) {
+        writer.printf("TOP-K PARTIAL SORT (%,d random keys, vs full Quick Sort):%n", TOP_K_SIZE);
+        writer.println("-".repeat(40));
+
+        PerformanceMetrics fullSort = findResult(new QuickSort().getAlgorithmName(), "Random",
+                TOP_K_SIZE);
+        if (fullSort == null || fullSort.getExecutionTimeNanos() <= 0) return;
+
+        writer.printf("%-32s %9.3f ms%n", fullSort.getAlgorithmName(),
+                fullSort.getExecutionTimeMillis());
+        for (int k : TOP_K_VALUES) {
+            for (Selector.Variant variant : Selector.Variant.values()) {
+                String name = topKName(new Selector(variant), k);
+                PerformanceMetrics metrics = findResult(name, "Random", TOP_K_SIZE);
+                if (metrics == null || metrics.getExecutionTimeNanos() <= 0) continue;
+
+                writer.printf("%-32s %9.3f ms, %6.1fx faster%n", name,
+                        metrics.getExecutionTimeMillis(),
+                        (double) fullSort.getExecutionTimeNanos() / metrics.getExecutionTimeNanos());
+            }
+        }
+    }
+
+    /**
+     * Writes the throughput in arrays sorted per second of Batch Sort and of each per-array
+     * baseline for each array length.
+     */
+    private void writeBatchSection(PrintWriter writer) {
+        writer.printf("SMALL-ARRAY BATCHES (%,d random arrays, %d cores):%n", BATCH_COUNT,
+                Runtime.getRuntime().availableProcessors());
+        writer.println("-".repeat(40));
+
+        String batchSortName = new BatchSort().getAlgorithmName();
+        for (int length : BATCH_ARRAY_LENGTHS) {
+            writeBatchLine(writer, batchSortName, batchSortName, length);
+            for (SortingAlgorithm algorithm : PER_ARRAY_ALGORITHMS) {
+                writeBatchLine(writer, algorithm.getAlgorithmName() + " (per array)",
+                        algorithm.getAlgorithmName(), length);
+            }
+        }
+    }
+
+    /**
+     * Writes one batch result as arrays sorted per second, if it was collected.
+     */
+    private void writeBatchLine(PrintWriter writer, String label, String algorithmName,
+            int length) {
+        PerformanceMetrics metrics = findResult(algorithmName, batchDataType(length), BATCH_COUNT);
+        if (metrics == null || metrics.getExecutionTimeNanos() <= 0) return;
+
+        writer.printf("%-34s length %2d: %,14.0f arrays/s%n", label, length,
+                BATCH_COUNT * 1e9 / metrics.getExecutionTimeNanos());
+    }
+
+    /**
+     * Writes the median time and throughput of the external sort in MB of input per second,
+     * and the run count and bytes read and written by one sort.
+     */
+    private void writeExternalSection(PrintWriter writer) {
+        writer.printf("EXTERNAL MERGE SORT (%,d ints on disk, %,d-int chunks):%n",
+                EXTERNAL_SORT_ELEMENTS, EXTERNAL_CHUNK_ELEMENTS);
+        writer.println("-".repeat(40));
+
+        String name = new ExternalMergeSort(new PatternDefeatingQuickSort(),
+                EXTERNAL_CHUNK_ELEMENTS, null).getAlgorithmName();
+        PerformanceMetrics metrics = findResult(name, EXTERNAL_DATA_TYPE, EXTERNAL_SORT_ELEMENTS);
+        if (metrics == null || metrics.getExecutionTimeNanos() <= 0 || externalSortResult == null) {
+            return;
+        }
+
+        double megabytes = (double) EXTERNAL_SORT_ELEMENTS * Integer.BYTES / (1 << 20);
+        writer.printf("%-52s %9.3f ms, %8.1f MB/s%n", name, metrics.getExecutionTimeMillis(),
+                megabytes * 1e9 / metrics.getExecutionTimeNanos());
+        writer.printf("Runs merged: %d in %d passes, bytes read: %,d, bytes written: %,d%n",
+                externalSortResult.runs(), externalSortResult.mergePasses(),
+                externalSortResult.bytesRead(), externalSortResult.bytesWritten());
+    }
+
+    /**
+     * Writes the throughput of each OffHeapSort variant on an off-heap segment and on an int[],
+     * with the off-heap speed relative to the array.
+     */
+    private void writeOffHeapSection(PrintWriter writer) {
+        writer.println("OFF-HEAP SEGMENTS (random keys, off-heap vs int[]):");
+        writer.println("-".repeat(40));
+
+        for (int size : OFF_HEAP_SIZES) {
+            for (OffHeapSort.Variant variant : OffHeapSort.Variant.values()) {
+                String name = new OffHeapSort(variant).getAlgorithmName();
+                PerformanceMetrics offHeap = findResult(name, OFF_HEAP_DATA_TYPE, size);
+                PerformanceMetrics onHeap = findResult(name, "Random", size);
+                if (offHeap == null || onHeap == null || offHeap.getExecutionTimeNanos() <= 0
+                        || onHeap.getExecutionTimeNanos() <= 0) {
+                    continue;
+                }
+
+                writer.printf("%-20s %,12d: off-heap %8.1f Mkeys/s, int[] %8.1f Mkeys/s, %5.2fx%n",
+                        name, size, size / (offHeap.getExecutionTimeNanos() / 1e3),
+                        size / (onHeap.getExecutionTimeNanos() / 1e3),
+                        (double) onHeap.getExecutionTimeNanos() / offHeap.getExecutionTimeNanos());
+            }
+        }
+    }
+
+    /**
+     * Writes the throughput and comparisons per element of each merge strategy for each k.
+     */
+    private void writeMergeSection(PrintWriter writer) {
+        writer.printf("K-WAY MERGE (%,d random keys in k sorted runs):%n", MERGE_TOTAL_ELEMENTS);
+        writer.println("-".repeat(40));
+
+        for (int k : MERGE_WAYS) {
+            for (KWayMerger.Variant variant : KWayMerger.Variant.values()) {
+                String name = new KWayMerger(variant).getAlgorithmName();
+                PerformanceMetrics metrics = findResult(name, mergeDataType(k),
+                        MERGE_TOTAL_ELEMENTS);
+                if (metrics == null || metrics.getExecutionTimeNanos() <= 0) continue;
+
+                writer.printf("%-18s k=%4d: %8.1f Mkeys/s, %5.2f comparisons/element%n", name, k,
+                        MERGE_TOTAL_ELEMENTS / (metrics.getExecutionTimeNanos() / 1e3),
+                        (double) metrics.getComparisonCount() / MERGE_TOTAL_ELEMENTS);
+            }
+        }
+    }
+
+    /**
+     * Writes the time and the extra bytes allocated per element of each stable engine, the
+     * footprint that decides whether a stable sort fits next to a huge array.
+     */
+    private void writeStableSection(PrintWriter writer) {
+        writer.println("STABLE SORT FOOTPRINT (random keys, bytes allocated by the sort):");
+        writer.println("-".repeat(40));
+
+        for (int size : STABLE_SWEEP_SIZES) {
+            for (SortingAlgorithm algorithm : STABLE_ALGORITHMS) {
+                String name = algorithm.getAlgorithmName();
+                PerformanceMetrics metrics = findResult(name, "Random", size);
+                if (metrics == null) continue;
+
+                writer.printf("%-36s %,12d: %9.3f ms, %,14d bytes, %7.4f bytes/element%n", name,
+                        size, metrics.getExecutionTimeMillis(), metrics.getMemoryUsageBytes(),
+                        (double) metrics.getMemoryUsageBytes() / size);
+            }
+        }
+    }
+
+    /**
+     * Writes the engine Auto Sort chose for each data type and its time next to each fixed
+     * engine's.
+     */
+    private void writeAutoSortSection(PrintWriter writer) {
+        writer.printf("AUTO SORT (%,d elements, cost model from this run's results):%n",
+                AUTO_SORT_SIZE);
+        writer.println("-".repeat(40));
+
+        for (String dataType : AUTO_SORT_DATA_TYPES) {
+            PerformanceMetrics auto = findResult("Auto Sort", dataType, AUTO_SORT_SIZE);
+            if (auto == null) continue;
+
+            writer.printf("%-15s chose %-32s %9.3f ms%n", dataType,
+                    autoSortChoices.get(dataType), auto.getExecutionTimeMillis());
+            for (SortingAlgorithm baseline : AUTO_SORT_BASELINES) {
+                PerformanceMetrics metrics = findResult(baseline.getAlgorithmName(), dataType,
+                        AUTO_SORT_SIZE);
+                if (metrics == null) continue;
+
+                writer.printf("%-15s fixed %-32s %9.3f ms%n", "",
+                        baseline.getAlgorithmName(), metrics.getExecutionTimeMillis());
+            }
+        }
+    }
+
+    /**
+     * Writes the throughput of each small-range engine and its speedup over Pattern-Defeating
+     * Quick Sort on the same keys.
+     */
+    private void writeCountingSection(PrintWriter writer) {
+        writer.println("SMALL KEY RANGES (counting and bitmap vs radix and quick sort):");
+        writer.println("-".repeat(40));
+
+        String baselineName = new PatternDefeatingQuickSort().getAlgorithmName();
+        for (int size : COUNTING_SWEEP_SIZES) {
+            for (String dataType : COUNTING_DATA_TYPES) {
+                PerformanceMetrics baseline = findResult(baselineName, dataType, size);
+                if (baseline == null || baseline.getExecutionTimeNanos() <= 0) continue;
+
+                for (SortingAlgorithm algorithm : COUNTING_ALGORITHMS) {
+                    PerformanceMetrics metrics = findResult(algorithm.getAlgorithmName(),
+                            dataType, size);
+                    if (metrics == null || metrics.getExecutionTimeNanos() <= 0) continue;
+
+                    double speedup = (double) baseline.getExecutionTimeNanos()
+                            / metrics.getExecutionTimeNanos();
+                    writer.printf("%-30s %-20s %,12d: %8.1f Mkeys/s, %6.1fx%n",
+                            algorithm.getAlgorithmName(), dataType, size,
+                            size / (metrics.getExecutionTimeNanos() / 1e3), speedup);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the result for one algorithm, data type and size in the grid or the sweeps, or null
+     * if it was not collected.
+     */
+    private PerformanceMetrics findResult(String algorithmName, String dataType, int size) {
+        for (List<PerformanceMetrics> results : List.of(allResults, sweepResults)) {
+            for (PerformanceMetrics metrics : results) {
+                if (metrics.getAlgorithmName().equals(algorithmName)
+                        && metrics.getDataType().equals(dataType)
+                        && metrics.getInputSize() == size) {
+                    return metrics;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the names of all algorithms run by the pipeline, in execution order.
+     *
+     * @return Algorithm names
+     */
+    public static List<String> getAlgorithmNames() {
+        List<String> names = new ArrayList<>();
+        for (SortingAlgorithm algorithm : ALGORITHMS) {
+            names.add(algorithm.getAlgorithmName());
+        }
+        return names;
+    }
+
+    /**
+     * Returns the number of measurements a full pipeline run is expected to produce.
+     *
+     * @return Algorithms x data types x sizes
+     */
+    public static int getExpectedMeasurementCount() {
+        return ALGORITHMS.length * DATA_TYPES.length * TEST_SIZES.length;
+    }
+
+    /**
+     * Groups the grid results by algorithm for analysis.
      */
     private Map<String, List<PerformanceMetrics>> groupByAlgorithm() {
         Map<String, List<PerformanceMetrics>> grouped = new HashMap<>();
@@ -1,34 +1,47 @@
 package com.research.sorting.utils;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
 
 public class BenchmarkUtils {
     
-    /** Global counter for comparison operations */
-    private static long comparisonCount = 0;
+    /** Global counter for comparison operations (safe to update from fork/join workers) */
+    private static final LongAdder comparisonCount = new LongAdder();
     
-    /** Global counter for swap operations */
-    private static long swapCount = 0;
+    /** Global counter for swap operations (safe to update from fork/join workers) */
+    private static final LongAdder swapCount = new LongAdder();
+    
+    /** Global counter for keys read by non-comparison sorts (e.g. histogram and scatter passes) */
+    private static final LongAdder keyReadCount = new LongAdder();
+    
+    /** Global counter for elements written to computed positions by distribution sorts */
+    private static final LongAdder scatterWriteCount = new LongAdder();
+    
+    /** JVM bean used to read per-thread allocation counters */
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = loadThreadBean();
     
     /** Random number generator with fixed seed for reproducibility */
     private static final Random RANDOM = new Random(42);
     
-    /** Thread-local storage for operation counting in multi-threaded environments */
-    private static final ThreadLocal<Long> THREAD_COMPARISON_COUNT = 
-        ThreadLocal.withInitial(() -> 0L);
-    private static final ThreadLocal<Long> THREAD_SWAP_COUNT = 
-        ThreadLocal.withInitial(() -> 0L);
-    
     /**
      * Resets all operation counters to zero.
      * Should be called before each benchmark run.
      */
     public static void resetCounters() {
-        comparisonCount = 0;
-        swapCount = 0;
-        THREAD_COMPARISON_COUNT.set(0L);
-        THREAD_SWAP_COUNT.set(0L);
+        comparisonCount.reset();
+        swapCount.reset();
+        keyReadCount.reset();
+        scatterWriteCount.reset();
     }
     
     /**
@@ -40,8 +53,7 @@ public class BenchmarkUtils {
      * @return true if arr[i] > arr[j], false otherwise
      */
     public static boolean compare(int[] arr, int i, int j) {
-        comparisonCount++;
-        THREAD_COMPARISON_COUNT.set(THREAD_COMPARISON_COUNT.get() + 1);
+        comparisonCount.increment();
         return arr[i] > arr[j];
     }
     
@@ -53,10 +65,48 @@ public class BenchmarkUtils {
      * @return positive if a > b, negative if a < b, zero if equal
      */
     public static int compare(int a, int b) {
-        comparisonCount++;
-        THREAD_COMPARISON_COUNT.set(THREAD_COMPARISON_COUNT.get() + 1);
+        comparisonCount.increment();
         return Integer.compare(a, b);
     }
+
+    /**
+     * Compares two long values and increments comparison counter.
+     * 
+     * @param a First value
+     * @param b Second value
+     * @return positive if a > b, negative if a < b, zero if equal
+     */
+    public static int compare(long a, long b) {
+        comparisonCount.increment();
+        return Long.compare(a, b);
+    }
+    
+    /**
+     * Compares two double values and increments comparison counter.
+     * Uses the total order of Double.compare: -0.0 is less than 0.0 and NaN is
+     * greater than every other value, so sorted output matches Arrays.sort.
+     * 
+     * @param a First value
+     * @param b Second value
+     * @return positive if a > b, negative if a < b, zero if equal
+     */
+    public static int compare(double a, double b) {
+        comparisonCount.increment();
+        return Double.compare(a, b);
+    }
+    
+    /**
+     * Compares two float values and increments comparison counter.
+     * Uses the total order of Float.compare, as for doubles.
+     * 
+     * @param a First value
+     * @param b Second value
+     * @return positive if a > b, negative if a < b, zero if equal
+     */
+    public static int compare(float a, float b) {
+        comparisonCount.increment();
+        return Float.compare(a, b);
+    }
     
     /**
      * Swaps two elements in an array and increments swap counter.
@@ -67,13 +117,151 @@ public class BenchmarkUtils {
      */
     public static void swap(int[] arr, int i, int j) {
         if (i != j) {  // Only count actual swaps
-            swapCount++;
-            THREAD_SWAP_COUNT.set(THREAD_SWAP_COUNT.get() + 1);
+            swapCount.increment();
             int temp = arr[i];
             arr[i] = arr[j];
             arr[j] = temp;
         }
     }
+
+    /**
+     * Swaps two keys and the payload entries at the same positions, counting one swap.
+     * 
+     * @param keys The key array
+     * @param payload The payload array, parallel to keys
+     * @param i Index of first element
+     * @param j Index of second element
+     */
+    public static void swap(int[] keys, int[] payload, int i, int j) {
+        if (i != j) {
+            swapCount.increment();
+            int temp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = temp;
+            temp = payload[i];
+            payload[i] = payload[j];
+            payload[j] = temp;
+        }
+    }
+    
+    /**
+     * Swaps two elements in a long array and increments swap counter.
+     * 
+     * @param arr The array containing elements to swap
+     * @param i Index of first element
+     * @param j Index of second element
+     */
+    public static void swap(long[] arr, int i, int j) {
+        if (i != j) {
+            swapCount.increment();
+            long temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+    }
+
+    /**
+     * Swaps two elements in a double array and increments swap counter.
+     * 
+     * @param arr The array containing elements to swap
+     * @param i Index of first element
+     * @param j Index of second element
+     */
+    public static void swap(double[] arr, int i, int j) {
+        if (i != j) {
+            swapCount.increment();
+            double temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+    }
+
+    /**
+     * Swaps two elements in a float array and increments swap counter.
+     * 
+     * @param arr The array containing elements to swap
+     * @param i Index of first element
+     * @param j Index of second element
+     */
+    public static void swap(float[] arr, int i, int j) {
+        if (i != j) {
+            swapCount.increment();
+            float temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+    }
+
+    /**
+     * Swaps two elements in a short array and increments swap counter.
+     * 
+     * @param arr The array containing elements to swap
+     * @param i Index of first element
+     * @param j Index of second element
+     */
+    public static void swap(short[] arr, int i, int j) {
+        if (i != j) {
+            swapCount.increment();
+            short temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+    }
+
+    /**
+     * Swaps two elements in a char array and increments swap counter.
+     * 
+     * @param arr The array containing elements to swap
+     * @param i Index of first element
+     * @param j Index of second element
+     */
+    public static void swap(char[] arr, int i, int j) {
+        if (i != j) {
+            swapCount.increment();
+            char temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+    }
+    
+    /**
+     * Adds a batch of comparisons to the counter.
+     * Used by branchless kernels that compare without calling {@link #compare(int, int)}.
+     * 
+     * @param count Number of comparisons performed
+     */
+    public static void recordComparisons(long count) {
+        comparisonCount.add(count);
+    }
+    
+    /**
+     * Adds a batch of swaps to the counter.
+     * Used by kernels that move elements in cycles rather than through {@link #swap(int[], int, int)}.
+     * 
+     * @param count Number of swaps performed
+     */
+    public static void recordSwaps(long count) {
+        swapCount.add(count);
+    }
+    
+    /**
+     * Adds a batch of key reads to the counter.
+     * Distribution sorts make no comparisons, so reads are their primary work metric.
+     * 
+     * @param count Number of keys read
+     */
+    public static void recordKeyReads(long count) {
+        keyReadCount.add(count);
+    }
+    
+    /**
+     * Adds a batch of scatter writes to the counter.
+     * 
+     * @param count Number of elements written to their bucket position
+     */
+    public static void recordScatterWrites(long count) {
+        scatterWriteCount.add(count);
+    }
     
     /**
      * Returns current comparison count.
@@ -81,7 +269,7 @@ public class BenchmarkUtils {
      * @return Number of comparisons performed
      */
     public static long getComparisonCount() {
-        return comparisonCount;
+        return comparisonCount.sum();
     }
     
     /**
@@ -90,7 +278,25 @@ public class BenchmarkUtils {
      * @return Number of swaps performed
      */
     public static long getSwapCount() {
-        return swapCount;
+        return swapCount.sum();
+    }
+    
+    /**
+     * Returns current key read count.
+     * 
+     * @return Number of keys read by distribution passes
+     */
+    public static long getKeyReadCount() {
+        return keyReadCount.sum();
+    }
+    
+    /**
+     * Returns current scatter write count.
+     * 
+     * @return Number of scatter writes performed
+     */
+    public static long getScatterWriteCount() {
+        return scatterWriteCount.sum();
     }
     
     /**
@@ -115,6 +321,31 @@ public class BenchmarkUtils {
         return runtime.totalMemory() - runtime.freeMemory();
     }
     
+    /**
+     * Returns the total number of heap bytes allocated so far by all live threads.
+     * The difference between two calls is the allocation made in between, including
+     * by fork/join workers. Unlike a heap snapshot, it still counts short-lived
+     * temporaries that garbage collection has already reclaimed.
+     * 
+     * @return Allocated bytes, or -1 if the JVM does not support allocation tracking
+     */
+    public static long measureAllocatedBytes() {
+        if (THREAD_BEAN == null) return -1;
+        return THREAD_BEAN.getTotalThreadAllocatedBytes();
+    }
+    
+    /**
+     * Loads the HotSpot thread bean if allocation tracking is available.
+     */
+    private static com.sun.management.ThreadMXBean loadThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+    
     /**
      * Creates a deep copy of an integer array.
      * Essential for fair benchmarking with identical inputs.
@@ -144,6 +375,157 @@ public class BenchmarkUtils {
         }
         return true;
     }
+
+    /**
+     * Verifies that a long array is sorted in ascending order.
+     * 
+     * @param arr The array to verify
+     * @return true if array is sorted, false otherwise
+     */
+    public static boolean isSorted(long[] arr) {
+        if (arr == null || arr.length <= 1) return true;
+        
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i] < arr[i-1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifies that a double array is sorted in ascending order.
+     * 
+     * @param arr The array to verify
+     * @return true if array is sorted, false otherwise
+     */
+    public static boolean isSorted(double[] arr) {
+        if (arr == null || arr.length <= 1) return true;
+        
+        for (int i = 1; i < arr.length; i++) {
+            if (Double.compare(arr[i], arr[i-1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifies that a float array is sorted in ascending order.
+     * 
+     * @param arr The array to verify
+     * @return true if array is sorted, false otherwise
+     */
+    public static boolean isSorted(float[] arr) {
+        if (arr == null || arr.length <= 1) return true;
+        
+        for (int i = 1; i < arr.length; i++) {
+            if (Float.compare(arr[i], arr[i-1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifies that a short array is sorted in ascending order.
+     * 
+     * @param arr The array to verify
+     * @return true if array is sorted, false otherwise
+     */
+    public static boolean isSorted(short[] arr) {
+        if (arr == null || arr.length <= 1) return true;
+        
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i] < arr[i-1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifies that a char array is sorted in ascending order.
+     * 
+     * @param arr The array to verify
+     * @return true if array is sorted, false otherwise
+     */
+    public static boolean isSorted(char[] arr) {
+        if (arr == null || arr.length <= 1) return true;
+        
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i] < arr[i-1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifies that a file of big-endian ints is sorted in ascending order.
+     * Reads the file once through a buffered stream, so files larger than the heap can be checked.
+     * 
+     * @param file The file to verify
+     * @return true if the ints in the file are sorted, false otherwise
+     * @throws IOException if the file cannot be read or its length is not a multiple of 4 bytes
+     */
+    public static boolean isSorted(Path file) throws IOException {
+        long bytes = Files.size(file);
+        if (bytes % Integer.BYTES != 0) {
+            throw new IOException("File is not a whole number of ints: " + file);
+        }
+        
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            int previous = Integer.MIN_VALUE;
+            for (long i = 0; i < bytes / Integer.BYTES; i++) {
+                int current = in.readInt();
+                if (current < previous) {
+                    return false;
+                }
+                previous = current;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifies that the ints of a segment are sorted in ascending order.
+     * 
+     * @param segment The segment to verify, read as native-order ints
+     * @return true if segment is sorted, false otherwise
+     */
+    public static boolean isSorted(MemorySegment segment) {
+        if (segment == null) return true;
+        
+        long n = segment.byteSize() / Integer.BYTES;
+        for (long i = 1; i < n; i++) {
+            if (segment.getAtIndex(ValueLayout.JAVA_INT, i)
+                    < segment.getAtIndex(ValueLayout.JAVA_INT, i - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Verifies that an object array is sorted in the order of a comparator.
+     * 
+     * @param arr The array to verify
+     * @param comparator Element order
+     * @param <T> Element type
+     * @return true if array is sorted, false otherwise
+     */
+    public static <T> boolean isSorted(T[] arr, Comparator<? super T> comparator) {
+        if (arr == null || arr.length <= 1) return true;
+        
+        for (int i = 1; i < arr.length; i++) {
+            if (comparator.compare(arr[i], arr[i-1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
     
     /**
      * Generates a random array with specified size.
@@ -195,8 +577,9 @@ public class BenchmarkUtils {
      * @return Formatted string with comparison and swap counts
      */
     public static String getStatistics() {
-        return String.format("Comparisons: %,d | Swaps: %,d", 
-                           comparisonCount, swapCount);
+        return String.format("Comparisons: %,d | Swaps: %,d | Key Reads: %,d | Scatter Writes: %,d", 
+                           comparisonCount.sum(), swapCount.sum(),
+                           keyReadCount.sum(), scatterWriteCount.sum());
     }
     
     /**
@@ -211,6 +594,113 @@ public class BenchmarkUtils {
         }
     }
 
+    /**
+     * Validates segment input for off-heap sorting operations.
+     * 
+     * @param segment Segment to validate
+     * @throws IllegalArgumentException if segment is null, read-only or not a whole number of ints
+     */
+    public static void validateSegment(MemorySegment segment) {
+        if (segment == null) {
+            throw new IllegalArgumentException("Segment cannot be null");
+        }
+        if (segment.isReadOnly()) {
+            throw new IllegalArgumentException("Segment cannot be read-only");
+        }
+        if (segment.byteSize() % Integer.BYTES != 0) {
+            throw new IllegalArgumentException(
+                    "Segment is not a whole number of ints: " + segment.byteSize() + " bytes");
+        }
+    }
+
+    /**
+     * Validates key and payload arrays for key/payload sorting.
+     * 
+     * @param keys Key array to validate
+     * @param payload Payload array to validate
+     * @throws IllegalArgumentException if either array is null or their lengths differ
+     */
+    public static void validateArrays(int[] keys, int[] payload) {
+        validateArray(keys);
+        validateArray(payload);
+        if (keys.length != payload.length) {
+            throw new IllegalArgumentException("Keys and payload must have the same length: "
+                    + keys.length + " vs " + payload.length);
+        }
+    }
+    
+    /**
+     * Validates object array input for sorting operations.
+     * 
+     * @param arr Array to validate
+     * @throws IllegalArgumentException if array is null
+     */
+    public static void validateArray(Object[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+    }
+    
+    /**
+     * Validates long array input for sorting operations.
+     * 
+     * @param arr Array to validate
+     * @throws IllegalArgumentException if array is null
+     */
+    public static void validateArray(long[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+    }
+
+    /**
+     * Validates double array input for sorting operations.
+     * 
+     * @param arr Array to validate
+     * @throws IllegalArgumentException if array is null
+     */
+    public static void validateArray(double[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+    }
+
+    /**
+     * Validates float array input for sorting operations.
+     * 
+     * @param arr Array to validate
+     * @throws IllegalArgumentException if array is null
+     */
+    public static void validateArray(float[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+    }
+
+    /**
+     * Validates short array input for sorting operations.
+     * 
+     * @param arr Array to validate
+     * @throws IllegalArgumentException if array is null
+     */
+    public static void validateArray(short[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+    }
+
+    /**
+     * Validates char array input for sorting operations.
+     * 
+     * @param arr Array to validate
+     * @throws IllegalArgumentException if array is null
+     */
+    public static void validateArray(char[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+    }
+
     public static int[] generateNearlySortedArray(int size) {
     int[] arr = generateSortedArray(size); // Reuse your existing sorted array generator
     java.util.Random rand = new java.util.Random(42); // Fixed seed for reproducibility
@@ -1,5 +1,13 @@
 package com.research.sorting.utils;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Random;
 
 public class DataGenerationUtilities {
@@ -19,11 +27,15 @@ public class DataGenerationUtilities {
      * @return Array with random integers
      */
     public static int[] generateRandomArray(int size, int maxValue) {
+        return generateRandomArray(size, maxValue, RANDOM);
+    }
+    
+    private static int[] generateRandomArray(int size, int maxValue, Random random) {
         validateSize(size);
         
         int[] array = new int[size];
         for (int i = 0; i < size; i++) {
-            array[i] = RANDOM.nextInt(maxValue) + 1; // Values from 1 to maxValue
+            array[i] = random.nextInt(maxValue) + 1; // Values from 1 to maxValue
         }
         return array;
     }
@@ -62,6 +74,26 @@ public class DataGenerationUtilities {
         return array;
     }
     
+    /**
+     * Generates a random permutation of 1 to size.
+     * Distinct keys from a dense range, the input bitmap sorting is built for.
+     * 
+     * @param size Array size
+     * @return Shuffled array of [1, 2, ..., size]
+     */
+    public static int[] generateRandomPermutation(int size) {
+        int[] array = generateSortedArray(size);
+        
+        // Fisher-Yates shuffle
+        for (int i = size - 1; i > 0; i--) {
+            int j = RANDOM.nextInt(i + 1);
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+        return array;
+    }
+    
     /**
      * Generates nearly sorted array with specified disorder percentage.
      * Creates sorted array then performs random swaps.
@@ -71,6 +103,11 @@ public class DataGenerationUtilities {
      * @return Nearly sorted array
      */
     public static int[] generateNearlySortedArray(int size, double disorderPercentage) {
+        return generateNearlySortedArray(size, disorderPercentage, RANDOM);
+    }
+    
+    private static int[] generateNearlySortedArray(int size, double disorderPercentage,
+                                                   Random random) {
         validateSize(size);
         validatePercentage(disorderPercentage);
         
@@ -78,8 +115,8 @@ public class DataGenerationUtilities {
         int swapCount = (int) Math.max(1, size * disorderPercentage / 100.0);
         
         for (int i = 0; i < swapCount; i++) {
-            int index1 = RANDOM.nextInt(size);
-            int index2 = RANDOM.nextInt(size);
+            int index1 = random.nextInt(size);
+            int index2 = random.nextInt(size);
             
             // Swap elements
             int temp = array[index1];
@@ -110,6 +147,11 @@ public class DataGenerationUtilities {
      * @return Array with specified duplicate density
      */
     public static int[] generateArrayWithDuplicates(int size, double uniquePercentage) {
+        return generateArrayWithDuplicates(size, uniquePercentage, RANDOM);
+    }
+    
+    private static int[] generateArrayWithDuplicates(int size, double uniquePercentage,
+                                                     Random random) {
         validateSize(size);
         validatePercentage(uniquePercentage);
         
@@ -117,7 +159,7 @@ public class DataGenerationUtilities {
         int[] array = new int[size];
         
         for (int i = 0; i < size; i++) {
-            array[i] = RANDOM.nextInt(uniqueCount) + 1;
+            array[i] = random.nextInt(uniqueCount) + 1;
         }
         
         return array;
@@ -245,6 +287,168 @@ public class DataGenerationUtilities {
         return array;
     }
     
+    /**
+     * Generates array of random 64-bit keys over the full long range.
+     * Most keys need more than 32 bits, as with nanosecond timestamps or hashes.
+     * 
+     * @param size Array size
+     * @return Array with random longs
+     */
+    public static long[] generateRandomLongArray(int size) {
+        validateSize(size);
+        
+        long[] array = new long[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = RANDOM.nextLong();
+        }
+        return array;
+    }
+    
+    /**
+     * Generates array of normally distributed doubles centred on zero.
+     * Both signs occur, so the ordering of negative keys is exercised too.
+     * 
+     * @param size Array size
+     * @return Array with random doubles, standard deviation equal to size
+     */
+    public static double[] generateRandomDoubleArray(int size) {
+        validateSize(size);
+        
+        double[] array = new double[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = RANDOM.nextGaussian() * size;
+        }
+        return array;
+    }
+    
+    /**
+     * Generates array of normally distributed floats centred on zero.
+     * 
+     * @param size Array size
+     * @return Array with random floats, standard deviation equal to size
+     */
+    public static float[] generateRandomFloatArray(int size) {
+        validateSize(size);
+        
+        float[] array = new float[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = (float) (RANDOM.nextGaussian() * size);
+        }
+        return array;
+    }
+    
+    /**
+     * Generates array of random shorts over the full signed 16-bit range.
+     * Arrays longer than 65,536 elements necessarily contain duplicates.
+     * 
+     * @param size Array size
+     * @return Array with random shorts
+     */
+    public static short[] generateRandomShortArray(int size) {
+        validateSize(size);
+        
+        short[] array = new short[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = (short) RANDOM.nextInt();
+        }
+        return array;
+    }
+    
+    /**
+     * Generates array of random chars over the full unsigned 16-bit range.
+     * 
+     * @param size Array size
+     * @return Array with random chars
+     */
+    public static char[] generateRandomCharArray(int size) {
+        validateSize(size);
+        
+        char[] array = new char[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = (char) RANDOM.nextInt();
+        }
+        return array;
+    }
+    
+    /**
+     * Allocates an off-heap segment of random ints, the counterpart of generateRandomArray.
+     * Segments are not limited by the array size limit and live until the arena is closed.
+     * 
+     * @param arena Arena that owns the segment
+     * @param count Number of ints
+     * @param maxValue Maximum value for elements (exclusive)
+     * @return Segment of native-order ints from 1 to maxValue
+     */
+    public static MemorySegment generateRandomSegment(Arena arena, long count, int maxValue) {
+        MemorySegment segment = allocateSegment(arena, count);
+        for (long i = 0; i < count; i++) {
+            segment.setAtIndex(ValueLayout.JAVA_INT, i, RANDOM.nextInt(maxValue) + 1);
+        }
+        return segment;
+    }
+    
+    /**
+     * Allocates an off-heap segment of ints in ascending order.
+     * 
+     * @param arena Arena that owns the segment
+     * @param count Number of ints, at most Integer.MAX_VALUE so values stay distinct
+     * @return Segment [1, 2, 3, ..., count]
+     */
+    public static MemorySegment generateSortedSegment(Arena arena, long count) {
+        MemorySegment segment = allocateSegment(arena, count);
+        for (long i = 0; i < count; i++) {
+            segment.setAtIndex(ValueLayout.JAVA_INT, i, (int) (i + 1));
+        }
+        return segment;
+    }
+    
+    /**
+     * Allocates an off-heap segment of ints in descending order.
+     * 
+     * @param arena Arena that owns the segment
+     * @param count Number of ints, at most Integer.MAX_VALUE so values stay distinct
+     * @return Segment [count, count-1, ..., 2, 1]
+     */
+    public static MemorySegment generateReverseSortedSegment(Arena arena, long count) {
+        MemorySegment segment = allocateSegment(arena, count);
+        for (long i = 0; i < count; i++) {
+            segment.setAtIndex(ValueLayout.JAVA_INT, i, (int) (count - i));
+        }
+        return segment;
+    }
+    
+    /**
+     * Allocates an int-aligned segment for count ints.
+     */
+    private static MemorySegment allocateSegment(Arena arena, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Element count cannot be negative: " + count);
+        }
+        return arena.allocate(count * Integer.BYTES, Integer.BYTES);
+    }
+    
+    /**
+     * Writes a file of random ints over the full signed 32-bit range, in big-endian order.
+     * Files are not limited by the array size limit, so inputs larger than the heap can be
+     * generated for external sorting.
+     * 
+     * @param file File to create or overwrite
+     * @param count Number of ints to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void generateRandomIntFile(Path file, long count) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("Element count cannot be negative: " + count);
+        }
+        
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            for (long i = 0; i < count; i++) {
+                out.writeInt(RANDOM.nextInt());
+            }
+        }
+    }
+    
     /**
      * Creates a comprehensive test suite with various data types.
      * Returns map of data type name to generated array.
@@ -268,6 +472,27 @@ public class DataGenerationUtilities {
         return testSuite;
     }
     
+    /**
+     * Generates the five data types of the pipeline's main grid from a generator of their own.
+     * The same seed always gives the same arrays, whatever was generated before.
+     * 
+     * @param size Array size for all test cases
+     * @param seed Seed of the generator
+     * @return Map of Random, Sorted, ReverseSorted, NearlySorted and WithDuplicates arrays
+     */
+    public static java.util.Map<String, int[]> generatePipelineTestSuite(int size, long seed) {
+        Random random = new Random(seed);
+        java.util.Map<String, int[]> testSuite = new java.util.LinkedHashMap<>();
+        
+        testSuite.put("Random", generateRandomArray(size, size * 10, random));
+        testSuite.put("Sorted", generateSortedArray(size));
+        testSuite.put("ReverseSorted", generateReverseSortedArray(size));
+        testSuite.put("NearlySorted", generateNearlySortedArray(size, 10.0, random));
+        testSuite.put("WithDuplicates", generateArrayWithDuplicates(size, 10.0, random));
+        
+        return testSuite;
+    }
+    
     /**
      * Validates array size parameter.
      */
@@ -275,7 +500,7 @@ public class DataGenerationUtilities {
         if (size < 0) {
             throw new IllegalArgumentException("Array size cannot be negative: " + size);
         }
-        if (size > 10_000_000) { // 10 million element limit
+        if (size > 100_000_000) { // 100 million element limit (large-input sweeps)
             throw new IllegalArgumentException("Array size too large: " + size);
         }
     }
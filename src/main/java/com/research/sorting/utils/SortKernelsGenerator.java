@@ -0,0 +1,85 @@
+package com.research.sorting.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Generates the long, double, float, short and char sort kernel classes from
+ * src/main/templates/PrimitiveSortKernels.java.template.
+ *
+ * After editing the template, run this class from the project root to rewrite the classes:
+ * {@code java -cp target/classes com.research.sorting.utils.SortKernelsGenerator}
+ */
+public final class SortKernelsGenerator {
+
+    /** Template of the kernel classes, relative to the project root */
+    public static final Path TEMPLATE =
+            Path.of("src", "main", "templates", "PrimitiveSortKernels.java.template");
+
+    /** Directory of the generated classes, relative to the project root */
+    private static final Path SOURCE_DIRECTORY =
+            Path.of("src", "main", "java", "com", "research", "sorting", "algorithms");
+
+    /** Key types, with the ordering note of their class comment or "" for the natural order */
+    private static final Map<String, String> KEY_TYPES = new LinkedHashMap<>();
+
+    static {
+        KEY_TYPES.put("long", "");
+        KEY_TYPES.put("double",
+            "Keys are ordered as by Double.compare: -0.0 sorts before 0.0 and NaN sorts last.");
+        KEY_TYPES.put("float",
+            "Keys are ordered as by Float.compare: -0.0f sorts before 0.0f and NaN sorts last.");
+        KEY_TYPES.put("short", "");
+        KEY_TYPES.put("char", "Keys are ordered as unsigned 16-bit code units.");
+    }
+
+    private SortKernelsGenerator() {
+    }
+
+    /**
+     * Rewrites the five kernel classes from the template.
+     *
+     * @param args Unused
+     * @throws IOException if the template cannot be read or a class cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        for (Map.Entry<Path, String> kernels : renderAll().entrySet()) {
+            Files.writeString(kernels.getKey(), kernels.getValue());
+            System.out.println("Generated " + kernels.getKey());
+        }
+    }
+
+    /**
+     * Renders the template once per key type.
+     *
+     * @return Source of each kernel class, keyed by the file it is generated into
+     * @throws IOException if the template cannot be read
+     */
+    public static Map<Path, String> renderAll() throws IOException {
+        String template = Files.readString(TEMPLATE);
+
+        Map<Path, String> sources = new LinkedHashMap<>();
+        KEY_TYPES.forEach((type, orderNote) -> sources.put(
+                SOURCE_DIRECTORY.resolve(capitalize(type) + "SortKernels.java"),
+                render(template, type, orderNote)));
+        return Collections.unmodifiableMap(sources);
+    }
+
+    /**
+     * Fills in the key type and ordering note; an empty note drops its line.
+     */
+    private static String render(String template, String type, String orderNote) {
+        String body = orderNote.isEmpty()
+                ? template.replace(" * $order$\n", "")
+                : template.replace("$order$", orderNote);
+        return body.replace("$type$", type).replace("$Type$", capitalize(type));
+    }
+
+    private static String capitalize(String type) {
+        return Character.toUpperCase(type.charAt(0)) + type.substring(1);
+    }
+}
@@ -0,0 +1,101 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import com.research.sorting.algorithms.AmericanFlagSort;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Unit tests for AmericanFlagSort algorithm implementation.
+ */
+class AmericanFlagSortTest {
+
+    private AmericanFlagSort americanFlagSort;
+
+    @BeforeEach
+    void setUp() {
+        americanFlagSort = new AmericanFlagSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test sorting empty and single element arrays")
+    void testTrivialArrays() {
+        int[] empty = {};
+        int[] single = {42};
+        americanFlagSort.sort(empty);
+        americanFlagSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertArrayEquals(new int[] {42}, single);
+    }
+
+    @Test
+    @DisplayName("Test full-range values including negatives and extremes")
+    void testFullRangeValues() {
+        Random random = new Random(42);
+        int[] array = new int[200_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt();
+        }
+        array[0] = Integer.MIN_VALUE;
+        array[1] = Integer.MAX_VALUE;
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        americanFlagSort.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting all pipeline data types")
+    void testPipelineDataTypes() {
+        for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(20_000).values()) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            americanFlagSort.sort(array);
+
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting is done without a scratch buffer")
+    void testNoScratchBuffer() {
+        int[] array = DataGenerationUtilities.generateRandomArray(100_000, Integer.MAX_VALUE);
+        americanFlagSort.sort(array.clone()); // Load classes before measuring
+
+        long allocatedBefore = BenchmarkUtils.measureAllocatedBytes();
+        americanFlagSort.sort(array);
+        long allocated = BenchmarkUtils.measureAllocatedBytes() - allocatedBefore;
+
+        assertTrue(BenchmarkUtils.isSorted(array));
+        // Far below the 400 KB an n-sized int buffer would need
+        assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @DisplayName("Test null array throws exception")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            americanFlagSort.sort(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties")
+    void testAlgorithmProperties() {
+        assertEquals("American Flag Sort", americanFlagSort.getAlgorithmName());
+        assertEquals("O(b)", americanFlagSort.getSpaceComplexity());
+        assertFalse(americanFlagSort.isStable());
+        assertTrue(americanFlagSort.isInPlace());
+    }
+}
@@ -0,0 +1,211 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.AutoSort;
+import com.research.sorting.algorithms.CountingSort;
+import com.research.sorting.algorithms.InsertionSort;
+import com.research.sorting.algorithms.RadixSort;
+import com.research.sorting.algorithms.SortingAlgorithm;
+import com.research.sorting.analysis.CostModel;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for AutoSort input profiling and cost-model driven engine choice.
+ */
+class AutoSortTest {
+
+    private static final SortingAlgorithm INSERTION_SORT = new InsertionSort();
+    private static final SortingAlgorithm RADIX_SORT = new RadixSort();
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test the engine with the lowest predicted time is chosen per profile")
+    void testChoosesFastestMeasuredEngine() {
+        AutoSort autoSort = new AutoSort(new CostModel(insertionWinsNearlySorted()),
+            RADIX_SORT, INSERTION_SORT);
+
+        assertSame(INSERTION_SORT,
+            autoSort.choose(DataGenerationUtilities.generateNearlySortedArray(50_000)));
+        assertSame(RADIX_SORT,
+            autoSort.choose(DataGenerationUtilities.generateRandomArray(50_000, 500_000)));
+        assertSame(RADIX_SORT,
+            autoSort.choose(DataGenerationUtilities.generateArrayWithDuplicates(50_000)));
+
+        // Measured at 1,000 and 10,000 elements: trusted up to 100,000, not at 1,000,000
+        CostModel model = new CostModel(insertionWinsNearlySorted());
+        assertTrue(model.predictNanos("Radix Sort", "Random", 100_000).isPresent());
+        assertTrue(model.predictNanos("Radix Sort", "Random", 1_000_000).isEmpty());
+        assertTrue(model.predictNanos("Radix Sort", "Random", 99).isEmpty());
+        assertSame(RADIX_SORT, new AutoSort(model, RADIX_SORT, INSERTION_SORT)
+            .choose(DataGenerationUtilities.generateNearlySortedArray(1_000_000)));
+
+        // Insertion Sort is not a default candidate, however fast it was measured
+        AutoSort defaults = new AutoSort(new CostModel(insertionWinsNearlySorted()));
+        assertEquals("Radix Sort", defaults.choose(
+            DataGenerationUtilities.generateNearlySortedArray(50_000)).getAlgorithmName());
+    }
+
+    @Test
+    @DisplayName("Test value density separates dense duplicates from widely spread keys")
+    void testValueDensity() {
+        SortingAlgorithm countingSort = new CountingSort();
+        List<PerformanceMetrics> results = new ArrayList<>();
+        for (int size : new int[] {10_000, 100_000}) {
+            results.add(new PerformanceMetrics(size, 0, 0, 0, "Counting Sort", size,
+                "WithDuplicates"));
+            results.add(new PerformanceMetrics(10L * size, 0, 0, 0, "Radix Sort", size,
+                "WithDuplicates"));
+            results.add(new PerformanceMetrics(100L * size, 0, 0, 0, "Counting Sort", size,
+                "Random"));
+            results.add(new PerformanceMetrics(10L * size, 0, 0, 0, "Radix Sort", size,
+                "Random"));
+        }
+        AutoSort autoSort = new AutoSort(new CostModel(results), RADIX_SORT, countingSort);
+
+        // Half the keys repeat: dense like WithDuplicates, or spread like Random
+        int[] dense = DataGenerationUtilities.generatePatternArray(200_000, "MOUNTAIN");
+        int[] spread = dense.clone();
+        for (int i = 0; i < spread.length; i++) {
+            spread[i] *= 1_000;
+        }
+
+        assertSame(countingSort, autoSort.choose(dense));
+        assertSame(RADIX_SORT, autoSort.choose(spread));
+        assertEquals(1_000L * AutoSort.profile(dense).valueRange(),
+            AutoSort.profile(spread).valueRange());
+    }
+
+    @Test
+    @DisplayName("Test profile estimates on generated inputs")
+    void testProfileEstimates() {
+        int n = 1_000_000;
+
+        AutoSort.Profile sorted = AutoSort.profile(DataGenerationUtilities.generateSortedArray(n));
+        assertEquals(1, sorted.runs());
+        assertEquals(0.0, sorted.inversionRatio());
+        assertTrue(sorted.valueRange() > n * 0.99 && sorted.valueRange() < n);
+
+        AutoSort.Profile reverse = AutoSort.profile(
+            DataGenerationUtilities.generateReverseSortedArray(n));
+        assertEquals(1.0, reverse.inversionRatio());
+        assertEquals(n, reverse.runs());
+
+        AutoSort.Profile random = AutoSort.profile(
+            DataGenerationUtilities.generateRandomArray(n, Integer.MAX_VALUE));
+        assertEquals(0.5, random.inversionRatio(), 0.05);
+        assertEquals(n / 2.0, random.runs(), n * 0.05);
+        assertTrue(random.duplicateRatio() < 0.05, "Random " + random);
+
+        AutoSort.Profile duplicates = AutoSort.profile(
+            DataGenerationUtilities.generateArrayWithDuplicates(n));
+        assertEquals(0.9, duplicates.duplicateRatio(), 0.05);
+    }
+
+    @Test
+    @DisplayName("Test the cost model is read from the newest results CSV")
+    void testLoadsLatestCSV() throws IOException {
+        List<PerformanceMetrics> radixWins = new ArrayList<>();
+        for (int size : new int[] {1_000, 10_000}) {
+            for (String dataType : new String[] {"Random", "NearlySorted", "WithDuplicates"}) {
+                radixWins.add(new PerformanceMetrics(size, 0, 0, 0, "Radix Sort", size, dataType));
+                radixWins.add(new PerformanceMetrics(100L * size, 0, 0, 0, "Insertion Sort", size,
+                    dataType));
+            }
+        }
+        writeCSV(directory.resolve("sorting_results_20250101_000000.csv"), radixWins);
+        writeCSV(directory.resolve("sorting_results_20260101_000000.csv"),
+            insertionWinsNearlySorted());
+        writeCSV(directory.resolve("sweep_results_20260101_000000.csv"), List.of(
+            new PerformanceMetrics(100_000, 0, 0, 0, "Heap Sort", 100_000, "NearlySorted"),
+            new PerformanceMetrics(400_000, 0, 0, 0, "Heap Sort", 400_000, "NearlySorted")));
+        Files.writeString(directory.resolve("notes.txt"), "not a results file");
+
+        CostModel model = CostModel.fromLatestCSV(directory);
+        AutoSort autoSort = new AutoSort(model, RADIX_SORT, INSERTION_SORT);
+
+        assertEquals(1.0, model.getExponent("Insertion Sort", "NearlySorted").getAsDouble(), 1e-9);
+        assertSame(INSERTION_SORT,
+            autoSort.choose(DataGenerationUtilities.generateNearlySortedArray(50_000)));
+        assertTrue(model.predictNanos("Heap Sort", "NearlySorted", 1_000_000).isPresent());
+        assertTrue(model.predictNanos("Insertion Sort", "NearlySorted", 1_000_000).isEmpty());
+        assertTrue(CostModel.fromLatestCSV(directory.resolve("missing")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test all pipeline data types are sorted with and without measurements")
+    void testAllDataTypes() {
+        AutoSort[] sorters = {new AutoSort(new CostModel(List.of())),
+            new AutoSort(new CostModel(insertionWinsNearlySorted()), RADIX_SORT, INSERTION_SORT)};
+
+        for (AutoSort autoSort : sorters) {
+            for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+
+                autoSort.sort(array);
+
+                assertArrayEquals(expected, array);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid input is rejected")
+    void testInvalidInput() {
+        CostModel empty = new CostModel(List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> new CostModel(null));
+        assertThrows(IllegalArgumentException.class, () -> new AutoSort(null));
+        assertThrows(IllegalArgumentException.class, () -> new AutoSort(empty, new SortingAlgorithm[0]));
+        assertThrows(IllegalArgumentException.class,
+            () -> new AutoSort(empty, RADIX_SORT, null));
+        assertThrows(IllegalArgumentException.class, () -> new AutoSort(empty).sort(null));
+        assertThrows(IllegalArgumentException.class, () -> AutoSort.profile(null));
+    }
+
+    /**
+     * Measurements where Insertion Sort is linear on nearly sorted input and quadratic elsewhere,
+     * and Radix Sort is linear but ten times slower than Insertion Sort's best case.
+     */
+    private static List<PerformanceMetrics> insertionWinsNearlySorted() {
+        List<PerformanceMetrics> results = new ArrayList<>();
+        for (int size : new int[] {1_000, 10_000}) {
+            for (String dataType : new String[] {"Random", "NearlySorted", "WithDuplicates"}) {
+                long insertionNanos = dataType.equals("NearlySorted") ? size : (long) size * size;
+                results.add(new PerformanceMetrics(insertionNanos, 0, 0, 0, "Insertion Sort", size,
+                    dataType));
+                results.add(new PerformanceMetrics(10L * size, 0, 0, 0, "Radix Sort", size,
+                    dataType));
+            }
+        }
+        return results;
+    }
+
+    private static void writeCSV(Path file, List<PerformanceMetrics> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(PerformanceMetrics.getCSVHeader());
+        for (PerformanceMetrics metrics : results) {
+            lines.add(metrics.toCSV());
+        }
+        Files.write(file, lines);
+    }
+}
@@ -0,0 +1,104 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.BatchSort;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Unit tests for BatchSort and its sorting networks.
+ */
+class BatchSortTest {
+
+    private BatchSort batchSort;
+
+    @BeforeEach
+    void setUp() {
+        batchSort = new BatchSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test every network up to 18 elements sorts all 0-1 inputs")
+    void testZeroOnePrinciple() {
+        // A network that sorts every sequence of zeros and ones sorts every input
+        for (int length = 0; length <= 18; length++) {
+            for (int bits = 0; bits < 1 << length; bits++) {
+                int[] array = new int[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = (bits >>> i) & 1;
+                }
+
+                batchSort.sort(array);
+
+                assertTrue(BenchmarkUtils.isSorted(array),
+                    "Network for length " + length + " failed on " + Integer.toBinaryString(bits));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test networks for lengths 2 to 8 are size-optimal")
+    void testOptimalComparatorCounts() {
+        int[] optimal = {0, 0, 1, 3, 5, 9, 12, 16, 19};
+
+        for (int length = 0; length < optimal.length; length++) {
+            assertEquals(optimal[length], BatchSort.getComparatorCount(length),
+                "Comparators for length " + length);
+        }
+        assertEquals(543, BatchSort.getComparatorCount(64), "Batcher network for 64 elements");
+    }
+
+    @Test
+    @DisplayName("Test sortBatch sorts random arrays of every length across tasks")
+    void testSortBatch() {
+        int[][] batch = new int[5_000][];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = DataGenerationUtilities.generateRandomArray(i % 80, 50);
+        }
+        batch[3] = new int[] {Integer.MAX_VALUE, Integer.MIN_VALUE, -1, 0};
+        int[][] expected = new int[batch.length][];
+        for (int i = 0; i < batch.length; i++) {
+            expected[i] = batch[i].clone();
+            Arrays.sort(expected[i]);
+        }
+
+        new BatchSort(new ForkJoinPool(4), 64).sortBatch(batch);
+
+        for (int i = 0; i < batch.length; i++) {
+            assertArrayEquals(expected[i], batch[i], "Array " + i + " of length " + batch[i].length);
+        }
+    }
+
+    @Test
+    @DisplayName("Test comparisons are recorded per network comparator")
+    void testComparisonCount() {
+        int[][] batch = new int[3_000][];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = DataGenerationUtilities.generateRandomArray(16, 1_000);
+        }
+
+        batchSort.sortBatch(batch);
+
+        assertEquals(3_000L * BatchSort.getComparatorCount(16), BenchmarkUtils.getComparisonCount());
+    }
+
+    @Test
+    @DisplayName("Test invalid input is rejected")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> batchSort.sortBatch(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> batchSort.sortBatch(new int[][] {{2, 1}, null}));
+        assertThrows(IllegalArgumentException.class, () -> batchSort.sort(null));
+        assertThrows(IllegalArgumentException.class, () -> BatchSort.getComparatorCount(65));
+        assertThrows(IllegalArgumentException.class, () -> new BatchSort(null, 16));
+        assertThrows(IllegalArgumentException.class,
+            () -> new BatchSort(ForkJoinPool.commonPool(), 0));
+    }
+}
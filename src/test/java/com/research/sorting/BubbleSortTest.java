@@ -96,7 +96,7 @@ class BubbleSortTest {
     @DisplayName("Test null array throws exception")
     void testNullArray() {
         assertThrows(IllegalArgumentException.class, () -> {
-            bubbleSort.sort(null);
+            bubbleSort.sort((int[]) null);
         });
     }
     
@@ -0,0 +1,113 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.CountingSort;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.util.Arrays;
+
+/**
+ * Unit tests for CountingSort count table, bitmap and radix fallback paths.
+ */
+class CountingSortTest {
+
+    @BeforeEach
+    void setUp() {
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test both variants on all pipeline data types")
+    void testAllDataTypes() {
+        for (CountingSort.Variant variant : CountingSort.Variant.values()) {
+            CountingSort sorter = new CountingSort(variant);
+            for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(array);
+
+                assertArrayEquals(expected, array, variant.name());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test small ranges are counted without comparisons")
+    void testCountsSmallRange() {
+        int[] array = DataGenerationUtilities.generateArrayWithDuplicates(100_000);
+        for (int i = 0; i < array.length; i += 7) {
+            array[i] = -array[i];
+        }
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        new CountingSort().sort(array);
+
+        assertArrayEquals(expected, array);
+        assertEquals(0, BenchmarkUtils.getComparisonCount());
+        assertEquals(2 * 100_000L, BenchmarkUtils.getKeyReadCount()); // Min/max pass and count pass
+        assertEquals(100_000L, BenchmarkUtils.getScatterWriteCount());
+    }
+
+    @Test
+    @DisplayName("Test bitmap sorts distinct keys and falls back on a repeated key")
+    void testBitmap() {
+        CountingSort bitmap = new CountingSort(CountingSort.Variant.BITMAP);
+
+        int[] permutation = DataGenerationUtilities.generateRandomPermutation(100_000);
+        bitmap.sort(permutation);
+        assertArrayEquals(DataGenerationUtilities.generateSortedArray(100_000), permutation);
+
+        // Sparse distinct keys: range is 64 times the length, within the bitmap's 128
+        int[] sparse = new int[10_000];
+        for (int i = 0; i < sparse.length; i++) {
+            sparse[i] = (sparse.length - i) * 64 - 1_000_000;
+        }
+        int[] expected = sparse.clone();
+        Arrays.sort(expected);
+        bitmap.sort(sparse);
+        assertArrayEquals(expected, sparse);
+
+        int[] repeated = DataGenerationUtilities.generateRandomPermutation(10_000);
+        repeated[9_999] = repeated[0];
+        expected = repeated.clone();
+        Arrays.sort(expected);
+        bitmap.sort(repeated);
+        assertArrayEquals(expected, repeated);
+    }
+
+    @Test
+    @DisplayName("Test wide ranges including the full int range fall back to radix sort")
+    void testWideRange() {
+        for (CountingSort.Variant variant : CountingSort.Variant.values()) {
+            int[] array = DataGenerationUtilities.generateRandomArray(10_000, Integer.MAX_VALUE);
+            array[0] = Integer.MIN_VALUE;
+            array[1] = Integer.MAX_VALUE;
+            array[2] = Integer.MIN_VALUE;
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            new CountingSort(variant, 1).sort(array);
+
+            assertArrayEquals(expected, array, variant.name());
+        }
+
+        int[] extremes = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+        new CountingSort(CountingSort.Variant.BITMAP).sort(extremes);
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, Integer.MAX_VALUE}, extremes);
+    }
+
+    @Test
+    @DisplayName("Test invalid input is rejected")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new CountingSort(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new CountingSort(CountingSort.Variant.COUNTING, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CountingSort().sort(null));
+    }
+}
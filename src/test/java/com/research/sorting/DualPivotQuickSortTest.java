@@ -0,0 +1,104 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import com.research.sorting.algorithms.DualPivotQuickSort;
+import com.research.sorting.algorithms.QuickSort;
+import java.util.Arrays;
+
+/**
+ * Unit tests for DualPivotQuickSort algorithm implementation.
+ */
+class DualPivotQuickSortTest {
+
+    private DualPivotQuickSort dualPivotQuickSort;
+
+    @BeforeEach
+    void setUp() {
+        dualPivotQuickSort = new DualPivotQuickSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test sorting empty and single element arrays")
+    void testTrivialArrays() {
+        int[] empty = {};
+        int[] single = {42};
+        dualPivotQuickSort.sort(empty);
+        dualPivotQuickSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertArrayEquals(new int[] {42}, single);
+    }
+
+    @Test
+    @DisplayName("Test sorting all pipeline data types")
+    void testPipelineDataTypes() {
+        for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            dualPivotQuickSort.sort(array);
+
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Test all equal and two-valued arrays")
+    void testHeavyDuplicates() {
+        int[] allEqual = new int[10_000];
+        Arrays.fill(allEqual, 7);
+        dualPivotQuickSort.sort(allEqual);
+        assertTrue(BenchmarkUtils.isSorted(allEqual));
+
+        int[] twoValued = DataGenerationUtilities.generateRandomArray(10_000, 2);
+        int[] expected = twoValued.clone();
+        Arrays.sort(expected);
+        dualPivotQuickSort.sort(twoValued);
+        assertArrayEquals(expected, twoValued);
+    }
+
+    @Test
+    @DisplayName("Test sorted input avoids quadratic behaviour")
+    void testSortedInputIsNotQuadratic() {
+        int size = 2_000;
+
+        int[] sorted = BenchmarkUtils.generateSortedArray(size);
+        BenchmarkUtils.resetCounters();
+        dualPivotQuickSort.sort(sorted);
+        long dualPivotComparisons = BenchmarkUtils.getComparisonCount();
+
+        int[] sortedAgain = BenchmarkUtils.generateSortedArray(size);
+        BenchmarkUtils.resetCounters();
+        new QuickSort().sort(sortedAgain);
+        long singlePivotComparisons = BenchmarkUtils.getComparisonCount();
+
+        System.out.printf("Sorted input comparisons: Dual-Pivot=%d, Single-Pivot=%d%n",
+                dualPivotComparisons, singlePivotComparisons);
+        assertTrue(dualPivotComparisons < singlePivotComparisons / 10);
+    }
+
+    @Test
+    @DisplayName("Test null array throws exception")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            dualPivotQuickSort.sort(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties")
+    void testAlgorithmProperties() {
+        assertEquals("Dual-Pivot Quick Sort", dualPivotQuickSort.getAlgorithmName());
+        assertEquals("O(n log n)", dualPivotQuickSort.getTimeComplexity());
+        assertEquals("O(log n)", dualPivotQuickSort.getSpaceComplexity());
+        assertFalse(dualPivotQuickSort.isStable());
+        assertTrue(dualPivotQuickSort.isInPlace());
+    }
+}
@@ -0,0 +1,146 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.ExternalMergeSort;
+import com.research.sorting.algorithms.HeapSort;
+import com.research.sorting.algorithms.RadixSort;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for ExternalMergeSort on files in a temporary directory.
+ */
+class ExternalMergeSortTest {
+
+    @TempDir
+    Path directory;
+
+    private Path input;
+    private Path output;
+
+    @BeforeEach
+    void setUp() {
+        input = directory.resolve("input.bin");
+        output = directory.resolve("output.bin");
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test many runs are merged into the sorted input")
+    void testMultipleRuns() throws IOException {
+        DataGenerationUtilities.generateRandomIntFile(input, 100_003);
+        int[] expected = readInts(input);
+        Arrays.sort(expected);
+
+        ExternalMergeSort.Result result =
+            new ExternalMergeSort(new HeapSort(), 1_000, directory).sort(input, output);
+
+        assertArrayEquals(expected, readInts(output));
+        assertTrue(BenchmarkUtils.isSorted(output));
+        assertEquals(101, result.runs(), "100 full chunks and one partial chunk");
+        assertEquals(1, result.mergePasses());
+        assertEquals(100_003L * 4 * 2, result.bytesRead());
+        assertEquals(100_003L * 4 * 2, result.bytesWritten());
+    }
+
+    @Test
+    @DisplayName("Test runs beyond the fan-in limit are merged in several passes")
+    void testMultiPassMerge() throws IOException {
+        DataGenerationUtilities.generateRandomIntFile(input, 30_000);
+        int[] expected = readInts(input);
+        Arrays.sort(expected);
+
+        // 10,000 runs: 79 merges of up to 128 runs, then one merge of the 79 longer runs
+        ExternalMergeSort.Result result =
+            new ExternalMergeSort(new RadixSort(), 3, directory).sort(input, output);
+
+        assertArrayEquals(expected, readInts(output));
+        assertEquals(10_000, result.runs());
+        assertEquals(2, result.mergePasses());
+        assertEquals(30_000L * 4 * 3, result.bytesRead());
+        assertEquals(30_000L * 4 * 3, result.bytesWritten());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count(), "Only the input and output remain");
+        }
+    }
+
+    @Test
+    @DisplayName("Test input within one chunk is sorted without run files")
+    void testSingleChunk() throws IOException {
+        DataGenerationUtilities.generateRandomIntFile(input, 5_000);
+        int[] expected = readInts(input);
+        Arrays.sort(expected);
+
+        ExternalMergeSort.Result result =
+            new ExternalMergeSort(new RadixSort(), 5_000, directory).sort(input, output);
+
+        assertArrayEquals(expected, readInts(output));
+        assertEquals(1, result.runs());
+        assertEquals(0, result.mergePasses());
+        assertEquals(20_000, result.bytesWritten());
+    }
+
+    @Test
+    @DisplayName("Test run files are deleted and the input is left unchanged")
+    void testCleanup() throws IOException {
+        DataGenerationUtilities.generateRandomIntFile(input, 10_000);
+        byte[] original = Files.readAllBytes(input);
+
+        new ExternalMergeSort(new HeapSort(), 999, directory).sort(input, output);
+
+        assertArrayEquals(original, Files.readAllBytes(input));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count(), "Only the input and output should remain");
+        }
+    }
+
+    @Test
+    @DisplayName("Test empty files and sorted file detection")
+    void testEmptyFileAndSortedCheck() throws IOException {
+        DataGenerationUtilities.generateRandomIntFile(input, 0);
+
+        new ExternalMergeSort().sort(input, output);
+
+        assertEquals(0, Files.size(output));
+        Files.write(input, new byte[] {0, 0, 0, 2, 0, 0, 0, 1});
+        assertFalse(BenchmarkUtils.isSorted(input));
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments and truncated files are rejected")
+    void testInvalidInput() throws IOException {
+        ExternalMergeSort sorter = new ExternalMergeSort();
+        Files.write(input, new byte[] {1, 2, 3, 4, 5});
+
+        assertThrows(IOException.class, () -> sorter.sort(input, output));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(null, output));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ExternalMergeSort(null, 1_000, directory));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ExternalMergeSort(new HeapSort(), 0, directory));
+    }
+
+    /**
+     * Reads a whole file of big-endian ints.
+     */
+    private static int[] readInts(Path file) throws IOException {
+        int[] values = new int[(int) (Files.size(file) / 4)];
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = in.readInt();
+            }
+        }
+        return values;
+    }
+}
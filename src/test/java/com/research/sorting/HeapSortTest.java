@@ -116,7 +116,7 @@ class HeapSortTest {
     @DisplayName("Test null array throws exception")
     void testNullArray() {
         assertThrows(IllegalArgumentException.class, () -> {
-            heapSort.sort(null);
+            heapSort.sort((int[]) null);
         });
     }
     
@@ -180,4 +180,58 @@ class HeapSortTest {
         int[] notMaxHeap = {1, 8, 9, 4, 7, 5, 6, 10, 2, 3};
         assertFalse(heapSort.isMaxHeap(notMaxHeap, notMaxHeap.length));
     }
+    
+    @Test
+    @DisplayName("Test bottom-up variants sort random and duplicate-heavy arrays")
+    void testBottomUpVariants() {
+        for (HeapSort.Variant variant : HeapSort.Variant.values()) {
+            HeapSort sorter = new HeapSort(variant);
+            for (int size : new int[] {0, 1, 2, 3, 5, 17, 1000}) {
+                int[] random = BenchmarkUtils.generateRandomArray(size, 1_000_000);
+                int[] duplicates = BenchmarkUtils.generateRandomArray(size, 3);
+                sorter.sort(random);
+                sorter.sort(duplicates);
+                
+                assertTrue(BenchmarkUtils.isSorted(random), variant + " random " + size);
+                assertTrue(BenchmarkUtils.isSorted(duplicates), variant + " duplicates " + size);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test bottom-up sifting saves comparisons")
+    void testBottomUpComparisonSavings() {
+        int[] standard = BenchmarkUtils.generateRandomArray(100_000, Integer.MAX_VALUE - 1);
+        int[] bottomUp = standard.clone();
+        int[] quaternary = standard.clone();
+        
+        heapSort.sort(standard);
+        long standardComparisons = BenchmarkUtils.getComparisonCount();
+        
+        BenchmarkUtils.resetCounters();
+        new HeapSort(HeapSort.Variant.BOTTOM_UP).sort(bottomUp);
+        long bottomUpComparisons = BenchmarkUtils.getComparisonCount();
+        
+        BenchmarkUtils.resetCounters();
+        new HeapSort(HeapSort.Variant.BOTTOM_UP_4ARY).sort(quaternary);
+        long quaternaryComparisons = BenchmarkUtils.getComparisonCount();
+        
+        assertArrayEquals(standard, bottomUp);
+        assertArrayEquals(standard, quaternary);
+        
+        // Roughly log n instead of 2 log n comparisons per sift
+        assertTrue(bottomUpComparisons < standardComparisons * 0.6);
+        assertTrue(quaternaryComparisons < standardComparisons);
+    }
+    
+    @Test
+    @DisplayName("Test variant names and constructor validation")
+    void testVariantProperties() {
+        assertEquals(HeapSort.Variant.STANDARD, heapSort.getVariant());
+        assertEquals("Heap Sort (Bottom-Up)",
+            new HeapSort(HeapSort.Variant.BOTTOM_UP).getAlgorithmName());
+        assertEquals("Heap Sort (Bottom-Up 4-ary)",
+            new HeapSort(HeapSort.Variant.BOTTOM_UP_4ARY).getAlgorithmName());
+        assertThrows(IllegalArgumentException.class, () -> new HeapSort(null));
+    }
 }
@@ -0,0 +1,109 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.InPlaceMergeSort;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.util.Arrays;
+
+/**
+ * Unit tests for InPlaceMergeSort with and without its sqrt n buffer.
+ */
+class InPlaceMergeSortTest {
+
+    @BeforeEach
+    void setUp() {
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test both variants on all pipeline data types")
+    void testAllDataTypes() {
+        for (InPlaceMergeSort.Variant variant : InPlaceMergeSort.Variant.values()) {
+            InPlaceMergeSort sorter = new InPlaceMergeSort(variant);
+            for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(array);
+
+                assertArrayEquals(expected, array, variant.name());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test small and awkward lengths including extreme keys")
+    void testLengths() {
+        for (InPlaceMergeSort.Variant variant : InPlaceMergeSort.Variant.values()) {
+            InPlaceMergeSort sorter = new InPlaceMergeSort(variant);
+            for (int n : new int[] {0, 1, 2, 15, 16, 17, 33, 1_000, 4_097}) {
+                int[] array = DataGenerationUtilities.generateRandomArray(n, 50);
+                if (n > 2) {
+                    array[0] = Integer.MAX_VALUE;
+                    array[n - 1] = Integer.MIN_VALUE;
+                }
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(array);
+
+                assertArrayEquals(expected, array, variant + " with " + n + " elements");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test equal keys keep their payload order")
+    void testStability() {
+        int[] keys = DataGenerationUtilities.generateArrayWithDuplicates(50_000, 0.01);
+
+        for (InPlaceMergeSort.Variant variant : InPlaceMergeSort.Variant.values()) {
+            int[] permutation = new InPlaceMergeSort(variant).argsort(keys);
+
+            for (int i = 1; i < permutation.length; i++) {
+                int previous = keys[permutation[i - 1]];
+                int current = keys[permutation[i]];
+                assertTrue(previous < current
+                    || previous == current && permutation[i - 1] < permutation[i],
+                    variant + " should keep equal keys in input order at " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test extra memory stays far below an n-sized buffer")
+    void testBufferFootprint() {
+        int[] array = DataGenerationUtilities.generateRandomArray(1_000_000, Integer.MAX_VALUE);
+        InPlaceMergeSort sorter = new InPlaceMergeSort();
+        sorter.sort(array.clone()); // Load classes before measuring
+
+        long allocatedBefore = BenchmarkUtils.measureAllocatedBytes();
+        sorter.sort(array);
+        long allocated = BenchmarkUtils.measureAllocatedBytes() - allocatedBefore;
+
+        assertTrue(BenchmarkUtils.isSorted(array));
+        // A 1,000-int buffer instead of the 4 MB MergeSort would allocate
+        assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties and invalid input")
+    void testPropertiesAndInvalidInput() {
+        InPlaceMergeSort sorter = new InPlaceMergeSort();
+
+        assertTrue(sorter.isStable());
+        assertTrue(sorter.isInPlace());
+        assertEquals("O(√n)", sorter.getSpaceComplexity());
+        assertEquals("O(log n)",
+            new InPlaceMergeSort(InPlaceMergeSort.Variant.NO_BUFFER).getSpaceComplexity());
+
+        assertThrows(IllegalArgumentException.class, () -> new InPlaceMergeSort(null));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(null));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(new int[] {2, 1}, new int[1]));
+    }
+}
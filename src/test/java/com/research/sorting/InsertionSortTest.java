@@ -93,7 +93,7 @@ class InsertionSortTest {
     @DisplayName("Test null array throws exception")
     void testNullArray() {
         assertThrows(IllegalArgumentException.class, () -> {
-            insertionSort.sort(null);
+            insertionSort.sort((int[]) null);
         });
     }
     
@@ -124,4 +124,62 @@ class InsertionSortTest {
         // Should require minimal operations
         assertTrue(comparisons < 15); // Much less than worst case
     }
+    
+    @Test
+    @DisplayName("Test binary variant sorts random, reversed and duplicate arrays")
+    void testBinaryVariant() {
+        InsertionSort binary = new InsertionSort(InsertionSort.Variant.BINARY);
+        int[][] arrays = {
+            BenchmarkUtils.generateRandomArray(1000, 1000),
+            BenchmarkUtils.generateReverseSortedArray(1000),
+            BenchmarkUtils.generateRandomArray(1000, 3),
+            {}, {42}
+        };
+        
+        for (int[] array : arrays) {
+            int[] expected = array.clone();
+            java.util.Arrays.sort(expected);
+            
+            binary.sort(array);
+            
+            assertArrayEquals(expected, array);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test binary variant keeps the linear best case and cuts comparisons")
+    void testBinaryVariantComparisons() {
+        InsertionSort binary = new InsertionSort(InsertionSort.Variant.BINARY);
+        
+        int[] sorted = BenchmarkUtils.generateSortedArray(1000);
+        binary.sort(sorted);
+        assertEquals(999, BenchmarkUtils.getComparisonCount());
+        assertEquals(0, BenchmarkUtils.getSwapCount());
+        
+        int[] random = BenchmarkUtils.generateRandomArray(2000, 100_000);
+        int[] copy = random.clone();
+        
+        BenchmarkUtils.resetCounters();
+        insertionSort.sort(copy);
+        long linearComparisons = BenchmarkUtils.getComparisonCount();
+        long linearSwaps = BenchmarkUtils.getSwapCount();
+        
+        BenchmarkUtils.resetCounters();
+        binary.sort(random);
+        
+        assertArrayEquals(copy, random);
+        // About n log2 n instead of n²/4
+        assertTrue(BenchmarkUtils.getComparisonCount() * 20 < linearComparisons);
+        // Same number of element moves, counted in bulk
+        assertEquals(linearSwaps, BenchmarkUtils.getSwapCount());
+    }
+    
+    @Test
+    @DisplayName("Test binary variant name and null variant")
+    void testVariantProperties() {
+        assertEquals(InsertionSort.Variant.LINEAR, insertionSort.getVariant());
+        assertEquals("Binary Insertion Sort",
+            new InsertionSort(InsertionSort.Variant.BINARY).getAlgorithmName());
+        assertThrows(IllegalArgumentException.class, () -> new InsertionSort(null));
+    }
 }
@@ -0,0 +1,97 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import com.research.sorting.algorithms.IntroSort;
+import java.util.Arrays;
+
+/**
+ * Unit tests for IntroSort algorithm implementation.
+ */
+class IntroSortTest {
+
+    private IntroSort introSort;
+
+    @BeforeEach
+    void setUp() {
+        introSort = new IntroSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test sorting empty and single element arrays")
+    void testTrivialArrays() {
+        int[] empty = {};
+        int[] single = {42};
+        introSort.sort(empty);
+        introSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertArrayEquals(new int[] {42}, single);
+    }
+
+    @Test
+    @DisplayName("Test sorting all pipeline data types")
+    void testPipelineDataTypes() {
+        for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            introSort.sort(array);
+
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Test 1M-element sorted input completes without stack overflow")
+    void testLargeSortedArray() {
+        int size = 1_000_000;
+        int[] array = DataGenerationUtilities.generateSortedArray(size);
+
+        introSort.sort(array);
+
+        assertTrue(BenchmarkUtils.isSorted(array));
+
+        // Stays within a small multiple of n log2 n
+        long bound = 3L * size * (31 - Integer.numberOfLeadingZeros(size));
+        assertTrue(BenchmarkUtils.getComparisonCount() < bound);
+    }
+
+    @Test
+    @DisplayName("Test pattern arrays that stress pivot selection")
+    void testPatternArrays() {
+        for (String pattern : new String[] {"MOUNTAIN", "VALLEY", "SAWTOOTH", "PIPE_ORGAN"}) {
+            int[] array = DataGenerationUtilities.generatePatternArray(100_000, pattern);
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            introSort.sort(array);
+
+            assertArrayEquals(expected, array, pattern + " should sort correctly");
+        }
+    }
+
+    @Test
+    @DisplayName("Test null array throws exception")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            introSort.sort(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties")
+    void testAlgorithmProperties() {
+        assertEquals("Intro Sort", introSort.getAlgorithmName());
+        assertEquals("O(n log n)", introSort.getTimeComplexity());
+        assertEquals("O(log n)", introSort.getSpaceComplexity());
+        assertFalse(introSort.isStable());
+        assertTrue(introSort.isInPlace());
+    }
+}
@@ -0,0 +1,160 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.KWayMerger;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+/**
+ * Unit tests for KWayMerger loser tree and pairwise merges.
+ */
+class KWayMergerTest {
+
+    @BeforeEach
+    void setUp() {
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test merging 1 to 1024 runs of uneven lengths")
+    void testMergeRuns() {
+        int[] keys = DataGenerationUtilities.generateRandomArray(30_000, 1_000);
+        keys[0] = Integer.MIN_VALUE;
+        keys[1] = Integer.MAX_VALUE;
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+
+        for (int k : new int[] {1, 2, 3, 7, 64, 1_000, 1_024}) {
+            int[][] runs = splitIntoRuns(keys, k);
+            for (KWayMerger.Variant variant : KWayMerger.Variant.values()) {
+                assertArrayEquals(expected, new KWayMerger(variant).merge(runs),
+                    variant + " with " + k + " runs");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test empty runs, no runs and merging at an offset")
+    void testEdgeCases() {
+        for (KWayMerger.Variant variant : KWayMerger.Variant.values()) {
+            KWayMerger merger = new KWayMerger(variant);
+
+            assertEquals(0, merger.merge().length);
+            assertArrayEquals(new int[] {1, 2, 3, 4},
+                merger.merge(new int[] {}, new int[] {2, 4}, new int[] {}, new int[] {1, 3}));
+
+            int[] output = {9, 9, 9, 9, 9};
+            merger.merge(new int[][] {{5}, {-5, 0}}, output, 1);
+            assertArrayEquals(new int[] {9, -5, 0, 5, 9}, output, variant.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Test loser tree uses about log2(k) comparisons per element")
+    void testComparisonsPerElement() {
+        int[] keys = DataGenerationUtilities.generateRandomArray(102_400, Integer.MAX_VALUE);
+        int[][] runs = splitIntoRuns(keys, 1_024);
+
+        new KWayMerger().merge(runs);
+
+        double perElement = (double) BenchmarkUtils.getComparisonCount() / keys.length;
+        assertTrue(perElement > 9 && perElement <= 10.5,
+            "Expected about 10 comparisons per element, got " + perElement);
+    }
+
+    @Test
+    @DisplayName("Test runs cut from all pipeline data types")
+    void testAllDataTypes() {
+        for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            int[][] runs = splitIntoRuns(array, 13);
+
+            for (KWayMerger.Variant variant : KWayMerger.Variant.values()) {
+                assertArrayEquals(expected, new KWayMerger(variant).merge(runs), variant.name());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test merging runs held in off-heap segments at an offset")
+    void testMergeSegments() {
+        int[] keys = DataGenerationUtilities.generateRandomArray(20_000, Integer.MAX_VALUE);
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+        int[][] runs = splitIntoRuns(keys, 37);
+
+        for (KWayMerger.Variant variant : KWayMerger.Variant.values()) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment[] segments = new MemorySegment[runs.length];
+                for (int run = 0; run < runs.length; run++) {
+                    segments[run] = arena.allocate((long) runs[run].length * Integer.BYTES,
+                        Integer.BYTES);
+                    MemorySegment.copy(runs[run], 0, segments[run], ValueLayout.JAVA_INT, 0,
+                        runs[run].length);
+                }
+                MemorySegment output = arena.allocate((keys.length + 2L) * Integer.BYTES,
+                    Integer.BYTES);
+                output.setAtIndex(ValueLayout.JAVA_INT, 0, 9);
+                output.setAtIndex(ValueLayout.JAVA_INT, keys.length + 1, 9);
+
+                new KWayMerger(variant).merge(segments, output, 1);
+
+                int[] merged = output.toArray(ValueLayout.JAVA_INT);
+                assertArrayEquals(expected, Arrays.copyOfRange(merged, 1, keys.length + 1),
+                    variant.name());
+                assertEquals(9, merged[0]);
+                assertEquals(9, merged[keys.length + 1]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid input is rejected")
+    void testInvalidInput() {
+        KWayMerger merger = new KWayMerger();
+
+        assertThrows(IllegalArgumentException.class, () -> new KWayMerger(null));
+        assertThrows(IllegalArgumentException.class, () -> merger.merge((int[][]) null));
+        assertThrows(IllegalArgumentException.class, () -> merger.merge(new int[] {1}, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> merger.merge(new int[][] {{1, 2}}, new int[2], 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> merger.merge(new int[][] {{1}}, null, 0));
+
+        MemorySegment run = MemorySegment.ofArray(new int[] {1, 2});
+        MemorySegment output = MemorySegment.ofArray(new int[3]);
+        assertThrows(IllegalArgumentException.class,
+            () -> merger.merge(new MemorySegment[] {run, null}, output, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> merger.merge(new MemorySegment[] {run}, output, 2));
+        assertThrows(IllegalArgumentException.class,
+            () -> merger.merge(new MemorySegment[] {run}, output.asReadOnly(), 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> merger.merge(new MemorySegment[] {MemorySegment.ofArray(new byte[3])}, output, 0));
+    }
+
+    /**
+     * Splits keys into k sorted runs of pseudo-random, uneven lengths.
+     */
+    private static int[][] splitIntoRuns(int[] keys, int k) {
+        int[][] runs = new int[k][];
+        int start = 0;
+        for (int run = 0; run < k; run++) {
+            int end = run == k - 1 ? keys.length
+                : Math.min(keys.length, start + (int) ((run * 7_919L) % (2 * keys.length / k + 1)));
+            runs[run] = Arrays.copyOfRange(keys, start, end);
+            Arrays.sort(runs[run]);
+            start = end;
+        }
+        return runs;
+    }
+}
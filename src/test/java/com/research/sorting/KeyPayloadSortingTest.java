@@ -0,0 +1,185 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.HeapSort;
+import com.research.sorting.algorithms.InPlaceMergeSort;
+import com.research.sorting.algorithms.KeyPayloadSortingAlgorithm;
+import com.research.sorting.algorithms.MergeSort;
+import com.research.sorting.algorithms.QuickSort;
+import com.research.sorting.algorithms.RadixSort;
+import com.research.sorting.benchmarking.BenchmarkingFramework;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.util.Arrays;
+
+/**
+ * Unit tests for key/payload sorting and argsort of the quick, merge, heap, radix and in-place
+ * merge engines.
+ */
+class KeyPayloadSortingTest {
+
+    private static final KeyPayloadSortingAlgorithm[] ALGORITHMS = {new QuickSort(),
+        new MergeSort(), new MergeSort(MergeSort.Variant.PING_PONG),
+        new MergeSort(MergeSort.Variant.BOTTOM_UP), new HeapSort(),
+        new HeapSort(HeapSort.Variant.BOTTOM_UP), new HeapSort(HeapSort.Variant.BOTTOM_UP_4ARY),
+        new RadixSort(), new RadixSort(16), new InPlaceMergeSort(),
+        new InPlaceMergeSort(InPlaceMergeSort.Variant.NO_BUFFER)};
+
+    @BeforeEach
+    void setUp() {
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test payload follows its key on all pipeline data types")
+    void testPayloadFollowsKeys() {
+        for (KeyPayloadSortingAlgorithm algorithm : ALGORITHMS) {
+            for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+                int[] keys = array.clone();
+                int[] payload = new int[keys.length];
+                for (int i = 0; i < payload.length; i++) {
+                    payload[i] = ~array[i];
+                }
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+
+                algorithm.sort(keys, payload);
+
+                assertArrayEquals(expected, keys, algorithm.getAlgorithmName());
+                for (int i = 0; i < keys.length; i++) {
+                    assertEquals(~keys[i], payload[i], "Payload should stay with its key");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test argsort returns a sorting permutation and leaves keys unchanged")
+    void testArgsort() {
+        int[] keys = DataGenerationUtilities.generateRandomArray(10_000, Integer.MAX_VALUE);
+        keys[0] = Integer.MIN_VALUE;
+        keys[1] = -7;
+        int[] original = keys.clone();
+
+        for (KeyPayloadSortingAlgorithm algorithm : ALGORITHMS) {
+            int[] permutation = algorithm.argsort(keys);
+
+            assertArrayEquals(original, keys, "Argsort should not modify keys");
+            int[] sortedByPermutation = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                sortedByPermutation[i] = keys[permutation[i]];
+            }
+            assertTrue(BenchmarkUtils.isSorted(sortedByPermutation), algorithm.getAlgorithmName());
+            assertEquals(keys.length, Arrays.stream(permutation).distinct().count(),
+                "Argsort should return a permutation");
+        }
+    }
+
+    @Test
+    @DisplayName("Test pairs and argsort on large sorted and reverse sorted keys")
+    void testOrderedKeys() {
+        int size = 200_000;
+        int[] sorted = BenchmarkUtils.generateSortedArray(size);
+        int[] reversed = BenchmarkUtils.generateReverseSortedArray(size);
+
+        for (KeyPayloadSortingAlgorithm algorithm : ALGORITHMS) {
+            String name = algorithm.getAlgorithmName();
+
+            int[] permutation = algorithm.argsort(sorted);
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, permutation[i], name + " should rank sorted keys in place");
+            }
+
+            int[] keys = reversed.clone();
+            int[] payload = new int[size];
+            for (int i = 0; i < size; i++) {
+                payload[i] = ~keys[i];
+            }
+            algorithm.sort(keys, payload);
+            assertTrue(BenchmarkUtils.isSorted(keys), name);
+            for (int i = 0; i < size; i++) {
+                assertEquals(~keys[i], payload[i], "Payload should stay with its key");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test stable engines keep payload order for equal keys")
+    void testStability() {
+        int[] keys = DataGenerationUtilities.generateArrayWithDuplicates(20_000, 1.0);
+
+        for (KeyPayloadSortingAlgorithm algorithm : ALGORITHMS) {
+            if (!algorithm.isStable()) continue;
+
+            int[] permutation = algorithm.argsort(keys);
+
+            for (int i = 1; i < permutation.length; i++) {
+                if (keys[permutation[i - 1]] == keys[permutation[i]]) {
+                    assertTrue(permutation[i - 1] < permutation[i],
+                        algorithm.getAlgorithmName() + " should keep equal keys in input order");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test the pair benchmark rejects runs that separate payload from keys")
+    void testBenchmarkChecksPayload() {
+        int[] keys = DataGenerationUtilities.generateRandomArray(1_000, Integer.MAX_VALUE);
+        int[] payload = new int[keys.length];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = i;
+        }
+        KeyPayloadSortingAlgorithm keysOnly = new QuickSort() {
+            @Override
+            public void sort(int[] keys, int[] payload) {
+                sort(keys);
+            }
+        };
+
+        PerformanceMetrics valid = BenchmarkingFramework.benchmarkPairs(new QuickSort(), keys,
+            payload, "Quick Sort", "Random (with payload)", 1, 2);
+        PerformanceMetrics invalid = BenchmarkingFramework.benchmarkPairs(keysOnly, keys,
+            payload, "Keys Only", "Random (with payload)", 1, 2);
+
+        assertTrue(valid.getExecutionTimeNanos() > 0);
+        assertEquals(0, invalid.getExecutionTimeNanos()); // No valid measurement
+    }
+
+    @Test
+    @DisplayName("Test invalid input is rejected")
+    void testRejectedInput() {
+        for (KeyPayloadSortingAlgorithm algorithm : ALGORITHMS) {
+            assertThrows(IllegalArgumentException.class,
+                () -> algorithm.sort(new int[] {2, 1}, new int[1]));
+            assertThrows(IllegalArgumentException.class,
+                () -> algorithm.sort(new int[] {2, 1}, null));
+            assertThrows(IllegalArgumentException.class, () -> algorithm.argsort(null));
+        }
+    }
+
+    @Test
+    @DisplayName("Test SIMD variants sort pairs and argsort with the scalar kernels")
+    void testSimdVariantsSortPairs() {
+        KeyPayloadSortingAlgorithm[] simdVariants = {new MergeSort(MergeSort.Variant.SIMD),
+            new QuickSort(QuickSort.Variant.SIMD)};
+        for (KeyPayloadSortingAlgorithm algorithm : simdVariants) {
+            int[] keys = {7, 3, 5, 3};
+            int[] payload = {70, 30, 50, 31};
+            algorithm.sort(keys, payload);
+            assertArrayEquals(new int[] {3, 3, 5, 7}, keys, algorithm.getAlgorithmName());
+            for (int i = 0; i < keys.length; i++) {
+                assertEquals(keys[i], payload[i] / 10, algorithm.getAlgorithmName());
+            }
+
+            int[] ranked = {7, 3, 5};
+            assertArrayEquals(new int[] {1, 2, 0}, algorithm.argsort(ranked),
+                algorithm.getAlgorithmName());
+            assertArrayEquals(new int[] {7, 3, 5}, ranked, "argsort should leave keys unchanged");
+        }
+    }
+}
@@ -102,7 +102,7 @@ class MergeSortTest {
     @DisplayName("Test null array throws exception")
     void testNullArray() {
         assertThrows(IllegalArgumentException.class, () -> {
-            mergeSort.sort(null);
+            mergeSort.sort((int[]) null);
         });
     }
     
@@ -165,4 +165,79 @@ class MergeSortTest {
         assertTrue(BenchmarkUtils.isSorted(array));
         System.out.println("Optimized Merge Sort: " + BenchmarkUtils.getStatistics());
     }
+    
+    @Test
+    @DisplayName("Test ping-pong merge sort with single scratch buffer")
+    void testPingPongMergeSort() {
+        int[] array = BenchmarkUtils.generateRandomArray(1000, 1000);
+        int[] expected = array.clone();
+        java.util.Arrays.sort(expected);
+        
+        mergeSort.pingPongSort(array);
+        
+        assertArrayEquals(expected, array);
+    }
+    
+    @Test
+    @DisplayName("Test bottom-up merge sort on non-power-of-two sizes")
+    void testBottomUpMergeSort() {
+        for (int size : new int[]{2, 3, 7, 100, 1023, 1025}) {
+            int[] array = BenchmarkUtils.generateRandomArray(size, size);
+            int[] expected = array.clone();
+            java.util.Arrays.sort(expected);
+            
+            mergeSort.bottomUpSort(array);
+            
+            assertArrayEquals(expected, array);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test variants make the same comparisons as classic merge sort")
+    void testVariantsMatchClassicComparisons() {
+        int[] original = BenchmarkUtils.generateRandomArray(512, 512);
+        
+        int[] classic = original.clone();
+        BenchmarkUtils.resetCounters();
+        mergeSort.sort(classic);
+        long classicComparisons = BenchmarkUtils.getComparisonCount();
+        
+        int[] pingPong = original.clone();
+        BenchmarkUtils.resetCounters();
+        new MergeSort(MergeSort.Variant.PING_PONG).sort(pingPong);
+        
+        assertArrayEquals(classic, pingPong);
+        assertEquals(classicComparisons, BenchmarkUtils.getComparisonCount());
+    }
+    
+    @Test
+    @DisplayName("Test SIMD variant sorts partial blocks and extreme values")
+    void testSimdVariant() {
+        MergeSort simd = new MergeSort(MergeSort.Variant.SIMD);
+        for (int size : new int[] {0, 1, 2, 15, 63, 64, 65, 129, 1000, 4097}) {
+            int[] array = BenchmarkUtils.generateRandomArray(size, Integer.MAX_VALUE);
+            if (size > 2) {
+                array[0] = Integer.MAX_VALUE; // Same value as the network's padding
+                array[1] = Integer.MIN_VALUE;
+            }
+            int[] expected = array.clone();
+            java.util.Arrays.sort(expected);
+            
+            simd.sort(array);
+            
+            assertArrayEquals(expected, array, "size " + size);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test variant names and null variant")
+    void testVariantProperties() {
+        assertEquals("Merge Sort (Ping-Pong)",
+            new MergeSort(MergeSort.Variant.PING_PONG).getAlgorithmName());
+        assertEquals("Merge Sort (Bottom-Up)",
+            new MergeSort(MergeSort.Variant.BOTTOM_UP).getAlgorithmName());
+        assertEquals("Merge Sort (SIMD)",
+            new MergeSort(MergeSort.Variant.SIMD).getAlgorithmName());
+        assertThrows(IllegalArgumentException.class, () -> new MergeSort(null));
+    }
 }
@@ -0,0 +1,126 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.ObjectMergeSort;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for ObjectMergeSort algorithm implementation.
+ */
+class ObjectMergeSortTest {
+
+    /** Record with a sort key and its original position, for stability checks */
+    private record Event(long timestamp, int sequence) {
+    }
+
+    private ObjectMergeSort objectSort;
+
+    @BeforeEach
+    void setUp() {
+        objectSort = new ObjectMergeSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test comparator and keyed modes on all pipeline data types")
+    void testAllDataTypes() {
+        for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+            Integer[] expected = Arrays.stream(array).boxed().toArray(Integer[]::new);
+            Arrays.sort(expected);
+
+            Integer[] byComparator = Arrays.stream(array).boxed().toArray(Integer[]::new);
+            objectSort.sort(byComparator, Comparator.naturalOrder());
+            assertArrayEquals(expected, byComparator);
+
+            Integer[] byKey = Arrays.stream(array).boxed().toArray(Integer[]::new);
+            objectSort.sortByKey(byKey, Integer::longValue);
+            assertArrayEquals(expected, byKey);
+        }
+    }
+
+    @Test
+    @DisplayName("Test both modes are stable")
+    void testStability() {
+        Event[] events = new Event[2_000];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new Event((i * 7919L) % 50, i);
+        }
+        Event[] byKey = events.clone();
+
+        objectSort.sort(events, Comparator.comparingLong(Event::timestamp));
+        objectSort.sortByKey(byKey, Event::timestamp);
+
+        for (Event[] sorted : List.of(events, byKey)) {
+            for (int i = 1; i < sorted.length; i++) {
+                Event previous = sorted[i - 1];
+                Event current = sorted[i];
+                assertTrue(previous.timestamp() < current.timestamp()
+                    || (previous.timestamp() == current.timestamp()
+                        && previous.sequence() < current.sequence()),
+                    "Equal timestamps should keep their original order");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test keyed mode extracts each key exactly once")
+    void testKeyExtractedOncePerElement() {
+        Integer[] array = Arrays.stream(DataGenerationUtilities.generateRandomArray(10_000, 100_000))
+            .boxed().toArray(Integer[]::new);
+        AtomicInteger extractions = new AtomicInteger();
+        AtomicInteger comparatorCalls = new AtomicInteger();
+
+        objectSort.sortByKey(array.clone(), value -> {
+            extractions.incrementAndGet();
+            return value;
+        });
+        objectSort.sort(array.clone(), (a, b) -> {
+            comparatorCalls.incrementAndGet();
+            return Integer.compare(a, b);
+        });
+
+        assertEquals(10_000, extractions.get());
+        assertEquals(comparatorCalls.get(), BenchmarkUtils.getComparisonCount() / 2,
+            "Both modes should make the same number of comparisons");
+        assertTrue(comparatorCalls.get() > 100_000);
+    }
+
+    @Test
+    @DisplayName("Test sorting lists")
+    void testLists() {
+        List<String> words = new LinkedList<>(List.of("pear", "fig", "banana", "kiwi", "apple"));
+        List<String> byLength = new ArrayList<>(words);
+
+        objectSort.sort(words, Comparator.naturalOrder());
+        objectSort.sortByKey(byLength, String::length);
+
+        assertEquals(List.of("apple", "banana", "fig", "kiwi", "pear"), words);
+        assertEquals(List.of("fig", "pear", "kiwi", "apple", "banana"), byLength);
+    }
+
+    @Test
+    @DisplayName("Test null input is rejected")
+    void testNullInput() {
+        Integer[] array = {2, 1};
+
+        assertThrows(IllegalArgumentException.class,
+            () -> objectSort.sort((Integer[]) null, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class,
+            () -> objectSort.sort(array, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> objectSort.sortByKey(array, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> objectSort.sortByKey((List<Integer>) null, Integer::longValue));
+    }
+}
@@ -0,0 +1,106 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.OffHeapSort;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+/**
+ * Unit tests for OffHeapSort on heap-backed and off-heap segments.
+ */
+class OffHeapSortTest {
+
+    @BeforeEach
+    void setUp() {
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test both variants on all pipeline data types through int[]")
+    void testAllDataTypes() {
+        for (OffHeapSort.Variant variant : OffHeapSort.Variant.values()) {
+            OffHeapSort sorter = new OffHeapSort(variant);
+            for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(array);
+
+                assertArrayEquals(expected, array, variant.name());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test off-heap segments with negative keys are sorted in place")
+    void testOffHeapSegment() {
+        for (OffHeapSort.Variant variant : OffHeapSort.Variant.values()) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment segment = DataGenerationUtilities.generateRandomSegment(arena, 200_000,
+                    Integer.MAX_VALUE);
+                segment.setAtIndex(ValueLayout.JAVA_INT, 5, Integer.MIN_VALUE);
+                segment.setAtIndex(ValueLayout.JAVA_INT, 6, -1);
+                int[] expected = segment.toArray(ValueLayout.JAVA_INT);
+                Arrays.sort(expected);
+
+                new OffHeapSort(variant).sort(segment);
+
+                assertArrayEquals(expected, segment.toArray(ValueLayout.JAVA_INT), variant.name());
+                assertTrue(BenchmarkUtils.isSorted(segment));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorted and reverse sorted segment generators")
+    void testGeneratedSegments() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment sorted = DataGenerationUtilities.generateSortedSegment(arena, 100_000);
+            MemorySegment reverse = DataGenerationUtilities.generateReverseSortedSegment(arena,
+                100_000);
+
+            assertTrue(BenchmarkUtils.isSorted(sorted));
+            assertFalse(BenchmarkUtils.isSorted(reverse));
+
+            new OffHeapSort().sort(reverse);
+
+            assertEquals(-1, sorted.mismatch(reverse), "Sorted reverse input should equal 1..n");
+        }
+    }
+
+    @Test
+    @DisplayName("Test radix variant reads keys instead of comparing them")
+    void testRadixCounters() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = DataGenerationUtilities.generateRandomSegment(arena, 50_000,
+                Integer.MAX_VALUE);
+
+            new OffHeapSort(OffHeapSort.Variant.RADIX).sort(segment);
+
+            assertEquals(0, BenchmarkUtils.getComparisonCount());
+            assertTrue(BenchmarkUtils.getScatterWriteCount() >= 3 * 50_000L);
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid input is rejected")
+    void testInvalidInput() {
+        OffHeapSort sorter = new OffHeapSort();
+
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapSort(null));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort((int[]) null));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort((MemorySegment) null));
+        assertThrows(IllegalArgumentException.class,
+            () -> sorter.sort(MemorySegment.ofArray(new int[] {2, 1}).asReadOnly()));
+        assertThrows(IllegalArgumentException.class,
+            () -> sorter.sort(MemorySegment.ofArray(new byte[6])));
+    }
+}
@@ -0,0 +1,114 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.algorithms.MergeSort;
+import com.research.sorting.algorithms.ParallelMergeSort;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Unit tests for ParallelMergeSort algorithm implementation.
+ */
+class ParallelMergeSortTest {
+
+    private ParallelMergeSort parallelMergeSort;
+
+    @BeforeEach
+    void setUp() {
+        parallelMergeSort = new ParallelMergeSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test sorting empty array")
+    void testEmptyArray() {
+        int[] array = {};
+        parallelMergeSort.sort(array);
+
+        assertEquals(0, array.length);
+        assertTrue(BenchmarkUtils.isSorted(array));
+    }
+
+    @Test
+    @DisplayName("Test sorting small array below cutoff")
+    void testSmallArray() {
+        int[] array = {64, 34, 25, 12, 22, 11, 90};
+        parallelMergeSort.sort(array);
+
+        assertArrayEquals(new int[]{11, 12, 22, 25, 34, 64, 90}, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting large random array across workers")
+    void testLargeRandomArray() {
+        int[] array = BenchmarkUtils.generateRandomArray(200_000, 1_000_000);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        parallelMergeSort.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test small cutoff forces deep forking")
+    void testSmallCutoff() {
+        ParallelMergeSort sorter = new ParallelMergeSort(new ForkJoinPool(4), 16);
+        int[] array = BenchmarkUtils.generateReverseSortedArray(10_000);
+
+        sorter.sort(array);
+
+        assertTrue(BenchmarkUtils.isSorted(array));
+        assertEquals(4, sorter.getParallelism());
+    }
+
+    @Test
+    @DisplayName("Test comparison count matches sequential merge sort")
+    void testComparisonCountMatchesSequential() {
+        int[] original = BenchmarkUtils.generateRandomArray(50_000, 50_000);
+
+        int[] sequentialArray = original.clone();
+        BenchmarkUtils.resetCounters();
+        new MergeSort().sort(sequentialArray);
+        long sequentialComparisons = BenchmarkUtils.getComparisonCount();
+
+        int[] parallelArray = original.clone();
+        BenchmarkUtils.resetCounters();
+        new ParallelMergeSort(ForkJoinPool.commonPool(), 1_024).sort(parallelArray);
+        long parallelComparisons = BenchmarkUtils.getComparisonCount();
+
+        assertArrayEquals(sequentialArray, parallelArray);
+        assertEquals(sequentialComparisons, parallelComparisons);
+    }
+
+    @Test
+    @DisplayName("Test invalid configuration throws exception")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSort(null, 100));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ParallelMergeSort(ForkJoinPool.commonPool(), 1));
+    }
+
+    @Test
+    @DisplayName("Test null array throws exception")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            parallelMergeSort.sort(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties")
+    void testAlgorithmProperties() {
+        assertEquals("Parallel Merge Sort", parallelMergeSort.getAlgorithmName());
+        assertEquals("O(n log n)", parallelMergeSort.getTimeComplexity());
+        assertEquals("O(n)", parallelMergeSort.getSpaceComplexity());
+        assertTrue(parallelMergeSort.isStable());
+        assertFalse(parallelMergeSort.isInPlace());
+    }
+}
@@ -0,0 +1,111 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import com.research.sorting.algorithms.ParallelRadixSort;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Unit tests for ParallelRadixSort algorithm implementation.
+ */
+class ParallelRadixSortTest {
+
+    private ParallelRadixSort parallelRadixSort;
+
+    @BeforeEach
+    void setUp() {
+        parallelRadixSort = new ParallelRadixSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test sorting small array below threshold")
+    void testSmallArray() {
+        int[] array = {64, -34, 25, 12, -22, 11, 90};
+        parallelRadixSort.sort(array);
+
+        assertArrayEquals(new int[] {-34, -22, 11, 12, 25, 64, 90}, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting large array with negative values on several pool sizes")
+    void testLargeArrayAcrossPoolSizes() {
+        Random random = new Random(42);
+        int[] original = new int[500_000];
+        for (int i = 0; i < original.length; i++) {
+            original[i] = random.nextInt();
+        }
+        int[] expected = original.clone();
+        Arrays.sort(expected);
+
+        for (int cores : new int[] {1, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(cores);
+            try {
+                int[] array = original.clone();
+                new ParallelRadixSort(pool, 0).sort(array);
+                assertArrayEquals(expected, array, cores + " cores should sort correctly");
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting all pipeline data types with forced parallelism")
+    void testPipelineDataTypes() {
+        ParallelRadixSort sorter = new ParallelRadixSort(ForkJoinPool.commonPool(), 0);
+        for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(20_000).values()) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            sorter.sort(array);
+
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Test counters match sequential passes")
+    void testCounters() {
+        int size = 100_000;
+        int[] array = DataGenerationUtilities.generateRandomArray(size, 255); // Only the low byte varies
+
+        new ParallelRadixSort(ForkJoinPool.commonPool(), 0).sort(array);
+
+        assertTrue(BenchmarkUtils.isSorted(array));
+        // Four histogram passes, one scatter pass
+        assertEquals(5L * size, BenchmarkUtils.getKeyReadCount());
+        assertEquals(size, BenchmarkUtils.getScatterWriteCount());
+    }
+
+    @Test
+    @DisplayName("Test invalid configuration throws exception")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelRadixSort(null, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ParallelRadixSort(ForkJoinPool.commonPool(), -1));
+    }
+
+    @Test
+    @DisplayName("Test null array throws exception")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            parallelRadixSort.sort(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties")
+    void testAlgorithmProperties() {
+        assertEquals("Parallel Radix Sort", parallelRadixSort.getAlgorithmName());
+        assertTrue(parallelRadixSort.isStable());
+        assertFalse(parallelRadixSort.isInPlace());
+    }
+}
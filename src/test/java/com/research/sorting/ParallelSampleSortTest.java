@@ -0,0 +1,133 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import com.research.sorting.algorithms.ParallelSampleSort;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Unit tests for ParallelSampleSort algorithm implementation.
+ */
+class ParallelSampleSortTest {
+
+    private ParallelSampleSort parallelSampleSort;
+
+    @BeforeEach
+    void setUp() {
+        parallelSampleSort = new ParallelSampleSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test sorting small array below threshold")
+    void testSmallArray() {
+        int[] array = {64, -34, 25, 12, -22, 11, 90};
+        parallelSampleSort.sort(array);
+
+        assertArrayEquals(new int[] {-34, -22, 11, 12, 25, 64, 90}, array);
+    }
+
+    @Test
+    @DisplayName("Test sorting 1M random keys on several pool sizes")
+    void testLargeArrayAcrossPoolSizes() {
+        Random random = new Random(42);
+        int[] original = new int[1_000_000];
+        for (int i = 0; i < original.length; i++) {
+            original[i] = random.nextInt();
+        }
+        int[] expected = original.clone();
+        Arrays.sort(expected);
+
+        for (int cores : new int[] {1, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(cores);
+            try {
+                int[] array = original.clone();
+                new ParallelSampleSort(pool, 0).sort(array);
+                assertArrayEquals(expected, array, cores + " cores should sort correctly");
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting all pipeline data types with forced parallelism")
+    void testPipelineDataTypes() {
+        ParallelSampleSort sorter = new ParallelSampleSort(ForkJoinPool.commonPool(), 0);
+        for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(50_000).values()) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            sorter.sort(array);
+
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Test heavy duplicates end in equality buckets")
+    void testHeavyDuplicates() {
+        ParallelSampleSort sorter = new ParallelSampleSort(ForkJoinPool.commonPool(), 0);
+        Random random = new Random(7);
+
+        int[] constant = new int[200_000];
+        Arrays.fill(constant, 5);
+        sorter.sort(constant);
+        assertTrue(BenchmarkUtils.isSorted(constant));
+
+        int[] mostlyEqual = new int[200_000];
+        for (int i = 0; i < mostlyEqual.length; i++) {
+            mostlyEqual[i] = random.nextInt(10) == 0 ? random.nextInt() : 5;
+        }
+        int[] expected = mostlyEqual.clone();
+        Arrays.sort(expected);
+
+        sorter.sort(mostlyEqual);
+
+        assertArrayEquals(expected, mostlyEqual);
+    }
+
+    @Test
+    @DisplayName("Test each key is moved a few times, not log2(n) times")
+    void testScatterPasses() {
+        int size = 1_000_000;
+        int[] array = DataGenerationUtilities.generateRandomArray(size, Integer.MAX_VALUE);
+
+        parallelSampleSort.sort(array);
+
+        assertTrue(BenchmarkUtils.isSorted(array));
+        // 256-way splits: two levels reach the base case, merge sort would need 20 passes
+        assertTrue(BenchmarkUtils.getScatterWriteCount() <= 2L * size);
+    }
+
+    @Test
+    @DisplayName("Test invalid configuration throws exception")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSampleSort(null, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ParallelSampleSort(ForkJoinPool.commonPool(), -1));
+    }
+
+    @Test
+    @DisplayName("Test null array throws exception")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            parallelSampleSort.sort(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties")
+    void testAlgorithmProperties() {
+        assertEquals("Parallel Sample Sort", parallelSampleSort.getAlgorithmName());
+        assertFalse(parallelSampleSort.isStable());
+        assertFalse(parallelSampleSort.isInPlace());
+    }
+}
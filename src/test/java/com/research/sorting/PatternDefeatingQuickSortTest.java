@@ -0,0 +1,129 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import com.research.sorting.algorithms.PatternDefeatingQuickSort;
+import java.util.Arrays;
+
+/**
+ * Unit tests for PatternDefeatingQuickSort algorithm implementation.
+ */
+class PatternDefeatingQuickSortTest {
+
+    private PatternDefeatingQuickSort pdqSort;
+
+    @BeforeEach
+    void setUp() {
+        pdqSort = new PatternDefeatingQuickSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test sorting empty and single element arrays")
+    void testTrivialArrays() {
+        int[] empty = {};
+        int[] single = {42};
+        pdqSort.sort(empty);
+        pdqSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertArrayEquals(new int[] {42}, single);
+    }
+
+    @Test
+    @DisplayName("Test sorting all pipeline data types")
+    void testPipelineDataTypes() {
+        for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(10_000).values()) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            pdqSort.sort(array);
+
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Test pattern arrays are sorted")
+    void testPatternArrays() {
+        for (String pattern : new String[] {"MOUNTAIN", "VALLEY", "SAWTOOTH", "PIPE_ORGAN"}) {
+            int[] array = DataGenerationUtilities.generatePatternArray(100_000, pattern);
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            pdqSort.sort(array);
+
+            assertArrayEquals(expected, array, pattern + " should sort correctly");
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorted input takes linear comparisons")
+    void testSortedInputIsLinear() {
+        int size = 100_000;
+        int[] array = DataGenerationUtilities.generateSortedArray(size);
+
+        pdqSort.sort(array);
+
+        assertTrue(BenchmarkUtils.isSorted(array));
+        assertTrue(BenchmarkUtils.getComparisonCount() < 3L * size,
+            "Sorted input should need O(n) comparisons");
+    }
+
+    @Test
+    @DisplayName("Test insertion sort shifts are counted as swaps")
+    void testInsertionShiftsAreCounted() {
+        int[] small = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        pdqSort.sort(small);
+        assertTrue(BenchmarkUtils.isSorted(small));
+        assertEquals(45, BenchmarkUtils.getSwapCount(), "Reversed input shifts every pair once");
+
+        // Sorted except for adjacent pairs, which partial insertion sort repairs
+        int[] nearlySorted = DataGenerationUtilities.generateSortedArray(100_000);
+        for (int i = 1_000; i < nearlySorted.length; i += 10_000) {
+            BenchmarkUtils.swap(nearlySorted, i, i + 1);
+        }
+        BenchmarkUtils.resetCounters();
+        pdqSort.sort(nearlySorted);
+        assertTrue(BenchmarkUtils.isSorted(nearlySorted));
+        assertTrue(BenchmarkUtils.getSwapCount() >= 10, "Each displaced pair needs a shift");
+    }
+
+    @Test
+    @DisplayName("Test heavy duplicates and negative values")
+    void testDuplicatesAndNegatives() {
+        int[] array = DataGenerationUtilities.generateArrayWithDuplicates(50_000, 0.01);
+        for (int i = 0; i < array.length; i += 3) {
+            array[i] = -array[i];
+        }
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        pdqSort.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test null array throws exception")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            pdqSort.sort(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties")
+    void testAlgorithmProperties() {
+        assertEquals("Pattern-Defeating Quick Sort", pdqSort.getAlgorithmName());
+        assertEquals("O(n log n)", pdqSort.getTimeComplexity());
+        assertEquals("O(log n)", pdqSort.getSpaceComplexity());
+        assertFalse(pdqSort.isStable());
+        assertTrue(pdqSort.isInPlace());
+    }
+}
@@ -54,4 +54,16 @@ class PerformanceMetricsTest {
         assertTrue(csv.contains("Random"));
         assertTrue(csv.contains("1000"));
     }
+    
+    @Test
+    void testDistributionCountersInCSV() {
+        PerformanceMetrics testMetrics = new PerformanceMetrics(
+            1000000, 2048, 0, 0, 4000, 2000, "Radix Sort", 1000, "Random"
+        );
+        
+        assertEquals(4000, testMetrics.getKeyReadCount());
+        assertEquals(2000, testMetrics.getScatterWriteCount());
+        assertTrue(testMetrics.toCSV().endsWith(",4000,2000"));
+        assertTrue(PerformanceMetrics.getCSVHeader().endsWith("KeyReads,ScatterWrites"));
+    }
 }
@@ -0,0 +1,190 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.BubbleSort;
+import com.research.sorting.algorithms.HeapSort;
+import com.research.sorting.algorithms.InsertionSort;
+import com.research.sorting.algorithms.MergeSort;
+import com.research.sorting.algorithms.PrimitiveSortingAlgorithm;
+import com.research.sorting.algorithms.QuickSort;
+import com.research.sorting.algorithms.SelectionSort;
+import com.research.sorting.benchmarking.BenchmarkingFramework;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.util.Arrays;
+
+/**
+ * Unit tests for the long, double, float, short and char overloads of the classic algorithms.
+ */
+class PrimitiveSortingTest {
+
+    private static final PrimitiveSortingAlgorithm[] ALGORITHMS = {new BubbleSort(),
+        new SelectionSort(), new InsertionSort(), new QuickSort(), new MergeSort(), new HeapSort(),
+        new InsertionSort(InsertionSort.Variant.BINARY), new MergeSort(MergeSort.Variant.PING_PONG),
+        new MergeSort(MergeSort.Variant.BOTTOM_UP), new HeapSort(HeapSort.Variant.BOTTOM_UP),
+        new HeapSort(HeapSort.Variant.BOTTOM_UP_4ARY)};
+
+    @BeforeEach
+    void setUp() {
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test every algorithm on random keys of every primitive type")
+    void testRandomKeys() {
+        for (PrimitiveSortingAlgorithm algorithm : ALGORITHMS) {
+            String name = algorithm.getAlgorithmName();
+
+            long[] longs = DataGenerationUtilities.generateRandomLongArray(2_000);
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+            algorithm.sort(longs);
+            assertArrayEquals(expectedLongs, longs, name + " should sort longs");
+
+            double[] doubles = DataGenerationUtilities.generateRandomDoubleArray(2_000);
+            double[] expectedDoubles = doubles.clone();
+            Arrays.sort(expectedDoubles);
+            algorithm.sort(doubles);
+            assertArrayEquals(expectedDoubles, doubles, name + " should sort doubles");
+
+            float[] floats = DataGenerationUtilities.generateRandomFloatArray(2_000);
+            float[] expectedFloats = floats.clone();
+            Arrays.sort(expectedFloats);
+            algorithm.sort(floats);
+            assertArrayEquals(expectedFloats, floats, name + " should sort floats");
+
+            short[] shorts = DataGenerationUtilities.generateRandomShortArray(2_000);
+            short[] expectedShorts = shorts.clone();
+            Arrays.sort(expectedShorts);
+            algorithm.sort(shorts);
+            assertArrayEquals(expectedShorts, shorts, name + " should sort shorts");
+
+            char[] chars = DataGenerationUtilities.generateRandomCharArray(2_000);
+            char[] expectedChars = chars.clone();
+            Arrays.sort(expectedChars);
+            algorithm.sort(chars);
+            assertArrayEquals(expectedChars, chars, name + " should sort chars");
+        }
+    }
+
+    @Test
+    @DisplayName("Test floating-point keys follow the order of Arrays.sort")
+    void testFloatingPointOrder() {
+        for (PrimitiveSortingAlgorithm algorithm : ALGORITHMS) {
+            double[] doubles = {Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY, -1.5,
+                Double.NEGATIVE_INFINITY, 0.0, Double.NaN, -0.0, 1.5};
+            double[] expectedDoubles = doubles.clone();
+            Arrays.sort(expectedDoubles);
+            algorithm.sort(doubles);
+            assertArrayEquals(expectedDoubles, doubles, algorithm.getAlgorithmName());
+
+            float[] floats = {Float.NaN, 0.0f, -0.0f, -2.5f, Float.MAX_VALUE, -0.0f, 2.5f};
+            float[] expectedFloats = floats.clone();
+            Arrays.sort(expectedFloats);
+            algorithm.sort(floats);
+            assertArrayEquals(expectedFloats, floats, algorithm.getAlgorithmName());
+        }
+    }
+
+    @Test
+    @DisplayName("Test quick sort handles already ordered long keys")
+    void testOrderedLongKeys() {
+        int size = 200_000;
+        long[] timestamps = new long[size];
+        long[] reversed = new long[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = 1_700_000_000_000L + 1_000L * i;
+            reversed[size - 1 - i] = timestamps[i];
+        }
+        long[] expected = timestamps.clone();
+
+        new QuickSort().sort(timestamps);
+        assertArrayEquals(expected, timestamps);
+
+        new QuickSort().sort(reversed);
+        assertArrayEquals(expected, reversed);
+    }
+
+    @Test
+    @DisplayName("Test long keys cost the same operations as int keys")
+    void testOperationCountsMatchInt() {
+        int[] ints = DataGenerationUtilities.generateRandomArray(1_000, 10_000);
+        long[] longs = new long[ints.length];
+        for (int i = 0; i < ints.length; i++) {
+            longs[i] = (long) ints[i] << 32;
+        }
+
+        for (PrimitiveSortingAlgorithm algorithm : ALGORITHMS) {
+            // The wide-key quick sort kernel picks median-of-three pivots, the int[] one does not
+            if (algorithm instanceof QuickSort) continue;
+
+            BenchmarkUtils.resetCounters();
+            algorithm.sort(ints.clone());
+            long intComparisons = BenchmarkUtils.getComparisonCount();
+            long intSwaps = BenchmarkUtils.getSwapCount();
+
+            BenchmarkUtils.resetCounters();
+            algorithm.sort(longs.clone());
+
+            assertEquals(intComparisons, BenchmarkUtils.getComparisonCount(),
+                algorithm.getAlgorithmName() + " should make the same comparisons");
+            assertEquals(intSwaps, BenchmarkUtils.getSwapCount(),
+                algorithm.getAlgorithmName() + " should make the same swaps");
+        }
+    }
+
+    @Test
+    @DisplayName("Test null input is rejected")
+    void testNullInput() {
+        for (PrimitiveSortingAlgorithm algorithm : ALGORITHMS) {
+            assertThrows(IllegalArgumentException.class, () -> algorithm.sort((long[]) null));
+            assertThrows(IllegalArgumentException.class, () -> algorithm.sort((char[]) null));
+        }
+    }
+
+    @Test
+    @DisplayName("Test SIMD variants sort other key types with the scalar kernels")
+    void testSimdVariantsSortOtherKeyTypes() {
+        PrimitiveSortingAlgorithm[][] simdAndScalar = {
+            {new QuickSort(QuickSort.Variant.SIMD), new QuickSort()},
+            {new MergeSort(MergeSort.Variant.SIMD), new MergeSort()}};
+
+        for (PrimitiveSortingAlgorithm[] pair : simdAndScalar) {
+            String name = pair[0].getAlgorithmName();
+
+            double[] doubles = DataGenerationUtilities.generateRandomDoubleArray(2_000);
+            double[] expectedDoubles = doubles.clone();
+            Arrays.sort(expectedDoubles);
+            pair[0].sort(doubles);
+            assertArrayEquals(expectedDoubles, doubles, name + " should sort doubles");
+
+            short[] shorts = DataGenerationUtilities.generateRandomShortArray(2_000);
+            BenchmarkUtils.resetCounters();
+            pair[1].sort(shorts.clone());
+            long scalarComparisons = BenchmarkUtils.getComparisonCount();
+
+            BenchmarkUtils.resetCounters();
+            pair[0].sort(shorts);
+            assertTrue(BenchmarkUtils.isSorted(shorts), name + " should sort shorts");
+            assertEquals(scalarComparisons, BenchmarkUtils.getComparisonCount(),
+                name + " should run the scalar kernel");
+        }
+    }
+
+    @Test
+    @DisplayName("Test benchmarking framework measures long keys")
+    void testBenchmarkLongKeys() {
+        long[] input = DataGenerationUtilities.generateRandomLongArray(500);
+
+        PerformanceMetrics metrics = BenchmarkingFramework.benchmark(new MergeSort(), input,
+            "Merge Sort", "Random (long)", 1, 3);
+
+        assertEquals(500, metrics.getInputSize());
+        assertEquals("Random (long)", metrics.getDataType());
+        assertTrue(metrics.getComparisonCount() > 0);
+    }
+}
@@ -101,7 +101,7 @@ class QuickSortTest {
     @DisplayName("Test null array throws exception")
     void testNullArray() {
         assertThrows(IllegalArgumentException.class, () -> {
-            quickSort.sort(null);
+            quickSort.sort((int[]) null);
         });
     }
 
@@ -145,4 +145,46 @@ class QuickSortTest {
         assertTrue(BenchmarkUtils.isSorted(array));
         System.out.println("Quick Sort on nearly sorted: " + BenchmarkUtils.getStatistics());
     }
+
+    @Test
+    @DisplayName("Test SIMD variant on every small size and around the network cutoff")
+    void testSimdVariantSizes() {
+        QuickSort simd = new QuickSort(QuickSort.Variant.SIMD);
+        for (int size = 0; size <= 300; size++) {
+            int[] array = BenchmarkUtils.generateRandomArray(size, Integer.MAX_VALUE);
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            simd.sort(array);
+
+            assertArrayEquals(expected, array, "size " + size);
+        }
+    }
+
+    @Test
+    @DisplayName("Test SIMD variant with duplicates and extreme values")
+    void testSimdVariantDuplicatesAndExtremes() {
+        QuickSort simd = new QuickSort(QuickSort.Variant.SIMD);
+        int[] array = new int[10_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i % 3 == 0 ? Integer.MAX_VALUE : i % 3 == 1 ? Integer.MIN_VALUE : 7;
+        }
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        simd.sort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Test variant properties and null variant")
+    void testVariantProperties() {
+        QuickSort simd = new QuickSort(QuickSort.Variant.SIMD);
+        assertEquals(QuickSort.Variant.CLASSIC, quickSort.getVariant());
+        assertEquals("Quick Sort (SIMD)", simd.getAlgorithmName());
+        assertEquals("O(n)", simd.getSpaceComplexity());
+        assertFalse(simd.isInPlace());
+        assertThrows(IllegalArgumentException.class, () -> new QuickSort(null));
+    }
 }
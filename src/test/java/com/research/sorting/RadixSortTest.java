@@ -0,0 +1,114 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import com.research.sorting.algorithms.RadixSort;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Unit tests for RadixSort algorithm implementation.
+ */
+class RadixSortTest {
+
+    private RadixSort radixSort;
+
+    @BeforeEach
+    void setUp() {
+        radixSort = new RadixSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test sorting empty and single element arrays")
+    void testTrivialArrays() {
+        int[] empty = {};
+        int[] single = {42};
+        radixSort.sort(empty);
+        radixSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertArrayEquals(new int[] {42}, single);
+    }
+
+    @Test
+    @DisplayName("Test negative values and extremes for every digit width")
+    void testNegativeValuesAllWidths() {
+        Random random = new Random(42);
+        int[] original = new int[10_000];
+        for (int i = 0; i < original.length; i++) {
+            original[i] = random.nextInt();
+        }
+        original[0] = Integer.MIN_VALUE;
+        original[1] = Integer.MAX_VALUE;
+        original[2] = -1;
+        original[3] = 0;
+
+        int[] expected = original.clone();
+        Arrays.sort(expected);
+
+        for (int bits : new int[] {8, 11, 16}) {
+            int[] array = original.clone();
+            new RadixSort(bits).sort(array);
+            assertArrayEquals(expected, array, bits + "-bit digits should sort correctly");
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorting all pipeline data types")
+    void testPipelineDataTypes() {
+        for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            radixSort.sort(array);
+
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Test constant digits are skipped")
+    void testConstantDigitsSkipped() {
+        int size = 1_000;
+        int[] array = DataGenerationUtilities.generateRandomArray(size, 255); // Only the low byte varies
+
+        radixSort.sort(array);
+
+        assertTrue(BenchmarkUtils.isSorted(array));
+        // Histogram pass plus a single scatter pass
+        assertEquals(2L * size, BenchmarkUtils.getKeyReadCount());
+        assertEquals(size, BenchmarkUtils.getScatterWriteCount());
+        assertEquals(0, BenchmarkUtils.getComparisonCount());
+    }
+
+    @Test
+    @DisplayName("Test invalid digit width throws exception")
+    void testInvalidDigitWidth() {
+        assertThrows(IllegalArgumentException.class, () -> new RadixSort(4));
+    }
+
+    @Test
+    @DisplayName("Test null array throws exception")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            radixSort.sort(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties")
+    void testAlgorithmProperties() {
+        assertEquals("Radix Sort", radixSort.getAlgorithmName());
+        assertEquals("Radix Sort (11-bit)", new RadixSort(11).getAlgorithmName());
+        assertEquals("O(d(n + b))", radixSort.getTimeComplexity());
+        assertEquals("O(n + b)", radixSort.getSpaceComplexity());
+        assertTrue(radixSort.isStable());
+        assertFalse(radixSort.isInPlace());
+    }
+}
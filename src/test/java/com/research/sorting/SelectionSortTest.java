@@ -89,7 +89,7 @@ class SelectionSortTest {
     @DisplayName("Test null array throws exception")
     void testNullArray() {
         assertThrows(IllegalArgumentException.class, () -> {
-            selectionSort.sort(null);
+            selectionSort.sort((int[]) null);
         });
     }
     
@@ -0,0 +1,120 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.algorithms.QuickSort;
+import com.research.sorting.algorithms.Selector;
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import java.util.Arrays;
+
+/**
+ * Unit tests for Selector: select, partialSort and topK.
+ */
+class SelectorTest {
+
+    @BeforeEach
+    void setUp() {
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test select partitions around the k-th element on all pipeline data types")
+    void testSelect() {
+        for (Selector.Variant variant : Selector.Variant.values()) {
+            Selector selector = new Selector(variant);
+            for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+
+                for (int k : new int[] {0, 1, 2_499, 4_998, 4_999}) {
+                    int[] working = array.clone();
+                    int selected = selector.select(working, k);
+
+                    assertEquals(expected[k], selected, variant + " should select rank " + k);
+                    assertEquals(selected, working[k]);
+                    for (int i = 0; i < working.length; i++) {
+                        assertTrue(i < k ? working[i] <= selected : working[i] >= selected,
+                            variant + " should partition around index " + k);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test partialSort sorts the k smallest and keeps the rest")
+    void testPartialSort() {
+        int[] array = DataGenerationUtilities.generateRandomArray(20_000, 1_000);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        for (Selector.Variant variant : Selector.Variant.values()) {
+            for (int k : new int[] {0, 1, 100, 19_999, 20_000}) {
+                int[] working = array.clone();
+                new Selector(variant).partialSort(working, k);
+
+                assertArrayEquals(Arrays.copyOf(expected, k), Arrays.copyOf(working, k),
+                    variant + " should sort the " + k + " smallest");
+                Arrays.sort(working);
+                assertArrayEquals(expected, working, "Partial sort should only permute");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test topK returns the largest elements in descending order")
+    void testTopK() {
+        int[] array = DataGenerationUtilities.generateRandomArray(50_000, Integer.MAX_VALUE);
+        array[7] = Integer.MIN_VALUE;
+        array[8] = -1;
+        int[] original = array.clone();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        for (Selector.Variant variant : Selector.Variant.values()) {
+            int[] top = new Selector(variant).topK(array, 100);
+
+            assertEquals(100, top.length);
+            for (int i = 0; i < top.length; i++) {
+                assertEquals(sorted[sorted.length - 1 - i], top[i], variant + " rank " + i);
+            }
+            assertArrayEquals(original, array, "topK should not modify the input");
+        }
+        assertEquals(0, new Selector().topK(new int[] {}, 0).length);
+    }
+
+    @Test
+    @DisplayName("Test top 100 costs far fewer comparisons than a full quick sort")
+    void testFewerComparisonsThanFullSort() {
+        int[] array = DataGenerationUtilities.generateRandomArray(100_000, Integer.MAX_VALUE);
+
+        new QuickSort().sort(array.clone());
+        long fullSortComparisons = BenchmarkUtils.getComparisonCount();
+
+        for (Selector.Variant variant : Selector.Variant.values()) {
+            BenchmarkUtils.resetCounters();
+            new Selector(variant).partialSort(array.clone(), 100);
+
+            assertTrue(BenchmarkUtils.getComparisonCount() < fullSortComparisons / 4,
+                variant + " should avoid most of the full sort's comparisons");
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments are rejected")
+    void testInvalidArguments() {
+        Selector selector = new Selector();
+
+        assertThrows(IllegalArgumentException.class, () -> new Selector(null));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(new int[] {1, 2}, 2));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(new int[] {}, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> selector.partialSort(new int[] {1, 2}, 3));
+        assertThrows(IllegalArgumentException.class, () -> selector.topK(new int[] {1, 2}, -1));
+    }
+}
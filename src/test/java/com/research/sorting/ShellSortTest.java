@@ -0,0 +1,103 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import com.research.sorting.algorithms.InsertionSort;
+import com.research.sorting.algorithms.ShellSort;
+import java.util.Arrays;
+
+/**
+ * Unit tests for ShellSort algorithm implementation.
+ */
+class ShellSortTest {
+
+    private ShellSort shellSort;
+
+    @BeforeEach
+    void setUp() {
+        shellSort = new ShellSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test sorting empty and single element arrays")
+    void testTrivialArrays() {
+        int[] empty = {};
+        int[] single = {42};
+        shellSort.sort(empty);
+        shellSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertArrayEquals(new int[] {42}, single);
+    }
+
+    @Test
+    @DisplayName("Test every gap sequence on all pipeline data types")
+    void testAllGapSequences() {
+        for (ShellSort.GapSequence gaps : ShellSort.GapSequence.values()) {
+            ShellSort sorter = new ShellSort(gaps);
+            for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+
+                sorter.sort(array);
+
+                assertArrayEquals(expected, array, gaps + " should sort correctly");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test gap sequences match their published prefixes")
+    void testGapSequences() {
+        assertArrayEquals(new int[] {701, 301, 132, 57, 23, 10, 4, 1},
+            ShellSort.GapSequence.CIURA.gaps(1_000));
+        assertArrayEquals(new int[] {525, 233, 103, 46, 20, 9, 4, 1},
+            ShellSort.GapSequence.TOKUDA.gaps(1_000));
+        assertArrayEquals(new int[] {281, 77, 23, 8, 1},
+            ShellSort.GapSequence.SEDGEWICK.gaps(1_000));
+        assertArrayEquals(new int[] {121, 40, 13, 4, 1},
+            ShellSort.GapSequence.KNUTH.gaps(1_000));
+        assertArrayEquals(new int[] {1}, ShellSort.GapSequence.CIURA.gaps(2));
+    }
+
+    @Test
+    @DisplayName("Test far fewer comparisons than insertion sort on 10K random elements")
+    void testComparisonsAgainstInsertionSort() {
+        int[] array = DataGenerationUtilities.generateRandomArray(10_000, 100_000);
+        int[] copy = array.clone();
+
+        new InsertionSort().sort(copy);
+        long insertionComparisons = BenchmarkUtils.getComparisonCount();
+
+        BenchmarkUtils.resetCounters();
+        shellSort.sort(array);
+
+        assertArrayEquals(copy, array);
+        assertTrue(BenchmarkUtils.getComparisonCount() * 50 < insertionComparisons);
+    }
+
+    @Test
+    @DisplayName("Test null array and null gap sequence throw exception")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> shellSort.sort(null));
+        assertThrows(IllegalArgumentException.class, () -> new ShellSort(null));
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties")
+    void testAlgorithmProperties() {
+        assertEquals("Shell Sort (Ciura)", shellSort.getAlgorithmName());
+        assertEquals(ShellSort.GapSequence.CIURA, shellSort.getGapSequence());
+        assertEquals("Shell Sort (Knuth)",
+            new ShellSort(ShellSort.GapSequence.KNUTH).getAlgorithmName());
+        assertEquals("O(1)", shellSort.getSpaceComplexity());
+        assertFalse(shellSort.isStable());
+        assertTrue(shellSort.isInPlace());
+    }
+}
@@ -0,0 +1,30 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.SortKernelsGenerator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Checks the five primitive kernel classes against the template they are generated from.
+ */
+class SortKernelsTemplateTest {
+
+    @Test
+    @DisplayName("Test every primitive kernel class matches the template")
+    void testKernelsMatchTemplate() throws IOException {
+        Map<Path, String> rendered = SortKernelsGenerator.renderAll();
+        assertEquals(5, rendered.size());
+
+        for (Map.Entry<Path, String> kernels : rendered.entrySet()) {
+            assertFalse(kernels.getValue().contains("$"), kernels.getKey() + " has a placeholder");
+            assertEquals(kernels.getValue(), Files.readString(kernels.getKey()),
+                kernels.getKey() + " differs from the template; run SortKernelsGenerator");
+        }
+    }
+}
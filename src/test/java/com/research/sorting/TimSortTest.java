@@ -0,0 +1,118 @@
+package com.research.sorting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.research.sorting.utils.BenchmarkUtils;
+import com.research.sorting.utils.DataGenerationUtilities;
+import com.research.sorting.algorithms.MergeSort;
+import com.research.sorting.algorithms.TimSort;
+import java.util.Arrays;
+
+/**
+ * Unit tests for TimSort algorithm implementation.
+ */
+class TimSortTest {
+
+    private TimSort timSort;
+
+    @BeforeEach
+    void setUp() {
+        timSort = new TimSort();
+        BenchmarkUtils.resetCounters();
+    }
+
+    @Test
+    @DisplayName("Test sorting empty and single element arrays")
+    void testTrivialArrays() {
+        int[] empty = {};
+        int[] single = {42};
+        timSort.sort(empty);
+        timSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertArrayEquals(new int[] {42}, single);
+    }
+
+    @Test
+    @DisplayName("Test sorting all pipeline data types")
+    void testPipelineDataTypes() {
+        for (int[] array : DataGenerationUtilities.generateComprehensiveTestSuite(5_000).values()) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            timSort.sort(array);
+
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorted and reverse sorted input are a single run")
+    void testSingleRunInputs() {
+        int size = 100_000;
+
+        timSort.sort(DataGenerationUtilities.generateSortedArray(size));
+        assertEquals(size - 1, BenchmarkUtils.getComparisonCount());
+
+        BenchmarkUtils.resetCounters();
+        int[] reversed = DataGenerationUtilities.generateReverseSortedArray(size);
+        timSort.sort(reversed);
+
+        assertTrue(BenchmarkUtils.isSorted(reversed));
+        assertEquals(size - 1, BenchmarkUtils.getComparisonCount());
+    }
+
+    @Test
+    @DisplayName("Test nearly sorted input needs fewer comparisons than merge sort")
+    void testNearlySortedAdaptivity() {
+        int[] array = DataGenerationUtilities.generateNearlySortedArray(100_000);
+        int[] copy = array.clone();
+
+        new MergeSort().sort(copy);
+        long mergeSortComparisons = BenchmarkUtils.getComparisonCount();
+
+        BenchmarkUtils.resetCounters();
+        timSort.sort(array);
+
+        assertArrayEquals(copy, array);
+        assertTrue(BenchmarkUtils.getComparisonCount() < mergeSortComparisons * 3 / 5);
+    }
+
+    @Test
+    @DisplayName("Test pattern arrays made of a few long runs")
+    void testPatternArrays() {
+        for (String pattern : new String[] {"MOUNTAIN", "VALLEY", "SAWTOOTH", "PIPE_ORGAN"}) {
+            int[] array = DataGenerationUtilities.generatePatternArray(100_000, pattern);
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            BenchmarkUtils.resetCounters();
+            timSort.sort(array);
+
+            assertArrayEquals(expected, array, pattern + " should sort correctly");
+            // At most ten runs, so far below n log2 n
+            assertTrue(BenchmarkUtils.getComparisonCount() < 5L * array.length, pattern);
+        }
+    }
+
+    @Test
+    @DisplayName("Test null array throws exception")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            timSort.sort(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Test algorithm properties")
+    void testAlgorithmProperties() {
+        assertEquals("Tim Sort", timSort.getAlgorithmName());
+        assertEquals("O(n log n)", timSort.getTimeComplexity());
+        assertEquals("O(n)", timSort.getSpaceComplexity());
+        assertTrue(timSort.isStable());
+        assertFalse(timSort.isInPlace());
+    }
+}